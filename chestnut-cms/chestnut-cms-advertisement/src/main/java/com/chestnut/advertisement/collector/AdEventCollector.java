@@ -0,0 +1,186 @@
+package com.chestnut.advertisement.collector;
+
+import com.chestnut.advertisement.config.properties.AdStatProperties;
+import com.chestnut.advertisement.domain.CmsAdClickLog;
+import com.chestnut.advertisement.domain.CmsAdViewLog;
+import com.chestnut.advertisement.mapper.CmsAdClickLogMapper;
+import com.chestnut.advertisement.mapper.CmsAdViewLogMapper;
+import com.chestnut.advertisement.service.impl.AdvertisementStatServiceImpl;
+import com.chestnut.common.redis.RedisCache;
+import com.chestnut.stat.RequestEvent;
+import com.chestnut.stat.buffer.EventBuffer;
+import com.chestnut.stat.buffer.EventBufferManager;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 广告点击/展现事件收集
+ * <p>
+ * 小时点击/展现数在内存中按聚合窗口累计，窗口结束时通过管道合并执行ZINCRBY写入Redis；
+ * 统计任务在小时结束一小时后才删除该小时缓存，早于上一小时的计数已无法同步到数据库，写入时丢弃。
+ * 点击/展现日志放入缓冲队列，由消费线程批量解析IP及UserAgent后多行插入数据库。
+ * </p>
+ *
+ * @author 兮玥
+ * @email 190785909@qq.com
+ */
+@Slf4j
+@Component
+public class AdEventCollector {
+
+	/**
+	 * 关闭时等待处理剩余日志的最长时间
+	 */
+	private static final long SHUTDOWN_TIMEOUT_MILLIS = 10000;
+
+	private final RedisCache redisCache;
+
+	private final CmsAdClickLogMapper clickLogMapper;
+
+	private final CmsAdViewLogMapper viewLogMapper;
+
+	private final AdStatProperties properties;
+
+	/**
+	 * 聚合窗口内的计数
+	 */
+	private final ConcurrentHashMap<CounterKey, Long> counters = new ConcurrentHashMap<>();
+
+	private final ScheduledExecutorService scheduler;
+
+	/**
+	 * 已关闭小时的丢弃计数
+	 */
+	private final LongAdder droppedCounts = new LongAdder();
+
+	private final EventBuffer<CmsAdClickLog> clickBuffer;
+
+	private final EventBuffer<CmsAdViewLog> viewBuffer;
+
+	public AdEventCollector(RedisCache redisCache, CmsAdClickLogMapper clickLogMapper,
+							CmsAdViewLogMapper viewLogMapper, AdStatProperties properties,
+							EventBufferManager eventBufferManager) {
+		this.redisCache = redisCache;
+		this.clickLogMapper = clickLogMapper;
+		this.viewLogMapper = viewLogMapper;
+		this.properties = properties;
+		this.clickBuffer = eventBufferManager.create("cms_ad_click_log", properties.getClickBuffer(),
+				logs -> this.saveLogs(logs, this.clickLogMapper::insertBatch));
+		this.viewBuffer = eventBufferManager.create("cms_ad_view_log", properties.getViewBuffer(),
+				logs -> this.saveLogs(logs, this.viewLogMapper::insertBatch));
+		long window = Math.max(1, properties.getAggregateWindow().toMillis());
+		this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+			Thread thread = new Thread(r, "cms-adv-stat-aggregator");
+			thread.setDaemon(true);
+			return thread;
+		});
+		this.scheduler.scheduleWithFixedDelay(this::flushCounters, window, window, TimeUnit.MILLISECONDS);
+	}
+
+	public void click(CmsAdClickLog clickLog) {
+		this.count(AdvertisementStatServiceImpl.CLIC_CACHE_PREFIX, clickLog.getAdId(), clickLog);
+		if (this.properties.isSaveLog()) {
+			this.clickBuffer.offer(clickLog);
+		}
+	}
+
+	public void view(CmsAdViewLog viewLog) {
+		this.count(AdvertisementStatServiceImpl.VIEW_CACHE_PREFIX, viewLog.getAdId(), viewLog);
+		if (this.properties.isSaveLog()) {
+			this.viewBuffer.offer(viewLog);
+		}
+	}
+
+	private void count(String cachePrefix, Long advertisementId, RequestEvent event) {
+		String hour = event.getEvtTime().format(AdvertisementStatServiceImpl.DATE_TIME_FORMAT);
+		CounterKey key = new CounterKey(cachePrefix, hour, advertisementId.toString());
+		this.counters.merge(key, 1L, Long::sum);
+	}
+
+	/**
+	 * 将聚合窗口内的计数合并写入Redis，写入失败时放回等待下次写入
+	 * <p>
+	 * 早于上一小时的计数丢弃，避免在统计任务删除小时缓存后重新创建无人清理的缓存。
+	 * </p>
+	 */
+	void flushCounters() {
+		String closedBefore = LocalDateTime.now().minusHours(1).format(AdvertisementStatServiceImpl.DATE_TIME_FORMAT);
+		Map<CounterKey, Long> increments = new HashMap<>();
+		for (CounterKey key : this.counters.keySet()) {
+			Long count = this.counters.remove(key);
+			if (Objects.isNull(count)) {
+				continue;
+			}
+			if (key.hour().compareTo(closedBefore) < 0) {
+				this.droppedCounts.add(count);
+				log.warn("Drop advertisement stat counts of closed hour: {}{}, adId: {}, count: {}",
+						key.cachePrefix(), key.hour(), key.advertisementId(), count);
+				continue;
+			}
+			increments.put(key, count);
+		}
+		if (increments.isEmpty()) {
+			return;
+		}
+		Map<String, Map<String, Long>> zsetIncrements = new HashMap<>();
+		increments.forEach((key, count) -> zsetIncrements.computeIfAbsent(key.cacheKey(), k -> new HashMap<>())
+				.put(key.advertisementId(), count));
+		try {
+			this.redisCache.zsetIncrMulti(zsetIncrements);
+		} catch (Exception e) {
+			log.error("Flush advertisement stat counters failed.", e);
+			increments.forEach((key, count) -> this.counters.merge(key, count, Long::sum));
+		}
+	}
+
+	/**
+	 * 已关闭小时的丢弃计数
+	 */
+	public long getDroppedCounts() {
+		return this.droppedCounts.sum();
+	}
+
+	private <T extends RequestEvent> void saveLogs(List<T> logs, Consumer<List<T>> inserter) {
+		for (T event : logs) {
+			try {
+				event.enrich();
+			} catch (Exception e) {
+				log.warn("Parse advertisement log ip/user-agent failed: {}", e.getMessage());
+			}
+		}
+		inserter.accept(logs);
+	}
+
+	@PreDestroy
+	public void destroy() {
+		this.scheduler.shutdown();
+		this.clickBuffer.shutdown(SHUTDOWN_TIMEOUT_MILLIS);
+		this.viewBuffer.shutdown(SHUTDOWN_TIMEOUT_MILLIS);
+		this.flushCounters();
+	}
+
+	/**
+	 * @param cachePrefix     计数缓存键前缀
+	 * @param hour            小时，格式：yyyyMMddHH
+	 * @param advertisementId 广告ID
+	 */
+	private record CounterKey(String cachePrefix, String hour, String advertisementId) {
+
+		String cacheKey() {
+			return this.cachePrefix + this.hour;
+		}
+	}
+}
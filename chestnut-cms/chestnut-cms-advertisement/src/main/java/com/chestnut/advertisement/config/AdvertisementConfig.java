@@ -0,0 +1,17 @@
+package com.chestnut.advertisement.config;
+
+import com.chestnut.advertisement.config.properties.AdStatProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 广告模块配置
+ *
+ * @author 兮玥
+ * @email 190785909@qq.com
+ */
+@Configuration
+@EnableConfigurationProperties(AdStatProperties.class)
+public class AdvertisementConfig {
+
+}
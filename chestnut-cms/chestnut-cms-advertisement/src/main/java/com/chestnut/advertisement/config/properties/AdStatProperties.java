@@ -0,0 +1,40 @@
+package com.chestnut.advertisement.config.properties;
+
+import com.chestnut.stat.buffer.EventBufferOptions;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 广告统计配置
+ *
+ * @author 兮玥
+ * @email 190785909@qq.com
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "chestnut.cms.advertisement.stat")
+public class AdStatProperties {
+
+	/**
+	 * 点击/展现数内存预聚合窗口，窗口结束时合并写入Redis
+	 */
+	private Duration aggregateWindow = Duration.ofSeconds(1);
+
+	/**
+	 * 是否保存点击/展现日志到数据库
+	 */
+	private boolean saveLog = true;
+
+	/**
+	 * 点击日志缓冲队列配置
+	 */
+	private final EventBufferOptions clickBuffer = new EventBufferOptions();
+
+	/**
+	 * 展现日志缓冲队列配置
+	 */
+	private final EventBufferOptions viewBuffer = new EventBufferOptions();
+}
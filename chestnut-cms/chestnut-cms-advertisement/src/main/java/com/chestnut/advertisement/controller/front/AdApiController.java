@@ -48,7 +48,7 @@ public class AdApiController extends BaseRestController {
 	public void adClick(@RequestParam("sid") Long siteId, @RequestParam("aid") Long advertisementId) {
 		try {
 			CmsAdClickLog log = new CmsAdClickLog();
-			log.fill(ServletUtils.getRequest());
+			log.capture(ServletUtils.getRequest());
 			log.setSiteId(siteId);
 			log.setAdId(advertisementId);
 			log.setEvtTime(LocalDateTime.now());
@@ -62,7 +62,7 @@ public class AdApiController extends BaseRestController {
 	public void adView(@RequestParam("sid") Long siteId, @RequestParam("aid") Long advertisementId) {
 		try {
 			CmsAdViewLog log = new CmsAdViewLog();
-			log.fill(ServletUtils.getRequest());
+			log.capture(ServletUtils.getRequest());
 			log.setSiteId(siteId);
 			log.setAdId(advertisementId);
 			log.setEvtTime(LocalDateTime.now());
@@ -52,12 +52,16 @@ public class AdvertisementStatJob extends IJobHandler implements IScheduledHandl
 		logger.info("Job start: {}", JOB_NAME);
 		long s = System.currentTimeMillis();
 		try {
+			LocalDateTime now = LocalDateTime.now();
 			// 数据更新
-			String hour = LocalDateTime.now().format(AdvertisementStatServiceImpl.DATE_TIME_FORMAT);
+			String hour = now.format(AdvertisementStatServiceImpl.DATE_TIME_FORMAT);
 			this.saveToDb(hour, false);
-			// 尝试更新上一个小时数据并删除cache
-			String yestoday = LocalDateTime.now().minusHours(1).format(AdvertisementStatServiceImpl.DATE_TIME_FORMAT);
-			this.saveToDb(yestoday, true);
+			// 更新上一个小时数据，延迟写入的计数仍会写入该小时缓存，暂不删除
+			String lastHour = now.minusHours(1).format(AdvertisementStatServiceImpl.DATE_TIME_FORMAT);
+			this.saveToDb(lastHour, false);
+			// 小时结束超过一小时后不再接收计数，最后同步一次并删除cache
+			String closedHour = now.minusHours(2).format(AdvertisementStatServiceImpl.DATE_TIME_FORMAT);
+			this.saveToDb(closedHour, true);
 		} catch (Exception e) {
 			e.printStackTrace();
 			throw e;
@@ -76,23 +80,29 @@ public class AdvertisementStatJob extends IJobHandler implements IScheduledHandl
 				.select(List.of(CmsAdvertisement::getAdvertisementId, CmsAdvertisement::getSiteId)).list().stream()
 				.collect(Collectors.toMap(CmsAdvertisement::getAdvertisementId, CmsAdvertisement::getSiteId));
 
+		// 通过管道一次读取点击数及展现数
+		List<Map<String, Double>> scores = this.redisCache.getMultiZsetWithScores(List.of(clickCacheKey, viewCacheKey));
+		Map<String, Double> clicks = scores.get(0);
+		Map<String, Double> views = scores.get(1);
+
 		List<Long> insertAdvIds = new ArrayList<>();
-		for (Long advertisementId : advertisements.keySet()) {
-			int click = this.redisCache.getZsetScore(clickCacheKey, advertisementId.toString()).intValue();
-			int view = this.redisCache.getZsetScore(viewCacheKey, advertisementId.toString()).intValue();
+		for (Map.Entry<Long, Long> e : advertisements.entrySet()) {
+			Long advertisementId = e.getKey();
+			int click = clicks.getOrDefault(advertisementId.toString(), 0d).intValue();
+			int view = views.getOrDefault(advertisementId.toString(), 0d).intValue();
 			if (click > 0 || view > 0) {
 				CmsAdHourStat stat = stats.get(advertisementId);
 				if (Objects.isNull(stat)) {
 					stat = new CmsAdHourStat();
-					stat.setSiteId(advertisements.get(advertisementId));
+					stat.setSiteId(e.getValue());
 					stat.setHour(hour);
 					stat.setAdvertisementId(advertisementId);
 
 					stats.put(advertisementId, stat);
 					insertAdvIds.add(advertisementId);
 				}
-				stat.setClick(Math.max(click, 0));
-				stat.setView(Math.max(view, 0));
+				stat.setClick(click);
+				stat.setView(view);
 			}
 		}
 		// 更新数据库
@@ -104,8 +114,7 @@ public class AdvertisementStatJob extends IJobHandler implements IScheduledHandl
 		this.adStatService.updateBatchById(updates);
 		// 清理过期缓存
 		if (deleteCache) {
-			this.redisCache.deleteObject(clickCacheKey);
-			this.redisCache.deleteObject(viewCacheKey);
+			this.redisCache.deleteObject(List.of(clickCacheKey, viewCacheKey));
 		}
 	}
 
@@ -1,9 +1,29 @@
 package com.chestnut.advertisement.mapper;
 
+import java.util.List;
+
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Param;
+
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
 import com.chestnut.advertisement.domain.CmsAdClickLog;
 
 public interface CmsAdClickLogMapper extends BaseMapper<CmsAdClickLog> {
 
+	/**
+	 * 多行插入点击日志
+	 *
+	 * @param list 点击日志
+	 * @return
+	 */
+	@Insert("""
+			<script>
+			INSERT INTO cms_ad_click_log (site_id, ad_id, host, ip, address, referer, browser, user_agent, os, device_type, locale, evt_time) VALUES
+			<foreach item="item" collection="list" separator=",">
+			(#{item.siteId}, #{item.adId}, #{item.host}, #{item.ip}, #{item.address}, #{item.referer}, #{item.browser},
+			#{item.userAgent}, #{item.os}, #{item.deviceType}, #{item.locale}, #{item.evtTime})
+			</foreach>
+			</script>
+			""")
+	int insertBatch(@Param("list") List<CmsAdClickLog> list);
 }
-
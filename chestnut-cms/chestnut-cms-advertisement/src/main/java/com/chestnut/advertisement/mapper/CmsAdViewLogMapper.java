@@ -1,9 +1,29 @@
 package com.chestnut.advertisement.mapper;
 
+import java.util.List;
+
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Param;
+
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
 import com.chestnut.advertisement.domain.CmsAdViewLog;
 
 public interface CmsAdViewLogMapper extends BaseMapper<CmsAdViewLog> {
 
+	/**
+	 * 多行插入展现日志
+	 *
+	 * @param list 展现日志
+	 * @return
+	 */
+	@Insert("""
+			<script>
+			INSERT INTO cms_ad_view_log (site_id, ad_id, host, ip, address, referer, browser, user_agent, os, device_type, locale, evt_time) VALUES
+			<foreach item="item" collection="list" separator=",">
+			(#{item.siteId}, #{item.adId}, #{item.host}, #{item.ip}, #{item.address}, #{item.referer}, #{item.browser},
+			#{item.userAgent}, #{item.os}, #{item.deviceType}, #{item.locale}, #{item.evtTime})
+			</foreach>
+			</script>
+			""")
+	int insertBatch(@Param("list") List<CmsAdViewLog> list);
 }
-
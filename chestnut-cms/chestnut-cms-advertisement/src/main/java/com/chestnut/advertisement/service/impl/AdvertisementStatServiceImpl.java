@@ -1,13 +1,10 @@
 package com.chestnut.advertisement.service.impl;
 
+import com.chestnut.advertisement.collector.AdEventCollector;
 import com.chestnut.advertisement.domain.CmsAdClickLog;
 import com.chestnut.advertisement.domain.CmsAdViewLog;
-import com.chestnut.advertisement.mapper.CmsAdClickLogMapper;
-import com.chestnut.advertisement.mapper.CmsAdViewLogMapper;
 import com.chestnut.advertisement.service.IAdvertisementService;
 import com.chestnut.advertisement.service.IAdvertisementStatService;
-import com.chestnut.common.async.AsyncTaskManager;
-import com.chestnut.common.redis.RedisCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -27,15 +24,9 @@ public class AdvertisementStatServiceImpl implements IAdvertisementStatService {
 
 	public static final String VIEW_CACHE_PREFIX = "adv:stat-view:";
 
-	private final CmsAdClickLogMapper clickLogMapper;
-
-	private final CmsAdViewLogMapper viewLogMapper;
-
-	private final RedisCache redisCache;
-
 	private final IAdvertisementService advService;
 
-	private final AsyncTaskManager asyncTaskManager;
+	private final AdEventCollector adEventCollector;
 
 	@Override
 	public void adClick(CmsAdClickLog clickLog) {
@@ -45,13 +36,8 @@ public class AdvertisementStatServiceImpl implements IAdvertisementStatService {
 			log.warn("Cms adv click log err, invalid id: " + clickLog.getAdId());
 			return;
 		}
-		this.asyncTaskManager.execute(() -> {
-			// redis 广告小时点击数+1
-			String cacheKey = CLIC_CACHE_PREFIX + clickLog.getEvtTime().format(DATE_TIME_FORMAT);
-			redisCache.zsetIncr(cacheKey, clickLog.getAdId().toString(), 1);
-			// 记录点击日志
-			this.clickLogMapper.insert(clickLog);
-		});
+		// 广告小时点击数+1并记录点击日志
+		this.adEventCollector.click(clickLog);
 	}
 
 	@Override
@@ -62,12 +48,7 @@ public class AdvertisementStatServiceImpl implements IAdvertisementStatService {
 			log.warn("Cms adv view log err, invalid id: " + viewLog.getAdId());
 			return;
 		}
-		this.asyncTaskManager.execute(() -> {
-			// redis 广告日展现数+1
-			String cacheKey = VIEW_CACHE_PREFIX + viewLog.getEvtTime().format(DATE_TIME_FORMAT);
-			redisCache.zsetIncr(cacheKey, viewLog.getAdId().toString(), 1);
-			// 记录展现日志
-			this.viewLogMapper.insert(viewLog);
-		});
+		// 广告小时展现数+1并记录展现日志
+		this.adEventCollector.view(viewLog);
 	}
 }
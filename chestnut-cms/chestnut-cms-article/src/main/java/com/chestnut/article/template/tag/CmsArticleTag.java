@@ -12,6 +12,7 @@ import com.chestnut.common.utils.StringUtils;
 import com.chestnut.contentcore.domain.CmsContent;
 import com.chestnut.contentcore.enums.ContentCopyType;
 import com.chestnut.contentcore.mapper.CmsContentMapper;
+import com.chestnut.contentcore.publish.PublishDependencyIndex;
 import freemarker.core.Environment;
 import freemarker.template.TemplateException;
 import freemarker.template.TemplateModel;
@@ -65,18 +66,20 @@ public class CmsArticleTag extends AbstractTag {
 			throw new TemplateException("Invalid contentId: " + contentId, env);
 		}
 		CmsContent content = this.contentMapper.selectById(contentId);
+		TemplateContext context = FreeMarkerUtils.getTemplateContext(env);
+		context.addDependency(PublishDependencyIndex.content(contentId));
 		if (content.isLinkContent()) {
 			return Map.of(TemplateVariable_ArticleContent, this.wrap(env, StringUtils.EMPTY));
 		}
 		if (ContentCopyType.isMapping(content.getCopyType())) {
 			contentId = content.getCopyId();
+			context.addDependency(PublishDependencyIndex.content(contentId));
 		}
 		CmsArticleDetail articleDetail = this.articleMapper.selectById(contentId);
 		if (Objects.isNull(articleDetail)) {
 			throw new TemplateException("Article details not found: " + contentId, env);
 		}
 		contentHtml = articleDetail.getContentHtml();
-		TemplateContext context = FreeMarkerUtils.getTemplateContext(env);
 		boolean page = MapUtils.getBooleanValue(attrs, TagAttr_Page, false);
 		if (page) {
 			if (context.isPaged()) {
@@ -12,6 +12,7 @@ import com.chestnut.common.staticize.enums.TagAttrDataType;
 import com.chestnut.common.staticize.tag.AbstractListTag;
 import com.chestnut.common.staticize.tag.TagAttr;
 import com.chestnut.contentcore.domain.CmsContent;
+import com.chestnut.contentcore.publish.PublishDependencyIndex;
 import com.chestnut.contentcore.service.IContentService;
 import freemarker.core.Environment;
 import freemarker.template.TemplateException;
@@ -64,6 +65,7 @@ public class CmsCommentTag extends AbstractListTag {
 		pageResult.getRecords().forEach(comment -> {
 			CmsContent content = contents.get(comment.getSourceId());
 			if (content != null) {
+				context.addDependency(PublishDependencyIndex.content(content.getContentId()));
 				comment.setSourceTitle(content.getTitle());
 				String contentLink = this.contentService.getContentLink(content, 1,
 						context.getPublishPipeCode(), context.isPreview());
@@ -3,19 +3,28 @@ package com.chestnut.contentcore.config;
 import java.io.File;
 import java.io.IOException;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
 
+import org.springframework.beans.BeanUtils;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import com.chestnut.common.redis.NearCache;
+import com.chestnut.common.redis.NearCacheManager;
 import com.chestnut.common.redis.RedisCache;
 import com.chestnut.common.utils.SpringUtils;
 import com.chestnut.common.utils.StringUtils;
 import com.chestnut.common.utils.file.FileExUtils;
 import com.chestnut.contentcore.ContentCoreConsts;
 import com.chestnut.contentcore.config.properties.CMSProperties;
+import com.chestnut.contentcore.domain.CmsCatalog;
+import com.chestnut.contentcore.domain.CmsSite;
+import com.chestnut.contentcore.template.DynamicPageSkeleton;
 import com.chestnut.system.fixed.config.BackendContext;
 
 import freemarker.cache.FileTemplateLoader;
@@ -69,6 +78,67 @@ public class CMSConfig implements WebMvcConfigurer {
 		return new FileTemplateLoader(new File(RESOURCE_ROOT));
 	}
 
+	/**
+	 * 站点一级缓存，返回复制对象
+	 */
+	@Bean
+	public NearCache<CmsSite> siteNearCache(NearCacheManager nearCacheManager) {
+		return nearCacheManager.create("cms_site", "{MONITORED.CACHE.CMS_SITE}", CachePrefix + "site:",
+				site -> {
+					CmsSite copy = new CmsSite();
+					BeanUtils.copyProperties(site, copy);
+					copy.setConfigProps(copyMap(site.getConfigProps()));
+					copy.setPublishPipeProps(copyPublishPipeProps(site.getPublishPipeProps()));
+					return copy;
+				});
+	}
+
+	/**
+	 * 栏目一级缓存，key为栏目ID，返回复制对象
+	 */
+	@Bean
+	public NearCache<CmsCatalog> catalogNearCache(NearCacheManager nearCacheManager) {
+		return nearCacheManager.create("cms_catalog", "{MONITORED.CACHE.CMS_CATALOG}", CachePrefix + "catalog:id:",
+				catalog -> {
+					CmsCatalog copy = new CmsCatalog();
+					BeanUtils.copyProperties(catalog, copy);
+					copy.setConfigProps(copyMap(catalog.getConfigProps()));
+					copy.setPublishPipeProps(copyPublishPipeProps(catalog.getPublishPipeProps()));
+					return copy;
+				});
+	}
+
+	/**
+	 * 栏目别名一级缓存，key为站点ID:栏目别名，value为栏目ID
+	 */
+	@Bean
+	public NearCache<Long> catalogAliasNearCache(NearCacheManager nearCacheManager) {
+		return nearCacheManager.create("cms_catalog_alias", "{MONITORED.CACHE.CMS_CATALOG_ALIAS}",
+				CachePrefix + "catalog:alias:", null);
+	}
+
+	/**
+	 * 动态页面公共部分一级缓存
+	 */
+	@Bean
+	public NearCache<DynamicPageSkeleton> dynamicPageNearCache(NearCacheManager nearCacheManager) {
+		return nearCacheManager.create("cms_dynamic_page", "{MONITORED.CACHE.CMS_DYNAMIC_PAGE}",
+				CachePrefix + "dynamic_page:", null);
+	}
+
+	private static <K, V> Map<K, V> copyMap(Map<K, V> map) {
+		return Objects.isNull(map) ? null : new HashMap<>(map);
+	}
+
+	private static Map<String, Map<String, Object>> copyPublishPipeProps(Map<String, Map<String, Object>> props) {
+		if (Objects.isNull(props)) {
+			return null;
+		}
+		Map<String, Map<String, Object>> copy = new HashMap<>(props.size());
+		props.forEach((k, v) -> copy.put(k, copyMap(v)));
+		return copy;
+	}
+
 	public String getCachePrefix() {
 		return CACHE_PREFIX;
 	}
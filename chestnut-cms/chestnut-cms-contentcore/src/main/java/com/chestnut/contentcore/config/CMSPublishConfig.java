@@ -2,6 +2,7 @@ package com.chestnut.contentcore.config;
 
 import com.chestnut.contentcore.config.properties.CMSPublishProperties;
 import com.chestnut.contentcore.publish.IPublishTask;
+import com.chestnut.contentcore.publish.PublishTaskCoalescer;
 import com.chestnut.contentcore.publish.PublishTaskReceiver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -37,6 +38,8 @@ public class CMSPublishConfig {
 
     private final Map<String, IPublishTask> publishTaskMap;
 
+    private final PublishTaskCoalescer publishTaskCoalescer;
+
     public static final String PublishStreamName = "ChestnutCMSPublishStream";
 
     public static final String PublishConsumerGroup = "ChestnutCMSPublishConsumerGroup";
@@ -66,7 +69,7 @@ public class CMSPublishConfig {
         // 添加消费者
         for (int i = 0; i < properties.getConsumerCount(); i++) {
             Consumer consumer = Consumer.from(PublishConsumerGroup, "cms-publish-consumer-" + i);
-            PublishTaskReceiver publishTaskReceiver = new PublishTaskReceiver(publishTaskMap, redisTemplate);
+            PublishTaskReceiver publishTaskReceiver = new PublishTaskReceiver(publishTaskMap, redisTemplate, publishTaskCoalescer);
             publishTaskReceiver.setConsumer(consumer);
             container.receive(consumer, StreamOffset.create(PublishStreamName, ReadOffset.lastConsumed()), publishTaskReceiver);
         }
@@ -5,6 +5,11 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * CMS配置属性
  *
@@ -30,4 +35,84 @@ public class CMSProperties {
 	 * 系统启动时是否清空cacheName前缀的所有缓存
 	 */
 	private Boolean resetCache = true;
+
+	/**
+	 * 动态区块（/cms/ssi/virtual）及动态浏览（/cms/view）响应缓存配置
+	 */
+	private final ResponseCache responseCache = new ResponseCache();
+
+	/**
+	 * 内容动态数据（浏览、点赞、收藏、评论数）入库配置
+	 */
+	private final DynamicData dynamicData = new DynamicData();
+
+	@Getter
+	@Setter
+	public static class ResponseCache {
+
+		/**
+		 * 是否开启响应缓存
+		 */
+		private boolean enable = true;
+
+		/**
+		 * 默认缓存时长
+		 */
+		private Duration ttl = Duration.ofMinutes(5);
+
+		/**
+		 * 指定模板缓存时长，为0时不缓存。
+		 * key为动态区块模板路径（相对模板目录），动态浏览使用view/{内部数据类型}，例如：[block/hot.template.html]: 1m
+		 */
+		private Map<String, Duration> templateTtl = new HashMap<>();
+
+		/**
+		 * 可缓存的最大响应内容长度（字符数），超出不缓存
+		 */
+		private int maxContentLength = 512 * 1024;
+
+		/**
+		 * 指定模板参与缓存键的请求参数，请求包含其他参数时不缓存。
+		 * 站点、发布通道、模板、页码等内置参数无需配置，例如：[block/hot.template.html]: [type, size]
+		 */
+		private Map<String, List<String>> templateParams = new HashMap<>();
+
+		/**
+		 * 内容、栏目变更时合并更新缓存版本的时间间隔，间隔内多次变更只更新一次版本
+		 */
+		private Duration versionInterval = Duration.ofSeconds(5);
+
+		public Duration getTtl(String template) {
+			return this.templateTtl.getOrDefault(template, this.ttl);
+		}
+
+		public List<String> getParams(String template) {
+			return this.templateParams.getOrDefault(template, List.of());
+		}
+	}
+
+	@Getter
+	@Setter
+	public static class DynamicData {
+
+		/**
+		 * 每批更新的内容数量
+		 */
+		private int flushBatchSize = 500;
+
+		/**
+		 * 批量更新失败重试次数，重试后仍失败的内容保留待下次更新
+		 */
+		private int flushRetries = 3;
+
+		/**
+		 * 重试间隔
+		 */
+		private Duration flushRetryInterval = Duration.ofSeconds(1);
+
+		/**
+		 * 内容动态数据缓存有效期，计数时刷新，过期后从数据库重新加载
+		 */
+		private Duration cacheExpire = Duration.ofDays(1);
+	}
 }
@@ -5,6 +5,8 @@ import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+
 /**
  * CMS发布配置
  *
@@ -29,4 +31,89 @@ public class CMSPublishProperties {
 	private final AsyncProperties.Pool pool = new AsyncProperties.Pool();
 
 	private final AsyncProperties.Shutdown shutdown = new AsyncProperties.Shutdown();
+
+	/**
+	 * 栏目/站点发布任务合并配置
+	 */
+	private final Coalesce coalesce = new Coalesce();
+
+	/**
+	 * 全站/栏目批量发布分区配置
+	 */
+	private final Partition partition = new Partition();
+
+	/**
+	 * 模板预热配置
+	 */
+	private final WarmUp warmUp = new WarmUp();
+
+	/**
+	 * 包含模板静态化内容进程内缓存配置
+	 */
+	private final IncludeCache includeCache = new IncludeCache();
+
+	@Getter
+	@Setter
+	public static class Coalesce {
+
+		/**
+		 * 是否开启发布任务合并，关闭后每次发布请求直接进入发布队列
+		 */
+		private boolean enable = true;
+
+		/**
+		 * 防抖时间窗口，同一发布对象在窗口内的重复发布请求合并为一次
+		 */
+		private Duration debounce = Duration.ofSeconds(3);
+
+		/**
+		 * 最大延迟时间，持续有发布请求时最晚在此时间后进入发布队列
+		 */
+		private Duration maxDelay = Duration.ofSeconds(30);
+	}
+
+	@Getter
+	@Setter
+	public static class Partition {
+
+		/**
+		 * 每个分区包含的最大内容数
+		 */
+		private int size = 500;
+
+		/**
+		 * 并行发布分区的线程数
+		 */
+		private int parallelism = 4;
+
+		/**
+		 * 分区发布进度保留时长，任务中断或失败后在此时间内重新发布可从已完成分区之后继续
+		 */
+		private Duration checkpointExpire = Duration.ofDays(1);
+	}
+
+	@Getter
+	@Setter
+	public static class WarmUp {
+
+		/**
+		 * 应用启动后预热所有站点模板
+		 */
+		private boolean enableOnStart = true;
+	}
+
+	@Getter
+	@Setter
+	public static class IncludeCache {
+
+		/**
+		 * 是否开启进程内缓存，关闭后每次包含均读取Redis缓存
+		 */
+		private boolean enable = true;
+
+		/**
+		 * 模板文件及SSI静态文件修改时间检查间隔，间隔内复用上次检查结果
+		 */
+		private Duration fileCheckInterval = Duration.ofSeconds(3);
+	}
 }
@@ -217,7 +217,7 @@ public class CatalogController extends BaseRestController {
 			throw ContentCoreErrorCode.CATALOG_CANNOT_PUBLISH.exception();
 		}
 		AsyncTask task = this.publishService.publishCatalog(catalog, dto.getPublishChild(), dto.getPublishDetail(),
-				dto.getPublishStatus(), StpAdminUtil.getLoginUser());
+				dto.getPublishStatus(), StpAdminUtil.getLoginUser(), dto.isResume());
 		return R.ok(task.getTaskId());
 	}
 
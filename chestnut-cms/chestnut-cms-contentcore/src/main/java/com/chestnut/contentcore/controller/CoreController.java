@@ -12,6 +12,7 @@ import com.chestnut.contentcore.domain.CmsSite;
 import com.chestnut.contentcore.exception.ContentCoreErrorCode;
 import com.chestnut.contentcore.service.ISiteService;
 import com.chestnut.contentcore.service.ITemplateService;
+import com.chestnut.contentcore.template.DynamicResponseCache;
 import com.chestnut.contentcore.template.ITemplateType;
 import com.chestnut.contentcore.template.impl.SiteTemplateType;
 import com.chestnut.contentcore.util.ContentCoreUtils;
@@ -19,6 +20,7 @@ import com.chestnut.contentcore.util.SiteUtils;
 import com.chestnut.contentcore.util.TemplateUtils;
 import com.chestnut.system.security.AdminUserType;
 import freemarker.template.TemplateException;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,7 +30,9 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.io.IOException;
+import java.io.StringWriter;
 import java.nio.charset.Charset;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 
@@ -49,6 +53,8 @@ public class CoreController extends BaseRestController {
 
 	private final StaticizeService staticizeService;
 
+	private final DynamicResponseCache responseCache;
+
 	/**
 	 * 预览内容核心数据页面
 	 *
@@ -100,10 +106,16 @@ public class CoreController extends BaseRestController {
 		IInternalDataType internalDataType = ContentCoreUtils.getInternalDataType(dataType);
 		Assert.notNull(internalDataType, () -> ContentCoreErrorCode.UNSUPPORTED_INTERNAL_DATA_TYPE.exception(dataType));
 
+		HttpServletRequest request = ServletUtils.getRequest();
+		Map<String, String> params = ServletUtils.getParamMap(request);
 		IInternalDataType.RequestData data = new IInternalDataType.RequestData(dataId, pageIndex, publishPipe,
-				false, ServletUtils.getParamMap(ServletUtils.getRequest()));
-		String pageData = internalDataType.getPageData(data);
-		response.getWriter().write(pageData);
+				false, params);
+		Map<String, Object> keyParams = new HashMap<>();
+		keyParams.put("pp", publishPipe);
+		keyParams.put("dataId", dataId);
+		keyParams.put("pi", pageIndex);
+		this.responseCache.write(null, "view/" + dataType, keyParams, params, request, response,
+				() -> internalDataType.getPageData(data));
 	}
 
 	@GetMapping("/cms/ssi/virtual/")
@@ -112,29 +124,38 @@ public class CoreController extends BaseRestController {
 									 @RequestParam(value = "pi", required = false, defaultValue = "1") Integer pageIndex,
 									 @RequestParam Map<String, Object> params) {
 		try {
-			// TODO 缓存
 			long s = System.currentTimeMillis();
 			CmsSite site = this.siteService.getSite(siteId);
-			// 模板ID = 通道:站点目录:模板文件名
-			String templateKey = SiteUtils.getTemplateKey(site, publishPipeCode, template);
-			// 缓存
-			String templateStaticContentCache = this.templateService.getTemplateStaticContentCache(templateKey);
-			if (Objects.nonNull(templateStaticContentCache)) {
-				ServletUtils.getResponse().getWriter().write(templateStaticContentCache);
-				return;
-			}
-			TemplateContext templateContext = new TemplateContext(templateKey, false, publishPipeCode);
-			templateContext.setPageIndex(pageIndex);
-			// init template datamode
-			TemplateUtils.initGlobalVariables(site, templateContext);
-			// init templateType data to datamode
-			ITemplateType templateType = this.templateService.getTemplateType(SiteTemplateType.TypeId);
-			templateType.initTemplateData(siteId, templateContext);
-			templateContext.getVariables().put("Request", params);
-			templateContext.getVariables().put("ClientType", ServletUtils.getDeviceType());
-			// staticize
-			this.staticizeService.process(templateContext, ServletUtils.getResponse().getWriter());
-			log.debug("[{}]动态区块模板解析：{}，耗时：{}", publishPipeCode, template, System.currentTimeMillis() - s);
+			String clientType = ServletUtils.getDeviceType();
+			Map<String, Object> keyParams = new HashMap<>();
+			keyParams.put("sid", siteId);
+			keyParams.put("pp", publishPipeCode);
+			keyParams.put("t", template);
+			keyParams.put("pi", pageIndex);
+			keyParams.put("ClientType", clientType);
+			this.responseCache.write(siteId, template, keyParams, params, ServletUtils.getRequest(), ServletUtils.getResponse(), () -> {
+				// 模板ID = 通道:站点目录:模板文件名
+				String templateKey = SiteUtils.getTemplateKey(site, publishPipeCode, template);
+				// 缓存
+				String templateStaticContentCache = this.templateService.getTemplateStaticContentCache(templateKey);
+				if (Objects.nonNull(templateStaticContentCache)) {
+					return templateStaticContentCache;
+				}
+				TemplateContext templateContext = new TemplateContext(templateKey, false, publishPipeCode);
+				templateContext.setPageIndex(pageIndex);
+				// init template datamode
+				TemplateUtils.initGlobalVariables(site, templateContext);
+				// init templateType data to datamode
+				ITemplateType templateType = this.templateService.getTemplateType(SiteTemplateType.TypeId);
+				templateType.initTemplateData(siteId, templateContext);
+				templateContext.getVariables().put("Request", params);
+				templateContext.getVariables().put("ClientType", clientType);
+				// staticize
+				StringWriter writer = new StringWriter();
+				this.staticizeService.process(templateContext, writer);
+				log.debug("[{}]动态区块模板解析：{}，耗时：{}", publishPipeCode, template, System.currentTimeMillis() - s);
+				return writer.toString();
+			});
 		} catch (TemplateException | IOException e) {
 			e.printStackTrace();
 		}
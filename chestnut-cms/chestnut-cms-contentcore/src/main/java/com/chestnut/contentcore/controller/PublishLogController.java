@@ -4,6 +4,7 @@ import com.chestnut.common.domain.R;
 import com.chestnut.common.security.anno.Priv;
 import com.chestnut.common.security.web.BaseRestController;
 import com.chestnut.contentcore.config.CMSPublishConfig;
+import com.chestnut.contentcore.publish.PublishTaskCoalescer;
 import com.chestnut.system.security.AdminUserType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.connection.stream.MapRecord;
@@ -30,13 +31,15 @@ public class PublishLogController extends BaseRestController {
 
 	private final StringRedisTemplate redisTemplate;
 
+	private final PublishTaskCoalescer publishTaskCoalescer;
+
 	/**
-	 * 发布队列任务数量
+	 * 发布队列任务数量，包含合并等待中的任务
 	 */
 	@GetMapping("/taskCount")
 	public R<?> getPublishTaskCount() {
 		StreamInfo.XInfoStream info = redisTemplate.opsForStream().info(CMSPublishConfig.PublishStreamName);
-		return R.ok(info.streamLength());
+		return R.ok(info.streamLength() + publishTaskCoalescer.getPendingCount());
 	}
 
 	/**
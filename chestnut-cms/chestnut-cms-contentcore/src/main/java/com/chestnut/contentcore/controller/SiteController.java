@@ -220,7 +220,8 @@ public class SiteController extends BaseRestController {
         Assert.notNull(site, () -> CommonErrorCode.DATA_NOT_FOUND_BY_ID.exception("siteId", dto.getSiteId()));
 
         if (!dto.isPublishIndex()) {
-            AsyncTask task = publishService.publishAll(site, dto.getContentStatus(), StpAdminUtil.getLoginUser());
+            AsyncTask task = publishService.publishAll(site, dto.getContentStatus(), StpAdminUtil.getLoginUser(),
+                    dto.isResume());
             return R.ok(task.getTaskId());
         }
         publishService.publishSiteIndex(site);
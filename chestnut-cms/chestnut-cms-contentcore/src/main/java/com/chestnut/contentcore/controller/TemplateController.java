@@ -3,6 +3,7 @@ package com.chestnut.contentcore.controller;
 import cn.dev33.satoken.annotation.SaMode;
 import cn.dev33.satoken.exception.NotPermissionException;
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import com.chestnut.common.async.AsyncTask;
 import com.chestnut.common.domain.R;
 import com.chestnut.common.exception.CommonErrorCode;
 import com.chestnut.common.extend.annotation.XssIgnore;
@@ -26,6 +27,7 @@ import com.chestnut.contentcore.perms.ContentCorePriv;
 import com.chestnut.contentcore.perms.SitePermissionType;
 import com.chestnut.contentcore.service.ISiteService;
 import com.chestnut.contentcore.service.ITemplateService;
+import com.chestnut.contentcore.template.TemplateWarmUp;
 import com.chestnut.contentcore.util.CmsPrivUtils;
 import com.chestnut.contentcore.util.SiteUtils;
 import com.chestnut.system.security.AdminUserType;
@@ -58,6 +60,8 @@ public class TemplateController extends BaseRestController {
 
 	private final StaticizeService staticizeService;
 
+	private final TemplateWarmUp templateWarmUp;
+
 	/**
 	 * 模板数据集合
 	 */
@@ -225,6 +229,18 @@ public class TemplateController extends BaseRestController {
 		return R.ok();
 	}
 
+	@Priv(
+			type = AdminUserType.TYPE,
+			value = { ContentCorePriv.TemplateView, CmsPrivUtils.PRIV_SITE_VIEW_PLACEHOLDER},
+			mode = SaMode.AND
+	)
+	@Log(title = "预热模板缓存", businessType = BusinessType.OTHER)
+	@PostMapping("/warmUp")
+	public R<?> warmUpTemplateCache() {
+		AsyncTask task = this.templateWarmUp.warmUp();
+		return R.ok(task.getTaskId());
+	}
+
 	@Priv(
 			type = AdminUserType.TYPE,
 			value = { ContentCorePriv.TemplateView, CmsPrivUtils.PRIV_SITE_VIEW_PLACEHOLDER},
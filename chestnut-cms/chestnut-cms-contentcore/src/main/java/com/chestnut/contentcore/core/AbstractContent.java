@@ -23,6 +23,7 @@ import java.io.IOException;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -331,13 +332,8 @@ public abstract class AbstractContent<T> implements IContent<T> {
 			try {
 				// 已发布内容删除静态页面
 				this.getContentService().deleteStaticFiles(this.getContentEntity());
-				// 重新发布内容所在栏目和父级栏目
-				String[] catalogIds = this.getContentEntity().getCatalogAncestors()
-						.split(CatalogUtils.ANCESTORS_SPLITER);
-				for (String catalogId : catalogIds) {
-					this.getPublishService().publishCatalog(this.getCatalogService().getCatalog(Long.valueOf(catalogId)),
-							false, false, null, this.getOperator());
-				}
+				// 重新发布依赖内容数据的栏目、站点首页及页面部件
+				this.getPublishService().asyncPublishContentDependents(List.of(this.getContentEntity()));
 			} catch (IOException e) {
 				e.printStackTrace();
 			}
@@ -93,6 +93,8 @@ public abstract class AbstractPageWidget implements IPageWidget {
 		this.getPageWidgetService().updateById(pageWidgetEntity);
 		
 		this.getPublishService().pageWidgetStaticize(this);
+		// 发布嵌入此页面部件的页面
+		this.getPublishService().asyncPublishPageWidgetDependents(pageWidgetEntity);
 	}
 	
 	public String getStaticFilePath() {
@@ -64,6 +64,18 @@ public interface IDynamicPageType {
 
     }
 
+    /**
+     * 页面公共部分缓存参数，返回null表示不缓存
+     * <p>
+     * 模板中使用&lt;@cms_dynamic_region&gt;标记与请求用户相关的区块，区块外的公共部分（页头、导航、页脚等）
+     * 按站点、发布通道、模板版本及此处列出的请求参数值缓存，区块内容每次请求重新解析。
+     * 模板中没有动态区块时整页每次请求解析。
+     * </p>
+     */
+    default List<String> getCacheParameters() {
+        return null;
+    }
+
     /**
      * 模板初始化数据
      *
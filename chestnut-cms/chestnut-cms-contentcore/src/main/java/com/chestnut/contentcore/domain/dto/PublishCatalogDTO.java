@@ -34,4 +34,9 @@ public class PublishCatalogDTO {
 	 */
 	@NotEmpty
 	private String publishStatus;
+
+	/**
+	 * 是否从上次中断或失败的发布断点继续，默认清除断点重新发布全部内容
+	 */
+	private boolean resume;
 }
@@ -26,4 +26,9 @@ public class PublishSiteDTO {
 	 * 发布内容状态
 	 */
 	private String contentStatus;
+
+	/**
+	 * 是否从上次中断或失败的发布断点继续，默认清除断点重新发布全部内容
+	 */
+	private boolean resume;
 }
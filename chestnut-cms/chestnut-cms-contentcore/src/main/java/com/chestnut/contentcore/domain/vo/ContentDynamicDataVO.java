@@ -5,9 +5,6 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
-import java.util.HashMap;
-import java.util.Map;
-
 @Getter
 @Setter
 @NoArgsConstructor
@@ -25,8 +22,6 @@ public class ContentDynamicDataVO {
 
     private Long contributorId;
 
-    private Boolean updated;
-
     public ContentDynamicDataVO(CmsContent content) {
         this.contentId = content.getContentId();
         this.favorites = content.getFavoriteCount();
@@ -35,28 +30,4 @@ public class ContentDynamicDataVO {
         this.views = content.getViewCount();
         this.contributorId = content.getContributorId();
     }
-
-    public void increase(DynamicDataType type) {
-        switch(type) {
-            case Favorite -> this.favorites++;
-            case Like -> this.likes++;
-            case Comment -> this.comments++;
-            case View -> this.views++;
-        }
-        this.updated = true;
-    }
-
-    public void decrease(DynamicDataType type) {
-        switch(type) {
-            case Favorite -> this.favorites--;
-            case Like -> this.likes--;
-            case Comment -> this.comments--;
-            case View -> this.views--;
-        }
-        this.updated = true;
-    }
-
-    public enum DynamicDataType {
-        Favorite, Like, Comment, View
-    }
-}
\ No newline at end of file
+}
@@ -17,6 +17,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -59,6 +60,7 @@ public class SitePublishJobHandler extends IJobHandler implements IScheduledHand
 		for (CmsSite site : sites) {
 			List<CmsCatalog> catalogList = catalogService
 					.list(new LambdaQueryWrapper<CmsCatalog>().eq(CmsCatalog::getSiteId, site.getSiteId()));
+			List<CmsContent> publishedContents = new ArrayList<>();
 			for (CmsCatalog catalog : catalogList) {
 				// 先发布内容
 				int pageSize = 500;
@@ -71,15 +73,12 @@ public class SitePublishJobHandler extends IJobHandler implements IScheduledHand
 					Page<CmsContent> page = contentService.page(new Page<>(i, pageSize, false), q);
 					for (CmsContent xContent : page.getRecords()) {
 						this.publishService.contentStaticize(xContent);
+						publishedContents.add(xContent);
 					}
 				}
 			}
-			// 发布栏目
-			for (CmsCatalog catalog : catalogList) {
-				this.publishService.catalogStaticize(catalog, -1);
-			}
-			// 发布站点
-			this.publishService.siteStaticize(site);
+			// 发布依赖内容数据的栏目、站点首页及页面部件
+			this.publishService.contentDependentsStaticize(site, publishedContents);
 		}
 		logger.info("Job '{}' completed, cost: {}ms", JOB_NAME, System.currentTimeMillis() - s);
 	}
@@ -0,0 +1,26 @@
+package com.chestnut.contentcore.listener.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 模板变更（修改、删除或手动清理区块缓存）后触发，用于失效依赖模板的缓存
+ *
+ * @author 兮玥
+ * @email 190785909@qq.com
+ */
+@Getter
+public class AfterTemplateChangeEvent extends ApplicationEvent {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 模板Key：站点目录_发布通道/template/模板路径
+	 */
+	private final String templateKey;
+
+	public AfterTemplateChangeEvent(Object source, String templateKey) {
+		super(source);
+		this.templateKey = templateKey;
+	}
+}
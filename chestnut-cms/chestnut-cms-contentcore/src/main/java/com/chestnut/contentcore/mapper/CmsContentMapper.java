@@ -13,6 +13,7 @@ import com.baomidou.mybatisplus.core.mapper.BaseMapper;
 import com.baomidou.mybatisplus.core.metadata.IPage;
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import com.chestnut.contentcore.domain.CmsContent;
+import com.chestnut.contentcore.domain.vo.ContentDynamicDataVO;
 import com.chestnut.contentcore.service.impl.SiteStatServiceImpl.SiteStatData;
 import org.apache.ibatis.annotations.Update;
 
@@ -147,4 +148,32 @@ public interface CmsContentMapper extends BaseMapper<CmsContent> {
 	 */
 	@Update("UPDATE cms_content SET deleted = " + DBConstants.DELETED_NO + " WHERE content_id = #{contentId}")
 	Long recoverById(@Param("contentId") Long contentId);
+
+	/**
+	 * 批量更新内容动态数据（收藏、点赞、评论、浏览数）
+	 *
+	 * @param list 内容动态数据
+	 * @return
+	 */
+	@Update("""
+			<script>
+			UPDATE cms_content SET
+			favorite_count = CASE content_id
+			<foreach item="item" collection="list"> WHEN #{item.contentId} THEN #{item.favorites} </foreach>
+			END,
+			like_count = CASE content_id
+			<foreach item="item" collection="list"> WHEN #{item.contentId} THEN #{item.likes} </foreach>
+			END,
+			comment_count = CASE content_id
+			<foreach item="item" collection="list"> WHEN #{item.contentId} THEN #{item.comments} </foreach>
+			END,
+			view_count = CASE content_id
+			<foreach item="item" collection="list"> WHEN #{item.contentId} THEN #{item.views} </foreach>
+			END
+			WHERE content_id IN (
+			<foreach item="item" collection="list" separator=","> #{item.contentId} </foreach>
+			)
+			</script>
+			""")
+	int batchUpdateDynamicData(@Param("list") List<ContentDynamicDataVO> list);
 }
@@ -0,0 +1,325 @@
+package com.chestnut.contentcore.publish;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.toolkit.support.SFunction;
+import com.chestnut.common.redis.RedisCache;
+import com.chestnut.common.staticize.core.PageCursor;
+import com.chestnut.common.staticize.core.TemplateContext;
+import com.chestnut.common.utils.StringUtils;
+import com.chestnut.contentcore.config.CMSConfig;
+import com.chestnut.contentcore.domain.CmsCatalog;
+import com.chestnut.contentcore.domain.CmsContent;
+import com.chestnut.contentcore.domain.CmsPublishPipe;
+import com.chestnut.contentcore.fixed.dict.ContentStatus;
+import com.chestnut.contentcore.service.IContentService;
+import com.chestnut.contentcore.service.IPublishPipeService;
+import com.chestnut.contentcore.template.tag.CmsContentTag;
+import com.chestnut.contentcore.util.CatalogUtils;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 栏目列表页变更范围追踪
+ * <p>
+ * 栏目列表页静态化后记录分页列表标签的分页参数（排序方式、每页数量、数据总数），
+ * 内容发布/下线时根据内容在列表中的排序位置计算受影响的列表页范围，栏目发布时只重新生成该范围内的页面。
+ * 同时记录每个内容上次生成时所在页码，排序位置变化时原页码至新页码之间的页面均需重新生成。
+ * 分页数变化、无分页记录、内容原页码未知或分页标签使用了无法计算排序位置的属性时退回完整发布。
+ * </p>
+ *
+ * @author 兮玥
+ * @email 190785909@qq.com
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CatalogListPageTracker {
+
+    private static final String ListPageCacheKey = CMSConfig.CachePrefix + "catalog:list_page:";
+
+    private static final String ListPositionCacheKey = CMSConfig.CachePrefix + "catalog:list_position:";
+
+    private static final String DirtyPageCacheKey = CMSConfig.CachePrefix + "catalog:dirty_page:";
+
+    private static final String FullMark = "full";
+
+    private static final long DirtyPageExpireSeconds = 24 * 3600;
+
+    private final RedisCache redisCache;
+
+    private final IContentService contentService;
+
+    private final IPublishPipeService publishPipeService;
+
+    /**
+     * 记录栏目列表页分页参数，列表页静态化完成后调用
+     *
+     * @param catalog         栏目
+     * @param publishPipeCode 发布通道编码
+     * @param context         列表页模板上下文
+     */
+    public void recordListPage(CmsCatalog catalog, String publishPipeCode, TemplateContext context) {
+        PageCursor<?> cursor = context.getPageCursor();
+        // 列表页存在其他内容列表时，内容变更可能影响所有页面
+        long contentDependencyCount = context.getDependencies().stream()
+                .filter(PublishDependencyIndex::isContentDependency).count();
+        if (Objects.isNull(cursor) || context.getPageSize() < 1 || contentDependencyCount > 1
+                || !isTraceable(catalog, cursor)) {
+            redisCache.deleteCacheMapValue(ListPageCacheKey + catalog.getCatalogId(), publishPipeCode);
+            redisCache.deleteObject(getPositionCacheKey(catalog.getCatalogId(), publishPipeCode));
+            return;
+        }
+        ListPageProfile profile = new ListPageProfile();
+        profile.setLevel(cursor.getTagAttr("level"));
+        profile.setSort(cursor.getTagAttr("sort"));
+        profile.setTopFlag(!"false".equalsIgnoreCase(cursor.getTagAttr("topflag")));
+        profile.setPageSize(context.getPageSize());
+        profile.setTotal(cursor.getTotal());
+        redisCache.setCacheMapValue(ListPageCacheKey + catalog.getCatalogId(), publishPipeCode, profile);
+        // 记录本次生成页面中每个内容所在页码，从第一页开始生成时替换全部记录
+        String positionCacheKey = getPositionCacheKey(catalog.getCatalogId(), publishPipeCode);
+        if (cursor.getFromPageIndex() <= 1) {
+            redisCache.deleteObject(positionCacheKey);
+        }
+        Map<String, Integer> positions = new HashMap<>();
+        cursor.getItemPages().forEach((contentId, pageIndex) -> positions.put(contentId.toString(), pageIndex));
+        if (!positions.isEmpty()) {
+            redisCache.setCacheMap(positionCacheKey, positions);
+        }
+    }
+
+    /**
+     * 计算内容变更影响的各发布通道列表页范围
+     *
+     * @param catalog  栏目
+     * @param contents 变更内容
+     * @return 发布通道编码 -> 列表页范围，需完整发布的通道值为null
+     */
+    public Map<String, PageWindow> computeDirtyWindows(CmsCatalog catalog, Collection<CmsContent> contents) {
+        Map<String, PageWindow> windows = new HashMap<>();
+        List<CmsPublishPipe> publishPipes = publishPipeService.getPublishPipes(catalog.getSiteId());
+        for (CmsPublishPipe pp : publishPipes) {
+            ListPageProfile profile = redisCache.getCacheMapValue(ListPageCacheKey + catalog.getCatalogId(), pp.getCode());
+            windows.put(pp.getCode(), Objects.isNull(profile) ? null
+                    : this.computeDirtyWindow(catalog, pp.getCode(), profile, contents));
+        }
+        return windows;
+    }
+
+    /**
+     * 标记栏目列表页变更范围，栏目发布任务执行时读取
+     */
+    public void markDirty(CmsCatalog catalog, Collection<CmsContent> contents) {
+        String cacheKey = DirtyPageCacheKey + catalog.getCatalogId();
+        Object[] marks = this.computeDirtyWindows(catalog, contents).entrySet().stream()
+                .map(e -> e.getKey() + ":" + (Objects.isNull(e.getValue()) ? FullMark : e.getValue().toString()))
+                .toArray();
+        redisCache.addSetValue(cacheKey, marks);
+        redisCache.expire(cacheKey, DirtyPageExpireSeconds);
+    }
+
+    /**
+     * 标记栏目需完整发布
+     */
+    public void markFull(Long catalogId) {
+        String cacheKey = DirtyPageCacheKey + catalogId;
+        redisCache.addSetValue(cacheKey, FullMark);
+        redisCache.expire(cacheKey, DirtyPageExpireSeconds);
+    }
+
+    /**
+     * 读取并清除栏目列表页变更范围
+     *
+     * @return 无记录或需完整发布时返回null，否则返回发布通道编码 -> 列表页范围，不存在的通道需完整发布
+     */
+    public Map<String, PageWindow> pollDirtyWindows(Long catalogId) {
+        List<String> marks = redisCache.popSetValues(DirtyPageCacheKey + catalogId, Integer.MAX_VALUE);
+        if (marks.isEmpty() || marks.contains(FullMark)) {
+            return null;
+        }
+        Map<String, PageWindow> windows = new HashMap<>();
+        Set<String> fullPipes = new HashSet<>();
+        for (String mark : marks) {
+            int idx = mark.lastIndexOf(":");
+            String publishPipeCode = mark.substring(0, idx);
+            PageWindow window = PageWindow.parse(mark.substring(idx + 1));
+            if (Objects.isNull(window)) {
+                fullPipes.add(publishPipeCode);
+            } else {
+                windows.merge(publishPipeCode, window, PageWindow::merge);
+            }
+        }
+        fullPipes.forEach(windows::remove);
+        return windows;
+    }
+
+    private PageWindow computeDirtyWindow(CmsCatalog catalog, String publishPipeCode, ListPageProfile profile,
+                                          Collection<CmsContent> contents) {
+        long total = contentService.count(this.buildScopeQuery(catalog, profile));
+        if (getPageCount(total, profile.getPageSize()) != getPageCount(profile.getTotal(), profile.getPageSize())) {
+            return null; // 分页数变化，所有页面分页栏需更新
+        }
+        List<CmsContent> scopeContents = contents.stream().filter(c -> this.isInScope(catalog, profile, c)).toList();
+        if (scopeContents.isEmpty()) {
+            return PageWindow.EMPTY;
+        }
+        List<Integer> previousPages = redisCache.getMultiCacheMapValue(getPositionCacheKey(catalog.getCatalogId(), publishPipeCode),
+                scopeContents.stream().map(c -> c.getContentId().toString()).toList());
+        SFunction<CmsContent, ?> sortColumn = CmsContentTag.getSortColumn(profile.getSort());
+        int fromPage = Integer.MAX_VALUE;
+        int toPage = 0;
+        for (int i = 0; i < scopeContents.size(); i++) {
+            CmsContent content = scopeContents.get(i);
+            Integer previousPage = previousPages.get(i);
+            if (Objects.isNull(previousPage)) {
+                // 无原页码记录：仅新增到列表中的内容可确定影响范围（新位置及其后所有页面），其他情况原位置未知
+                if (!ContentStatus.isPublished(content.getStatus()) || total == profile.getTotal()) {
+                    return null;
+                }
+            } else {
+                fromPage = Math.min(fromPage, previousPage);
+                toPage = Math.max(toPage, previousPage);
+            }
+            // 排序位置 = 总数 - 排在其后的数量 - 自身
+            LambdaQueryWrapper<CmsContent> q = this.buildScopeQuery(catalog, profile);
+            if (!CmsContentTag.applyKeyset(q, content, profile.isTopFlag(), sortColumn)) {
+                return null;
+            }
+            long after = contentService.count(q);
+            long rank = total - after - (ContentStatus.isPublished(content.getStatus()) ? 1 : 0);
+            int page = (int) (Math.max(rank, 0) / profile.getPageSize()) + 1;
+            fromPage = Math.min(fromPage, page);
+            toPage = Math.max(toPage, page);
+        }
+        // 内容数变化时其后所有页面数据偏移
+        return new PageWindow(fromPage, total != profile.getTotal() ? PageWindow.LAST_PAGE : toPage);
+    }
+
+    private LambdaQueryWrapper<CmsContent> buildScopeQuery(CmsCatalog catalog, ListPageProfile profile) {
+        LambdaQueryWrapper<CmsContent> q = new LambdaQueryWrapper<CmsContent>()
+                .eq(CmsContent::getSiteId, catalog.getSiteId())
+                .eq(CmsContent::getStatus, ContentStatus.PUBLISHED);
+        String level = profile.getLevel();
+        if (CmsContentTag.LevelTagAttr.isChild(level)) {
+            q.likeRight(CmsContent::getCatalogAncestors, catalog.getAncestors() + CatalogUtils.ANCESTORS_SPLITER);
+        } else if (CmsContentTag.LevelTagAttr.isCurrentAndChild(level)) {
+            q.likeRight(CmsContent::getCatalogAncestors, catalog.getAncestors());
+        } else if (!CmsContentTag.LevelTagAttr.isRoot(level)) {
+            q.eq(CmsContent::getCatalogId, catalog.getCatalogId());
+        }
+        return q;
+    }
+
+    private boolean isInScope(CmsCatalog catalog, ListPageProfile profile, CmsContent content) {
+        if (!Objects.equals(catalog.getSiteId(), content.getSiteId())) {
+            return false;
+        }
+        String level = profile.getLevel();
+        String ancestors = Objects.requireNonNullElse(content.getCatalogAncestors(), StringUtils.EMPTY);
+        if (CmsContentTag.LevelTagAttr.isRoot(level)) {
+            return true;
+        } else if (CmsContentTag.LevelTagAttr.isChild(level)) {
+            return ancestors.startsWith(catalog.getAncestors() + CatalogUtils.ANCESTORS_SPLITER);
+        } else if (CmsContentTag.LevelTagAttr.isCurrentAndChild(level)) {
+            return ancestors.equals(catalog.getAncestors())
+                    || ancestors.startsWith(catalog.getAncestors() + CatalogUtils.ANCESTORS_SPLITER);
+        }
+        return Objects.equals(catalog.getCatalogId(), content.getCatalogId());
+    }
+
+    /**
+     * 仅支持内容列表标签获取当前栏目数据且无额外过滤条件时计算排序位置
+     */
+    private boolean isTraceable(CmsCatalog catalog, PageCursor<?> cursor) {
+        if (!CmsContentTag.TAG_NAME.equals(cursor.getTagName())) {
+            return false;
+        }
+        if (StringUtils.isNotEmpty(cursor.getTagAttr("condition"))
+                || StringUtils.isNotEmpty(cursor.getTagAttr("hasattribute"))
+                || StringUtils.isNotEmpty(cursor.getTagAttr("noattribute"))
+                || StringUtils.isNotEmpty(cursor.getTagAttr("status"))
+                || StringUtils.isNotEmpty(cursor.getTagAttr("catalogalias"))) {
+            return false;
+        }
+        return CmsContentTag.LevelTagAttr.isRoot(cursor.getTagAttr("level"))
+                || catalog.getCatalogId().toString().equals(cursor.getTagAttr("catalogid"));
+    }
+
+    private static String getPositionCacheKey(Long catalogId, String publishPipeCode) {
+        return ListPositionCacheKey + catalogId + ":" + publishPipeCode;
+    }
+
+    private static long getPageCount(long total, int pageSize) {
+        return Math.max(1, (total + pageSize - 1) / pageSize);
+    }
+
+    /**
+     * 列表页分页参数
+     */
+    @Getter
+    @Setter
+    public static class ListPageProfile {
+
+        private String level;
+
+        private String sort;
+
+        private boolean topFlag;
+
+        private int pageSize;
+
+        private long total;
+    }
+
+    /**
+     * 列表页范围[fromPage, toPage]，toPage = -1 表示到最后一页，EMPTY表示列表页不受影响
+     */
+    public record PageWindow(int fromPage, int toPage) {
+
+        public static final int LAST_PAGE = -1;
+
+        public static final PageWindow EMPTY = new PageWindow(0, 0);
+
+        public boolean isEmpty() {
+            return this.fromPage < 1;
+        }
+
+        /**
+         * 结合最大静态化页数获取模板上下文最大页码
+         */
+        public int getMaxPageNo(int pageMax) {
+            if (this.toPage == LAST_PAGE) {
+                return pageMax;
+            }
+            return pageMax > 0 ? Math.min(pageMax, this.toPage) : this.toPage;
+        }
+
+        public PageWindow merge(PageWindow other) {
+            if (this.isEmpty()) {
+                return other;
+            } else if (other.isEmpty()) {
+                return this;
+            }
+            int to = this.toPage == LAST_PAGE || other.toPage == LAST_PAGE ? LAST_PAGE : Math.max(this.toPage, other.toPage);
+            return new PageWindow(Math.min(this.fromPage, other.fromPage), to);
+        }
+
+        static PageWindow parse(String str) {
+            if (!str.matches("\\d+~-?\\d+")) {
+                return null; // full
+            }
+            int idx = str.indexOf("~");
+            return new PageWindow(Integer.parseInt(str.substring(0, idx)), Integer.parseInt(str.substring(idx + 1)));
+        }
+
+        @Override
+        public String toString() {
+            return this.fromPage + "~" + this.toPage;
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.chestnut.contentcore.publish;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import com.chestnut.common.async.AsyncTask;
+import com.chestnut.common.redis.RedisCache;
+import com.chestnut.common.security.domain.LoginUser;
+import com.chestnut.common.utils.StringUtils;
+import com.chestnut.contentcore.config.properties.CMSPublishProperties;
+import com.chestnut.contentcore.core.IContent;
+import com.chestnut.contentcore.core.IContentType;
+import com.chestnut.contentcore.domain.CmsCatalog;
+import com.chestnut.contentcore.domain.CmsContent;
+import com.chestnut.contentcore.service.IContentService;
+import com.chestnut.contentcore.util.ContentCoreUtils;
+import com.chestnut.system.fixed.dict.YesOrNo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 内容分区并行发布
+ * <p>
+ * 按栏目及内容ID区间将待发布内容切分为分区，由固定大小的线程池并行发布。
+ * 单个分区发布失败不影响其他分区，已完成的分区记录到Redis。
+ * 中断或失败后需显式指定继续发布才跳过已完成分区，否则清除断点重新发布，
+ * 避免模板等变更后的发布跳过旧发布任务已完成的分区。
+ * </p>
+ *
+ * @author 兮玥
+ * @email 190785909@qq.com
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContentPartitionPublisher {
+
+    private static final String CheckpointCacheKey = "ChestnutCMSPublishCheckpoint:";
+
+    private static final int FetchSize = 100;
+
+    private final IContentService contentService;
+
+    private final RedisCache redisCache;
+
+    private final CMSPublishProperties properties;
+
+    /**
+     * 分区并行发布栏目下指定状态的内容，阻塞至所有分区完成
+     *
+     * @param task          异步任务，用于进度及错误信息反馈
+     * @param catalogs      发布栏目
+     * @param contentStatus 内容状态
+     * @param operator      操作人
+     * @param resume        是否跳过上次发布已完成的分区，否则清除断点重新发布
+     * @throws InterruptedException 任务中断
+     */
+    public void publish(AsyncTask task, List<CmsCatalog> catalogs, String contentStatus, LoginUser operator,
+                        boolean resume) throws InterruptedException {
+        String checkpointKey = CheckpointCacheKey + task.getTaskId() + ":" + contentStatus;
+        Set<String> committed;
+        if (resume) {
+            committed = redisCache.getCacheSet(checkpointKey);
+        } else {
+            redisCache.deleteObject(checkpointKey);
+            committed = Set.of();
+        }
+        List<Partition> partitions = new ArrayList<>();
+        long total = 0;
+        for (CmsCatalog catalog : catalogs) {
+            task.checkInterrupt();
+            for (Partition partition : this.splitPartitions(catalog, contentStatus)) {
+                total += partition.count;
+                if (committed.contains(partition.getKey())) {
+                    continue;
+                }
+                partitions.add(partition);
+            }
+        }
+        if (partitions.isEmpty()) {
+            redisCache.deleteObject(checkpointKey);
+            return;
+        }
+        long committedCount = total - partitions.stream().mapToLong(p -> p.count).sum();
+        if (committedCount > 0) {
+            log.info("[{}]Resume partitioned publish, skip {} contents.", task.getTaskId(), committedCount);
+        }
+        final long totalCount = total;
+        AtomicLong progress = new AtomicLong(committedCount);
+        AtomicInteger failedCount = new AtomicInteger();
+        int parallelism = Math.max(1, properties.getPartition().getParallelism());
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, new ThreadFactory() {
+
+            private final AtomicInteger index = new AtomicInteger(1);
+
+            @Override
+            public Thread newThread(Runnable r) {
+                return new Thread(r, "cms-partition-publish-" + index.getAndIncrement());
+            }
+        });
+        try {
+            List<Future<?>> futures = new ArrayList<>(partitions.size());
+            for (Partition partition : partitions) {
+                futures.add(executor.submit(() -> {
+                    try {
+                        this.publishPartition(task, partition, contentStatus, operator, progress, totalCount);
+                        redisCache.addSetValue(checkpointKey, partition.getKey());
+                        redisCache.expire(checkpointKey, properties.getPartition().getCheckpointExpire().toSeconds());
+                    } catch (InterruptedException e) {
+                        throw e;
+                    } catch (Exception e) {
+                        failedCount.incrementAndGet();
+                        log.error("Publish partition failed: " + partition.getKey(), e);
+                        synchronized (task) {
+                            task.addErrorMessage(StringUtils.messageFormat("内容分区发布失败：{0}[{1} - {2}]，{3}",
+                                    partition.catalogName, partition.fromContentId, partition.toContentId, e.getMessage()));
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof InterruptedException ie) {
+                        throw ie;
+                    }
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        if (failedCount.get() == 0) {
+            redisCache.deleteObject(checkpointKey);
+        }
+    }
+
+    private void publishPartition(AsyncTask task, Partition partition, String contentStatus, LoginUser operator,
+                                  AtomicLong progress, long total) throws InterruptedException {
+        long lastContentId = partition.fromContentId;
+        while (true) {
+            LambdaQueryWrapper<CmsContent> q = new LambdaQueryWrapper<CmsContent>()
+                    .eq(CmsContent::getCatalogId, partition.catalogId)
+                    .eq(CmsContent::getStatus, contentStatus)
+                    .ne(CmsContent::getLinkFlag, YesOrNo.YES)
+                    .gt(CmsContent::getContentId, lastContentId)
+                    .le(CmsContent::getContentId, partition.toContentId)
+                    .orderByAsc(CmsContent::getContentId);
+            Page<CmsContent> page = contentService.page(new Page<>(0, FetchSize, false), q);
+            for (CmsContent xContent : page.getRecords()) {
+                task.checkInterrupt();
+                lastContentId = xContent.getContentId();
+                IContentType contentType = ContentCoreUtils.getContentType(xContent.getContentType());
+                IContent<?> content = contentType.newContent();
+                content.setContentEntity(xContent);
+                content.setOperator(operator);
+                content.publish();
+                long count = progress.incrementAndGet();
+                task.setProgressInfo((int) (count * 100 / total),
+                        "正在发布内容：" + partition.catalogName + "[" + count + " / " + total + "]");
+            }
+            if (page.getRecords().size() < FetchSize) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * 按内容ID升序切分栏目内容分区，每个分区包含不超过partition.size条内容
+     */
+    private List<Partition> splitPartitions(CmsCatalog catalog, String contentStatus) {
+        int partitionSize = Math.max(FetchSize, properties.getPartition().getSize());
+        List<Partition> partitions = new ArrayList<>();
+        long lastContentId = 0L;
+        while (true) {
+            LambdaQueryWrapper<CmsContent> q = new LambdaQueryWrapper<CmsContent>()
+                    .select(CmsContent::getContentId)
+                    .eq(CmsContent::getCatalogId, catalog.getCatalogId())
+                    .eq(CmsContent::getStatus, contentStatus)
+                    .ne(CmsContent::getLinkFlag, YesOrNo.YES)
+                    .gt(CmsContent::getContentId, lastContentId)
+                    .orderByAsc(CmsContent::getContentId);
+            List<CmsContent> records = contentService.page(new Page<>(0, partitionSize, false), q).getRecords();
+            if (records.isEmpty()) {
+                break;
+            }
+            long toContentId = records.get(records.size() - 1).getContentId();
+            partitions.add(new Partition(catalog.getCatalogId(), catalog.getName(), lastContentId, toContentId, records.size()));
+            lastContentId = toContentId;
+            if (records.size() < partitionSize) {
+                break;
+            }
+        }
+        return partitions;
+    }
+
+    /**
+     * 内容分区：栏目内内容ID区间(fromContentId, toContentId]
+     */
+    record Partition(Long catalogId, String catalogName, long fromContentId, long toContentId, int count) {
+
+        String getKey() {
+            return catalogId + ":" + fromContentId + "-" + toContentId;
+        }
+    }
+}
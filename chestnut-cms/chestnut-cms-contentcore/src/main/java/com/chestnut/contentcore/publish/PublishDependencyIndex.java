@@ -0,0 +1,225 @@
+package com.chestnut.contentcore.publish;
+
+import com.chestnut.common.redis.RedisCache;
+import com.chestnut.common.utils.StringUtils;
+import com.chestnut.contentcore.domain.CmsContent;
+import com.chestnut.contentcore.domain.CmsPublishPipe;
+import com.chestnut.contentcore.service.IPublishPipeService;
+import com.chestnut.contentcore.util.CatalogUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 静态页面数据依赖索引
+ * <p>
+ * 站点首页、栏目页、页面部件静态化时记录模板标签读取的数据范围（依赖），
+ * 并按依赖建立反向索引。内容/页面部件发布时通过反向索引查找依赖其数据的页面，只重新发布这些页面。
+ * 未建立索引的页面（升级后尚未重新生成）视为受影响。
+ * </p>
+ * <p>
+ * 依赖格式：
+ * <ul>
+ *     <li>content:id:{contentId} 指定内容（文章正文、图集、音视频等内容详情数据）</li>
+ *     <li>content:catalog:{catalogId} 指定栏目内容</li>
+ *     <li>content:tree:{catalogId} 指定栏目及其子栏目内容</li>
+ *     <li>content:site:{siteId} 站点所有内容</li>
+ *     <li>catalog:... 栏目列表，参考{@link #catalogOfParent(Long)}等</li>
+ *     <li>pagewidget:{siteId}:{code} 嵌入的页面部件</li>
+ *     <li>include:{templateKey} 嵌入的包含模板</li>
+ * </ul>
+ * </p>
+ *
+ * @author 兮玥
+ * @email 190785909@qq.com
+ */
+@Component
+@RequiredArgsConstructor
+public class PublishDependencyIndex {
+
+    private static final String CacheKey_Target = "ChestnutCMSPublishDependency:target:";
+
+    private static final String CacheKey_Dependents = "ChestnutCMSPublishDependency:dependents:";
+
+    /**
+     * 页面依赖集合占位元素，保证无依赖的页面也存在索引
+     */
+    private static final String Placeholder = "_";
+
+    private static final String TargetType_Site = "site";
+
+    private static final String TargetType_Catalog = "catalog";
+
+    private static final String TargetType_PageWidget = "pagewidget";
+
+    private final RedisCache redisCache;
+
+    private final IPublishPipeService publishPipeService;
+
+    public static String content(Long contentId) {
+        return "content:id:" + contentId;
+    }
+
+    public static String contentOfCatalog(Long catalogId) {
+        return "content:catalog:" + catalogId;
+    }
+
+    public static String contentOfTree(Long catalogId) {
+        return "content:tree:" + catalogId;
+    }
+
+    public static String contentOfSite(Long siteId) {
+        return "content:site:" + siteId;
+    }
+
+    public static String catalog(Long catalogId) {
+        return "catalog:" + catalogId;
+    }
+
+    public static String catalogOfParent(Long parentId) {
+        return "catalog:children:" + parentId;
+    }
+
+    public static String catalogOfTree(Long catalogId) {
+        return "catalog:tree:" + catalogId;
+    }
+
+    public static String catalogOfSite(Long siteId) {
+        return "catalog:site:" + siteId;
+    }
+
+    public static String pageWidget(Long siteId, String code) {
+        return "pagewidget:" + siteId + ":" + code;
+    }
+
+    public static String include(String templateKey) {
+        return "include:" + templateKey;
+    }
+
+    public static String siteTarget(Long siteId, String publishPipeCode) {
+        return TargetType_Site + ":" + siteId + ":" + publishPipeCode;
+    }
+
+    public static String catalogTarget(Long catalogId, String publishPipeCode) {
+        return TargetType_Catalog + ":" + catalogId + ":" + publishPipeCode;
+    }
+
+    public static String pageWidgetTarget(Long pageWidgetId) {
+        return TargetType_PageWidget + ":" + pageWidgetId;
+    }
+
+    public static boolean isContentDependency(String dependency) {
+        return dependency.startsWith("content:");
+    }
+
+    /**
+     * 内容变更影响的依赖：内容本身、所属栏目、所有上级栏目树及站点
+     */
+    public static Set<String> ofContent(CmsContent content) {
+        Set<String> dependencies = new HashSet<>();
+        dependencies.add(content(content.getContentId()));
+        dependencies.add(contentOfCatalog(content.getCatalogId()));
+        dependencies.add(contentOfSite(content.getSiteId()));
+        for (String catalogId : StringUtils.split(content.getCatalogAncestors(), CatalogUtils.ANCESTORS_SPLITER)) {
+            dependencies.add(contentOfTree(Long.valueOf(catalogId)));
+        }
+        return dependencies;
+    }
+
+    /**
+     * 记录页面依赖，替换之前的记录
+     *
+     * @param target       页面标识
+     * @param dependencies 依赖
+     */
+    public void record(String target, Set<String> dependencies) {
+        String targetKey = CacheKey_Target + target;
+        Set<String> prev = redisCache.getCacheSet(targetKey);
+        for (String dependency : prev) {
+            if (!Placeholder.equals(dependency) && !dependencies.contains(dependency)) {
+                redisCache.removeSetValue(CacheKey_Dependents + dependency, target);
+            }
+        }
+        for (String dependency : dependencies) {
+            if (!prev.contains(dependency)) {
+                redisCache.addSetValue(CacheKey_Dependents + dependency, target);
+            }
+        }
+        redisCache.deleteObject(targetKey);
+        redisCache.addSetValue(targetKey, Placeholder);
+        if (!dependencies.isEmpty()) {
+            redisCache.addSetValue(targetKey, dependencies.toArray());
+        }
+    }
+
+    /**
+     * 页面是否已记录依赖
+     */
+    public boolean isIndexed(String target) {
+        return redisCache.hasKey(CacheKey_Target + target);
+    }
+
+    /**
+     * 获取依赖指定数据的页面
+     */
+    public Set<String> getDependents(Collection<String> dependencies) {
+        Set<String> targets = new HashSet<>();
+        for (String dependency : dependencies) {
+            Set<String> set = redisCache.getCacheSet(CacheKey_Dependents + dependency);
+            targets.addAll(set);
+        }
+        return targets;
+    }
+
+    /**
+     * 查找数据变更影响的站点首页、栏目及页面部件
+     *
+     * @param siteId          站点ID
+     * @param dependencies    变更数据依赖
+     * @param catalogIds      需检查的栏目，未建立索引的栏目视为受影响
+     * @param checkSite       是否检查站点首页，未建立索引视为受影响
+     */
+    public Dependents resolve(Long siteId, Set<String> dependencies, Collection<Long> catalogIds, boolean checkSite) {
+        Set<String> targets = this.getDependents(dependencies);
+        List<String> publishPipeCodes = publishPipeService.getPublishPipes(siteId).stream()
+                .map(CmsPublishPipe::getCode).toList();
+
+        boolean site = false;
+        Set<Long> affectedCatalogIds = new LinkedHashSet<>();
+        Set<Long> affectedPageWidgetIds = new LinkedHashSet<>();
+        for (String publishPipeCode : publishPipeCodes) {
+            String siteTarget = siteTarget(siteId, publishPipeCode);
+            if (targets.contains(siteTarget) || (checkSite && !this.isIndexed(siteTarget))) {
+                site = true;
+            }
+            for (Long catalogId : catalogIds) {
+                String catalogTarget = catalogTarget(catalogId, publishPipeCode);
+                if (!affectedCatalogIds.contains(catalogId) && !this.isIndexed(catalogTarget)) {
+                    affectedCatalogIds.add(catalogId);
+                }
+            }
+        }
+        for (String target : targets) {
+            String[] arr = StringUtils.split(target, ":");
+            if (TargetType_Catalog.equals(arr[0])) {
+                affectedCatalogIds.add(Long.valueOf(arr[1]));
+            } else if (TargetType_PageWidget.equals(arr[0])) {
+                affectedPageWidgetIds.add(Long.valueOf(arr[1]));
+            } else if (TargetType_Site.equals(arr[0]) && siteId.toString().equals(arr[1])) {
+                site = true;
+            }
+        }
+        return new Dependents(site, affectedCatalogIds, affectedPageWidgetIds);
+    }
+
+    /**
+     * 受影响页面
+     *
+     * @param site          站点首页
+     * @param catalogIds    栏目
+     * @param pageWidgetIds 页面部件
+     */
+    public record Dependents(boolean site, Set<Long> catalogIds, Set<Long> pageWidgetIds) {
+    }
+}
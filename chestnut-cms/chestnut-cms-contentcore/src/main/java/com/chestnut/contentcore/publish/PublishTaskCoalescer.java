@@ -0,0 +1,178 @@
+package com.chestnut.contentcore.publish;
+
+import com.chestnut.contentcore.config.CMSPublishConfig;
+import com.chestnut.contentcore.config.properties.CMSPublishProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 栏目/站点发布任务合并
+ * <p>
+ * 同一发布对象（类型+ID）的发布请求在防抖窗口内合并为一条发布队列消息，
+ * 持续有请求时最晚在最大延迟时间后进入队列。
+ * 消费端通过{@link #isCovered(String, String, RecordId)}跳过已被后续发布覆盖的消息。
+ * </p>
+ *
+ * @author 兮玥
+ * @email 190785909@qq.com
+ */
+@Slf4j
+@Component
+public class PublishTaskCoalescer {
+
+    private static final long FlushPeriodMillis = 200;
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final CMSPublishProperties properties;
+
+    /**
+     * 待入队发布任务，key = type:id
+     */
+    private final ConcurrentHashMap<String, PendingTask> pendingTasks = new ConcurrentHashMap<>();
+
+    /**
+     * 各发布对象已开始处理的最新消息ID，key = type:id
+     */
+    private final ConcurrentHashMap<String, RecordId> coveredRecords = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService scheduler;
+
+    public PublishTaskCoalescer(StringRedisTemplate redisTemplate, CMSPublishProperties properties) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "cms-publish-coalescer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(this::flush, FlushPeriodMillis, FlushPeriodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 提交发布任务，开启合并时延迟入队
+     *
+     * @param type 发布任务类型
+     * @param id   发布对象ID
+     */
+    public void submit(String type, Long id) {
+        if (!properties.getCoalesce().isEnable()) {
+            this.enqueue(type, id.toString());
+            return;
+        }
+        long now = System.currentTimeMillis();
+        pendingTasks.compute(getKey(type, id.toString()), (key, pending) -> {
+            if (Objects.isNull(pending)) {
+                return new PendingTask(type, id.toString(), now);
+            }
+            pending.lastRequestTime = now;
+            pending.mergedCount++;
+            return pending;
+        });
+    }
+
+    /**
+     * 消费端开始处理消息时调用，判断消息是否已被同一对象的后续消息覆盖
+     * <p>
+     * 栏目/站点发布始终按最新数据重新生成，同一对象已开始处理的消息ID大于当前消息时无需重复处理
+     * </p>
+     *
+     * @param type     发布任务类型
+     * @param id       发布对象ID
+     * @param recordId 消息ID
+     * @return true = 跳过当前消息
+     */
+    public boolean isCovered(String type, String id, RecordId recordId) {
+        if (!isCoalesceType(type) || Objects.isNull(id)) {
+            return false;
+        }
+        String key = getKey(type, id);
+        RecordId covered = coveredRecords.merge(key, recordId, (prev, current) -> compare(prev, current) >= 0 ? prev : current);
+        return covered != recordId;
+    }
+
+    /**
+     * 待入队任务数
+     */
+    public int getPendingCount() {
+        return pendingTasks.size();
+    }
+
+    void flush() {
+        try {
+            long now = System.currentTimeMillis();
+            long debounce = properties.getCoalesce().getDebounce().toMillis();
+            long maxDelay = properties.getCoalesce().getMaxDelay().toMillis();
+            for (Map.Entry<String, PendingTask> e : pendingTasks.entrySet()) {
+                PendingTask pending = e.getValue();
+                if (now - pending.lastRequestTime >= debounce || now - pending.firstRequestTime >= maxDelay) {
+                    if (pendingTasks.remove(e.getKey(), pending)) {
+                        this.enqueue(pending.type, pending.id);
+                        if (pending.mergedCount > 0) {
+                            log.debug("Publish task coalesced: {}, merged: {}", e.getKey(), pending.mergedCount);
+                        }
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.error("Publish task coalescer flush failed.", e);
+        }
+    }
+
+    @PreDestroy
+    public void destroy() {
+        this.scheduler.shutdownNow();
+        // 关闭前将所有待入队任务写入发布队列
+        pendingTasks.values().forEach(pending -> this.enqueue(pending.type, pending.id));
+        pendingTasks.clear();
+    }
+
+    private void enqueue(String type, String id) {
+        Map<String, String> data = Map.of("type", type, "id", id);
+        redisTemplate.opsForStream().add(MapRecord.create(CMSPublishConfig.PublishStreamName, data));
+    }
+
+    private boolean isCoalesceType(String type) {
+        return CatalogPublishTask.Type.equals(type) || SitePublishTask.Type.equals(type);
+    }
+
+    private static String getKey(String type, String id) {
+        return type + ":" + id;
+    }
+
+    private static int compare(RecordId r1, RecordId r2) {
+        int c = Long.compare(r1.getTimestamp(), r2.getTimestamp());
+        return c != 0 ? c : Long.compare(r1.getSequence(), r2.getSequence());
+    }
+
+    static class PendingTask {
+
+        final String type;
+
+        final String id;
+
+        final long firstRequestTime;
+
+        volatile long lastRequestTime;
+
+        int mergedCount;
+
+        PendingTask(String type, String id, long requestTime) {
+            this.type = type;
+            this.id = id;
+            this.firstRequestTime = requestTime;
+            this.lastRequestTime = requestTime;
+        }
+    }
+}
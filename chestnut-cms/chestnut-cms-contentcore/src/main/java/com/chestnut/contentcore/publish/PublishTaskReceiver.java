@@ -28,6 +28,8 @@ public class PublishTaskReceiver implements StreamListener<String, MapRecord<Str
 
     private final StringRedisTemplate redisTemplate;
 
+    private final PublishTaskCoalescer publishTaskCoalescer;
+
     private Consumer consumer;
 
     @Override
@@ -37,6 +39,10 @@ public class PublishTaskReceiver implements StreamListener<String, MapRecord<Str
             try {
                 Map<String, String> map = message.getValue();
                 String type = MapUtils.getString(map, "type");
+                if (publishTaskCoalescer.isCovered(type, MapUtils.getString(map, "id"), message.getId())) {
+                    log.debug("Skip covered publish task: {} - {}", type, map.get("id"));
+                    return;
+                }
                 IPublishTask publishTask = publishTaskMap.get(IPublishTask.BeanPrefix + type);
                 if (Objects.nonNull(publishTask)) {
                     publishTask.publish(map);
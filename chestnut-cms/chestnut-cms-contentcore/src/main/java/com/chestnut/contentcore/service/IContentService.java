@@ -6,6 +6,7 @@ import com.chestnut.common.security.domain.LoginUser;
 import com.chestnut.contentcore.core.IContent;
 import com.chestnut.contentcore.domain.CmsCatalog;
 import com.chestnut.contentcore.domain.CmsContent;
+import com.chestnut.contentcore.domain.CmsSite;
 import com.chestnut.contentcore.domain.dto.CopyContentDTO;
 import com.chestnut.contentcore.domain.dto.MoveContentDTO;
 import com.chestnut.contentcore.domain.dto.SetTopContentDTO;
@@ -71,6 +72,19 @@ public interface IContentService extends IService<CmsContent> {
 	 */
 	public String getContentLink(CmsContent content, int pageIndex, String publishPipeCode, boolean isPreview);
 
+	/**
+	 * 获取内容链接，使用已查询的站点及栏目数据
+	 *
+	 * @param site
+	 * @param catalog
+	 * @param content
+	 * @param publishPipeCode
+	 * @param isPreview
+	 * @return
+	 */
+	public String getContentLink(CmsSite site, CmsCatalog catalog, CmsContent content, int pageIndex,
+								 String publishPipeCode, boolean isPreview);
+
 	/**
 	 * 锁定内容
 	 * 
@@ -35,9 +35,10 @@ public interface IPublishService {
      *
      * @param site
      * @param contentStatus
+     * @param resume 是否跳过上次中断或失败的发布已完成的内容分区
      * @return
      */
-    AsyncTask publishAll(CmsSite site, final String contentStatus, final LoginUser operator);
+    AsyncTask publishAll(CmsSite site, final String contentStatus, final LoginUser operator, boolean resume);
 
     /**
      * 站点首页静态化<br/>
@@ -76,6 +77,15 @@ public interface IPublishService {
 
     void catalogStaticize(CmsCatalog catalog);
 
+    /**
+     * 发布栏目<br/>
+     * 同步方法，仅重新生成内容变更影响的列表页
+     *
+     * @param catalog
+     * @param changedContents 发布/下线的内容
+     */
+    void catalogStaticize(CmsCatalog catalog, List<CmsContent> changedContents);
+
     /**
      * 发布栏目<br/>
      * 同步方法，仅生成指定栏目各个发布通的静态文件
@@ -85,6 +95,14 @@ public interface IPublishService {
      */
     void catalogStaticize(CmsCatalog catalog, int pageMax);
 
+    /**
+     * 内容发布/下线后发布栏目，加入发布队列，仅重新生成内容变更影响的列表页
+     *
+     * @param catalog
+     * @param changedContents 发布/下线的内容
+     */
+    void asyncPublishCatalog(CmsCatalog catalog, List<CmsContent> changedContents);
+
     /**
      * 发布栏目，异步任务
      *
@@ -92,10 +110,11 @@ public interface IPublishService {
      * @param publishChild  是否发布子栏目
      * @param publishDetail 是否发布详情页
      * @param publishStatus 指定发布内容状态
+     * @param resume        是否跳过上次中断或失败的发布已完成的内容分区
      * @return
      */
     AsyncTask publishCatalog(CmsCatalog catalog, boolean publishChild, boolean publishDetail,
-                             String publishStatus, final LoginUser operator);
+                             String publishStatus, final LoginUser operator, boolean resume);
 
     /**
      * 获取内容模板页面结果
@@ -127,6 +146,22 @@ public interface IPublishService {
      */
     void publishContent(List<Long> contentIds, LoginUser operator) throws IOException, TemplateException;
 
+    /**
+     * 内容发布/下线后发布依赖其数据的栏目、站点首页及页面部件，加入发布队列
+     *
+     * @param changedContents 发布/下线的内容
+     */
+    void asyncPublishContentDependents(List<CmsContent> changedContents);
+
+    /**
+     * 内容发布/下线后发布依赖其数据的栏目、站点首页及页面部件<br/>
+     * 同步方法
+     *
+     * @param site
+     * @param changedContents 发布/下线的内容
+     */
+    void contentDependentsStaticize(CmsSite site, List<CmsContent> changedContents);
+
     /**
      * 内容异步静态化<br/>
      * 供栏目发布及站点发布调用
@@ -165,4 +200,11 @@ public interface IPublishService {
      * @param pageWidget
      */
     void pageWidgetStaticize(IPageWidget pageWidget);
+
+    /**
+     * 页面部件发布后发布嵌入该页面部件的栏目及站点首页，加入发布队列
+     *
+     * @param pageWidget
+     */
+    void asyncPublishPageWidgetDependents(CmsPageWidget pageWidget);
 }
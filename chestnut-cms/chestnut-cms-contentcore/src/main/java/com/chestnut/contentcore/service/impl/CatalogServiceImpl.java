@@ -8,6 +8,7 @@ import com.chestnut.common.async.AsyncTask;
 import com.chestnut.common.async.AsyncTaskManager;
 import com.chestnut.common.domain.TreeNode;
 import com.chestnut.common.exception.CommonErrorCode;
+import com.chestnut.common.redis.NearCache;
 import com.chestnut.common.redis.RedisCache;
 import com.chestnut.common.security.domain.LoginUser;
 import com.chestnut.common.staticize.core.TemplateContext;
@@ -70,19 +71,17 @@ public class CatalogServiceImpl extends ServiceImpl<CmsCatalogMapper, CmsCatalog
 
 	private final AsyncTaskManager asyncTaskManager;
 
+	private final NearCache<CmsCatalog> catalogNearCache;
+
+	private final NearCache<Long> catalogAliasNearCache;
+
 	@Override
 	public CmsCatalog getCatalog(Long catalogId) {
 		if (!IdUtils.validate(catalogId)) {
 			return null;
 		}
-		CmsCatalog catalog = this.redisCache.getCacheObject(CACHE_PREFIX_ID + catalogId);
-		if (Objects.isNull(catalog)) {
-			catalog = this.getById(catalogId);
-			if (Objects.nonNull(catalog)) {
-				this.setCatalogCache(catalog);
-			}
-		}
-		return catalog;
+		return this.catalogNearCache.get(String.valueOf(catalogId),
+				key -> this.redisCache.getCacheObject(CACHE_PREFIX_ID + catalogId, () -> this.getById(catalogId)));
 	}
 
 	@Override
@@ -91,12 +90,20 @@ public class CatalogServiceImpl extends ServiceImpl<CmsCatalogMapper, CmsCatalog
 			return null;
 		}
 		Assert.notNull(catalogAlias, () -> CommonErrorCode.NOT_EMPTY.exception("CatalogAlias: " + catalogAlias));
-		CmsCatalog catalog = this.redisCache.getCacheObject(CACHE_PREFIX_ALIAS + siteId + ":" + catalogAlias);
-		if (Objects.isNull(catalog)) {
+		// 一级缓存只记录别名对应的栏目ID，栏目数据从栏目ID缓存读取
+		Long catalogId = this.catalogAliasNearCache.get(siteId + ":" + catalogAlias, key -> {
+			CmsCatalog catalog = this.redisCache.getCacheObject(CACHE_PREFIX_ALIAS + siteId + ":" + catalogAlias,
+					() -> this.lambdaQuery().eq(CmsCatalog::getSiteId, siteId).eq(CmsCatalog::getAlias, catalogAlias).one());
+			return Objects.isNull(catalog) ? null : catalog.getCatalogId();
+		});
+		if (Objects.isNull(catalogId)) {
+			return null;
+		}
+		CmsCatalog catalog = this.getCatalog(catalogId);
+		if (Objects.isNull(catalog) || !siteId.equals(catalog.getSiteId()) || !catalogAlias.equals(catalog.getAlias())) {
+			// 栏目已删除或别名已修改
+			this.catalogAliasNearCache.invalidate(siteId + ":" + catalogAlias);
 			catalog = this.lambdaQuery().eq(CmsCatalog::getSiteId, siteId).eq(CmsCatalog::getAlias, catalogAlias).one();
-			if (Objects.nonNull(catalog)) {
-				this.setCatalogCache(catalog);
-			}
 		}
 		return catalog;
 	}
@@ -313,6 +320,8 @@ public class CatalogServiceImpl extends ServiceImpl<CmsCatalogMapper, CmsCatalog
 	public void clearCache(CmsCatalog catalog) {
 		this.redisCache.deleteObject(CACHE_PREFIX_ID + catalog.getCatalogId());
 		this.redisCache.deleteObject(CACHE_PREFIX_ALIAS + catalog.getSiteId() + ":" + catalog.getAlias());
+		this.catalogNearCache.invalidate(String.valueOf(catalog.getCatalogId()));
+		this.catalogAliasNearCache.invalidate(catalog.getSiteId() + ":" + catalog.getAlias());
 	}
 
 	private void setCatalogCache(CmsCatalog catalog) {
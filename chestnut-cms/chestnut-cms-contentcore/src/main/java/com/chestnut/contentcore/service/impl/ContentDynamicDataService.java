@@ -1,22 +1,34 @@
 package com.chestnut.contentcore.service.impl;
 
-import com.chestnut.common.redis.RedisCache;
 import com.chestnut.common.utils.IdUtils;
+import com.chestnut.contentcore.config.properties.CMSProperties;
 import com.chestnut.contentcore.domain.CmsContent;
 import com.chestnut.contentcore.domain.vo.ContentDynamicDataVO;
 import com.chestnut.contentcore.service.IContentService;
 import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
 
 /**
  * 内容动态数据服务类
+ * <p>
+ * 每个内容的动态数据保存在独立的Redis Hash中，计数通过Lua脚本原子执行HINCRBY并将内容ID加入待入库集合，
+ * 缓存不存在时从数据库加载初始化后再计数。缓存设置有效期并在计数时刷新，不再访问的内容缓存过期后自动删除，
+ * 再次访问时从数据库重新加载。定时任务从待入库集合批量取出内容ID，按批生成多行更新语句写入数据库，
+ * 失败时重试，重试后仍失败的内容ID放回待入库集合。
+ * </p>
  *
  * @author 兮玥
  * @email 190785909@qq.com
@@ -27,123 +39,264 @@ import java.util.concurrent.ConcurrentHashMap;
 public class ContentDynamicDataService {
 
     /**
-     * 内容浏览次数缓存KEY
+     * 内容动态数据缓存KEY前缀，后接内容ID
      */
-    private static final String CONTENT_DYNAMIC_DATA_CACHE = "cms:content:dynamic";
+    private static final String CONTENT_DYNAMIC_DATA_CACHE = "cms:content:dynamic:";
+
+    /**
+     * 待入库内容ID集合
+     */
+    private static final String CONTENT_DYNAMIC_DIRTY_CACHE = "cms:content:dynamic_dirty";
+
+    private static final String FIELD_FAVORITES = "favorites";
+
+    private static final String FIELD_LIKES = "likes";
+
+    private static final String FIELD_COMMENTS = "comments";
+
+    private static final String FIELD_VIEWS = "views";
+
+    private static final String FIELD_CONTRIBUTOR = "contributorId";
+
+    private static final List<Object> FIELDS = List.of(FIELD_FAVORITES, FIELD_LIKES, FIELD_COMMENTS, FIELD_VIEWS,
+            FIELD_CONTRIBUTOR);
+
+    /**
+     * 计数：缓存不存在返回nil，否则HINCRBY、刷新有效期并加入待入库集合
+     */
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('exists', KEYS[1]) == 0 then return nil end
+            local value = redis.call('hincrby', KEYS[1], ARGV[1], ARGV[2])
+            redis.call('pexpire', KEYS[1], ARGV[4])
+            redis.call('sadd', KEYS[2], ARGV[3])
+            return value
+            """, Long.class);
+
+    /**
+     * 初始化：缓存不存在时写入所有字段并设置有效期，ARGV[1]为有效期（毫秒），其后为字段及值
+     */
+    private static final String INIT_SCRIPT = """
+            if redis.call('exists', KEYS[1]) == 0 then
+                redis.call('hset', KEYS[1], unpack(ARGV, 2))
+                redis.call('pexpire', KEYS[1], ARGV[1])
+            end
+            return 1
+            """;
 
     private final IContentService contentService;
 
-    private final RedisCache redisCache;
+    private final StringRedisTemplate redisTemplate;
 
-    private static final ConcurrentHashMap<Long, ContentDynamicDataVO> dynamicUpdates = new ConcurrentHashMap<>();
+    private final CMSProperties properties;
 
     public void increaseFavoriteCount(Long contentId) {
-        this.updateContentDynamicData(contentId, ContentDynamicDataVO.DynamicDataType.Favorite, true);
+        this.updateContentDynamicData(contentId, FIELD_FAVORITES, 1);
     }
 
     public void decreaseFavoriteCount(Long contentId) {
-        this.updateContentDynamicData(contentId, ContentDynamicDataVO.DynamicDataType.Favorite, false);
+        this.updateContentDynamicData(contentId, FIELD_FAVORITES, -1);
     }
 
     public void increaseCommentCount(Long contentId) {
-        this.updateContentDynamicData(contentId, ContentDynamicDataVO.DynamicDataType.Comment, true);
+        this.updateContentDynamicData(contentId, FIELD_COMMENTS, 1);
     }
 
     public void decreaseCommentCount(Long contentId) {
-        this.updateContentDynamicData(contentId, ContentDynamicDataVO.DynamicDataType.Comment, false);
+        this.updateContentDynamicData(contentId, FIELD_COMMENTS, -1);
     }
 
     public void increaseLikeCount(Long contentId) {
-        this.updateContentDynamicData(contentId, ContentDynamicDataVO.DynamicDataType.Like, true);
+        this.updateContentDynamicData(contentId, FIELD_LIKES, 1);
     }
 
     public void decreaseLikeCount(Long contentId) {
-        this.updateContentDynamicData(contentId, ContentDynamicDataVO.DynamicDataType.Like, false);
+        this.updateContentDynamicData(contentId, FIELD_LIKES, -1);
     }
 
     public void increaseViewCount(Long contentId) {
-        this.updateContentDynamicData(contentId, ContentDynamicDataVO.DynamicDataType.View, true);
+        this.updateContentDynamicData(contentId, FIELD_VIEWS, 1);
     }
 
+    /**
+     * 批量获取内容动态数据，缓存不存在的内容一次性从数据库加载后批量写入缓存，结果按参数顺序返回
+     */
     public List<ContentDynamicDataVO> getContentDynamicDataList(List<String> contentIds) {
         if (contentIds.isEmpty()) {
             return List.of();
         }
-        List<ContentDynamicDataVO> values = new ArrayList<>(contentIds.size());
-        List<String> findContentIds = new ArrayList<>();
-        this.redisCache.getMultiCacheMapValue(CONTENT_DYNAMIC_DATA_CACHE, contentIds).forEach(o -> {
-            if (o != null) {
-                ContentDynamicDataVO vo = (ContentDynamicDataVO) o;
-                values.add(vo);
-                findContentIds.add(vo.getContentId().toString());
-            }
-        });
-        contentIds.forEach(contentId -> {
-            if (!findContentIds.contains(contentId)) {
-                CmsContent content = this.contentService.getById(contentId);
-                if (content != null) {
-                    ContentDynamicDataVO data = new ContentDynamicDataVO(content);
-                    this.redisCache.setCacheMapValue(CONTENT_DYNAMIC_DATA_CACHE, contentId, data);
-                    values.add(data);
-                }
-            }
-        });
-        return values;
+        List<Long> ids = contentIds.stream().filter(NumberUtils::isDigits).map(Long::valueOf).distinct().toList();
+        Map<Long, ContentDynamicDataVO> values = this.getCachedData(ids);
+        List<Long> findContentIds = ids.stream().filter(id -> !values.containsKey(id)).toList();
+        if (!findContentIds.isEmpty()) {
+            List<ContentDynamicDataVO> loaded = this.contentService.listByIds(findContentIds).stream()
+                    .map(ContentDynamicDataVO::new).toList();
+            this.initCache(loaded);
+            loaded.forEach(data -> values.put(data.getContentId(), data));
+        }
+        return ids.stream().map(values::get).filter(Objects::nonNull).toList();
     }
 
     public ContentDynamicDataVO getContentDynamicData(Long contentId) {
         if (!IdUtils.validate(contentId)) {
             return null;
         }
-        ContentDynamicDataVO data = this.redisCache.getCacheMapValue(CONTENT_DYNAMIC_DATA_CACHE, contentId.toString());
+        ContentDynamicDataVO data = this.getCachedData(List.of(contentId)).get(contentId);
         if (data == null) {
             CmsContent content = this.contentService.getById(contentId);
             if (content != null) {
                 data = new ContentDynamicDataVO(content);
-                this.redisCache.setCacheMapValue(CONTENT_DYNAMIC_DATA_CACHE, contentId.toString(), data);
+                this.initCache(List.of(data));
             }
         }
         return data;
     }
 
     /**
-     * 更新内容动态数据缓存
+     * 原子更新内容动态数据缓存并记录待入库
      *
-     * @param contentId
-     * @param type
-     * @return
+     * @param contentId 内容ID
+     * @param field     字段
+     * @param delta     增量
      */
-    private void updateContentDynamicData(Long contentId, ContentDynamicDataVO.DynamicDataType type, boolean increase) {
+    private void updateContentDynamicData(Long contentId, String field, long delta) {
         if (!IdUtils.validate(contentId)) {
             return;
         }
-        ContentDynamicDataVO data = this.getContentDynamicData(contentId);
-        if (increase) {
-            data.increase(type);
-        } else {
-            data.decrease(type);
+        List<String> keys = List.of(CONTENT_DYNAMIC_DATA_CACHE + contentId, CONTENT_DYNAMIC_DIRTY_CACHE);
+        String expire = String.valueOf(this.getCacheExpireMillis());
+        Long value = this.redisTemplate.execute(INCREMENT_SCRIPT, keys, field, String.valueOf(delta),
+                contentId.toString(), expire);
+        if (value == null && this.getContentDynamicData(contentId) != null) {
+            this.redisTemplate.execute(INCREMENT_SCRIPT, keys, field, String.valueOf(delta), contentId.toString(),
+                    expire);
         }
-        this.redisCache.setCacheMapValue(CONTENT_DYNAMIC_DATA_CACHE, contentId.toString(), data);
-        dynamicUpdates.put(contentId, data);
     }
 
     /**
-     * 每5分钟更新记录的动态数据缓存到数据库
+     * 通过管道批量读取缓存
      */
-    public void saveDynamicDataToDB() {
-        dynamicUpdates.keys().asIterator().forEachRemaining(contentId -> {
-            ContentDynamicDataVO data = dynamicUpdates.remove(contentId);
+    private Map<Long, ContentDynamicDataVO> getCachedData(List<Long> contentIds) {
+        Map<Long, ContentDynamicDataVO> values = new HashMap<>(contentIds.size());
+        if (contentIds.isEmpty()) {
+            return values;
+        }
+        List<Object> results = this.redisTemplate.executePipelined(new SessionCallback<Object>() {
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) {
+                contentIds.forEach(contentId -> operations.opsForHash()
+                        .multiGet(CONTENT_DYNAMIC_DATA_CACHE + contentId, FIELDS));
+                return null;
+            }
+        });
+        for (int i = 0; i < contentIds.size(); i++) {
+            ContentDynamicDataVO data = toData(contentIds.get(i), (List<?>) results.get(i));
             if (data != null) {
-                this.contentService.lambdaUpdate().set(CmsContent::getFavoriteCount, data.getFavorites())
-                        .set(CmsContent::getLikeCount, data.getLikes())
-                        .set(CmsContent::getCommentCount, data.getComments())
-                        .set(CmsContent::getViewCount, data.getViews())
-                        .eq(CmsContent::getContentId, data.getContentId())
-                        .update();
+                values.put(contentIds.get(i), data);
             }
+        }
+        return values;
+    }
+
+    /**
+     * 通过管道批量初始化缓存，已存在的缓存不覆盖
+     */
+    private void initCache(List<ContentDynamicDataVO> list) {
+        if (list.isEmpty()) {
+            return;
+        }
+        byte[] script = INIT_SCRIPT.getBytes(StandardCharsets.UTF_8);
+        byte[] expire = String.valueOf(this.getCacheExpireMillis()).getBytes(StandardCharsets.UTF_8);
+        this.redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            list.forEach(data -> {
+                List<byte[]> keysAndArgs = new ArrayList<>();
+                keysAndArgs.add((CONTENT_DYNAMIC_DATA_CACHE + data.getContentId()).getBytes(StandardCharsets.UTF_8));
+                keysAndArgs.add(expire);
+                addField(keysAndArgs, FIELD_FAVORITES, data.getFavorites());
+                addField(keysAndArgs, FIELD_LIKES, data.getLikes());
+                addField(keysAndArgs, FIELD_COMMENTS, data.getComments());
+                addField(keysAndArgs, FIELD_VIEWS, data.getViews());
+                addField(keysAndArgs, FIELD_CONTRIBUTOR, data.getContributorId());
+                connection.scriptingCommands().eval(script, ReturnType.INTEGER, 1, keysAndArgs.toArray(byte[][]::new));
+            });
+            return null;
         });
     }
 
+    private long getCacheExpireMillis() {
+        return Math.max(1000, this.properties.getDynamicData().getCacheExpire().toMillis());
+    }
+
+    private static void addField(List<byte[]> keysAndArgs, String field, Long value) {
+        keysAndArgs.add(field.getBytes(StandardCharsets.UTF_8));
+        keysAndArgs.add(String.valueOf(Objects.requireNonNullElse(value, 0L)).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static ContentDynamicDataVO toData(Long contentId, List<?> values) {
+        if (values == null || values.stream().allMatch(Objects::isNull)) {
+            return null;
+        }
+        ContentDynamicDataVO data = new ContentDynamicDataVO();
+        data.setContentId(contentId);
+        data.setFavorites(NumberUtils.toLong((String) values.get(0)));
+        data.setLikes(NumberUtils.toLong((String) values.get(1)));
+        data.setComments(NumberUtils.toLong((String) values.get(2)));
+        data.setViews(NumberUtils.toLong((String) values.get(3)));
+        data.setContributorId(NumberUtils.toLong((String) values.get(4)));
+        return data;
+    }
+
+    /**
+     * 将待入库的动态数据批量更新到数据库
+     */
+    public void saveDynamicDataToDB() {
+        CMSProperties.DynamicData config = this.properties.getDynamicData();
+        int batchSize = Math.max(1, config.getFlushBatchSize());
+        long total = 0;
+        while (true) {
+            List<String> ids = this.redisTemplate.opsForSet().pop(CONTENT_DYNAMIC_DIRTY_CACHE, batchSize);
+            if (ids == null || ids.isEmpty()) {
+                break;
+            }
+            List<Long> contentIds = ids.stream().map(Long::valueOf).toList();
+            List<ContentDynamicDataVO> list = new ArrayList<>(this.getCachedData(contentIds).values());
+            if (!list.isEmpty() && !this.batchUpdate(list, config)) {
+                // 放回待入库集合，下次任务继续更新
+                this.redisTemplate.opsForSet().add(CONTENT_DYNAMIC_DIRTY_CACHE, ids.toArray(String[]::new));
+                log.error("Update content dynamic data failed, {} contents will retry next time.", ids.size());
+                break;
+            }
+            total += list.size();
+            if (ids.size() < batchSize) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("Update content dynamic data to database: {}", total);
+        }
+    }
+
+    private boolean batchUpdate(List<ContentDynamicDataVO> list, CMSProperties.DynamicData config) {
+        for (int i = 0; i <= config.getFlushRetries(); i++) {
+            try {
+                this.contentService.getContentMapper().batchUpdateDynamicData(list);
+                return true;
+            } catch (Exception e) {
+                log.warn("Batch update content dynamic data failed, retry: {}", i, e);
+                if (i < config.getFlushRetries()) {
+                    try {
+                        Thread.sleep(config.getFlushRetryInterval().toMillis());
+                    } catch (InterruptedException ie) {
+                        Thread.currentThread().interrupt();
+                        return false;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
     @PreDestroy
     public void preDestroy() {
         log.info("Update content dynamic data to database.");
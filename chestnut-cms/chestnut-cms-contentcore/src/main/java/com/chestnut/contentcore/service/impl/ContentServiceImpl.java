@@ -149,6 +149,20 @@ public class ContentServiceImpl extends ServiceImpl<CmsContentMapper, CmsContent
 		}
 		CmsSite site = this.siteService.getSite(content.getSiteId());
 		CmsCatalog catalog = this.catalogService.getCatalog(content.getCatalogId());
+		return this.getContentLink(site, catalog, content, pageIndex, publishPipeCode, false);
+	}
+
+	@Override
+	public String getContentLink(CmsSite site, CmsCatalog catalog, CmsContent content, int pageIndex,
+								 String publishPipeCode, boolean isPreview) {
+		if (content.isLinkContent()) {
+			return InternalUrlUtils.getActualUrl(content.getRedirectUrl(), publishPipeCode, isPreview);
+		}
+		if (isPreview) {
+			String previewPath = IInternalDataType.getPreviewPath(InternalDataType_Content.ID, content.getContentId(),
+					publishPipeCode, pageIndex);
+			return BackendContext.getValue() + previewPath;
+		}
 		if (catalog.isStaticize()) {
 			String contentPath = content.getStaticPath();
 			if (StringUtils.isEmpty(contentPath)) {
@@ -1,29 +1,43 @@
 package com.chestnut.contentcore.service.impl;
 
+import com.chestnut.common.redis.NearCache;
 import com.chestnut.common.staticize.StaticizeService;
 import com.chestnut.common.staticize.core.TemplateContext;
 import com.chestnut.common.utils.ServletUtils;
+import com.chestnut.common.utils.StringUtils;
 import com.chestnut.contentcore.core.IDynamicPageType;
 import com.chestnut.contentcore.domain.CmsSite;
+import com.chestnut.contentcore.listener.event.AfterCatalogDeleteEvent;
+import com.chestnut.contentcore.listener.event.AfterCatalogMoveEvent;
+import com.chestnut.contentcore.listener.event.AfterCatalogSaveEvent;
+import com.chestnut.contentcore.listener.event.AfterTemplateChangeEvent;
 import com.chestnut.contentcore.service.IPublishPipeService;
 import com.chestnut.contentcore.service.ISiteService;
 import com.chestnut.contentcore.service.ITemplateService;
+import com.chestnut.contentcore.template.DynamicPageSkeleton;
 import com.chestnut.contentcore.util.SiteUtils;
 import com.chestnut.contentcore.util.TemplateUtils;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.output.NullWriter;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.StringWriter;
 import java.nio.charset.Charset;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
 /**
- * <TODO description class purpose>
+ * 动态页面生成
+ * <p>
+ * 动态页面类型声明缓存参数且模板包含动态区块时，公共部分按模板版本缓存，每次请求只解析动态区块。
+ * </p>
  *
  * @author 兮玥
  * @email 190785909@qq.com
@@ -43,6 +57,8 @@ public class DynamicPageService {
 
     private final StaticizeService staticizeService;
 
+    private final NearCache<DynamicPageSkeleton> dynamicPageNearCache;
+
     private IDynamicPageType getDynamicPageType(String type) {
         return dynamicPageTypeMap.get(IDynamicPageType.BEAN_PREFIX + type);
     }
@@ -72,20 +88,72 @@ public class DynamicPageService {
             // 生成静态页面
             // 模板ID = 通道:站点目录:模板文件名
             String templateKey = SiteUtils.getTemplateKey(site, publishPipeCode, template);
-            TemplateContext templateContext = new TemplateContext(templateKey, preview, publishPipeCode);
-            // init template datamode
-            TemplateUtils.initGlobalVariables(site, templateContext);
-            // init templateType data to datamode
-            templateContext.getVariables().put("Request", ServletUtils.getParameters());
-            dpt.initTemplateData(parameters, templateContext);
-            // staticize
-            this.staticizeService.process(templateContext, response.getWriter());
-            log.debug("会员登录页模板解析，耗时：{} ms", System.currentTimeMillis() - s);
+            List<String> cacheParameters = dpt.getCacheParameters();
+            if (preview || Objects.isNull(cacheParameters)) {
+                TemplateContext templateContext = this.createTemplateContext(site, templateKey, publishPipeCode, preview, dpt, parameters);
+                this.staticizeService.process(templateContext, response.getWriter());
+            } else {
+                String cacheKey = this.getSkeletonCacheKey(site, publishPipeCode, dpt, templateFile, cacheParameters, parameters);
+                DynamicPageSkeleton skeleton = this.dynamicPageNearCache.getIfPresent(cacheKey);
+                if (Objects.isNull(skeleton)) {
+                    StringWriter writer = new StringWriter();
+                    TemplateContext templateContext = this.createTemplateContext(site, templateKey, publishPipeCode, false, dpt, parameters);
+                    templateContext.setRegionMode(TemplateContext.RegionMode.SKELETON);
+                    this.staticizeService.process(templateContext, writer);
+                    // 存在嵌套在其他标签内的区块时无法只解析区块，按无区块处理每次完整渲染
+                    skeleton = templateContext.isNestedRegion() ? DynamicPageSkeleton.NO_REGION
+                            : DynamicPageSkeleton.parse(writer.toString());
+                    this.dynamicPageNearCache.put(cacheKey, skeleton);
+                }
+                TemplateContext templateContext = this.createTemplateContext(site, templateKey, publishPipeCode, false, dpt, parameters);
+                if (skeleton.hasRegions()) {
+                    // 只解析动态区块，公共部分使用缓存
+                    templateContext.setRegionMode(TemplateContext.RegionMode.REGION);
+                    this.staticizeService.process(templateContext, NullWriter.INSTANCE);
+                    skeleton.write(response.getWriter(), templateContext.getRegionContents());
+                } else {
+                    this.staticizeService.process(templateContext, response.getWriter());
+                }
+            }
+            log.debug("动态页面[{}]模板解析，耗时：{} ms", dynamicPageType, System.currentTimeMillis() - s);
         } catch (Exception e) {
             this.catchException(SiteUtils.getSiteLink(site, publishPipeCode, preview), response, e);
         }
     }
 
+    private TemplateContext createTemplateContext(CmsSite site, String templateKey, String publishPipeCode,
+                                                  boolean preview, IDynamicPageType dpt, Map<String, String> parameters) {
+        TemplateContext templateContext = new TemplateContext(templateKey, preview, publishPipeCode);
+        // init template datamode
+        TemplateUtils.initGlobalVariables(site, templateContext);
+        // init templateType data to datamode
+        templateContext.getVariables().put("Request", ServletUtils.getParameters());
+        dpt.initTemplateData(parameters, templateContext);
+        return templateContext;
+    }
+
+    /**
+     * 公共部分缓存键：站点:发布通道:动态页面类型:模板文件修改时间:站点更新时间:缓存参数值
+     */
+    private String getSkeletonCacheKey(CmsSite site, String publishPipeCode, IDynamicPageType dpt, File templateFile,
+                                       List<String> cacheParameters, Map<String, String> parameters) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(site.getSiteId()).append(":").append(publishPipeCode).append(":").append(dpt.getType())
+                .append(":").append(templateFile.lastModified())
+                .append(":").append(Objects.requireNonNullElse(site.getUpdateTime(), StringUtils.EMPTY));
+        cacheParameters.forEach(name -> sb.append(":").append(parameters.get(name)));
+        return sb.toString();
+    }
+
+    /**
+     * 模板或栏目变更后清空公共部分缓存，模板修改时间及站点变更已体现在缓存键中，此处处理包含模板及导航变化
+     */
+    @EventListener({ AfterTemplateChangeEvent.class, AfterCatalogSaveEvent.class, AfterCatalogDeleteEvent.class,
+            AfterCatalogMoveEvent.class })
+    public void onSkeletonChange() {
+        this.dynamicPageNearCache.invalidateAll();
+    }
+
     private void catchException(String redirectLink, HttpServletResponse response, Exception e) throws IOException {
         if (log.isDebugEnabled()) {
             e.printStackTrace(response.getWriter());
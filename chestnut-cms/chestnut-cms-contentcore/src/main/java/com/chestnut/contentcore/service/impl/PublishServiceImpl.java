@@ -1,12 +1,12 @@
 package com.chestnut.contentcore.service.impl;
 
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
-import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import com.chestnut.common.async.AsyncTask;
 import com.chestnut.common.async.AsyncTaskManager;
 import com.chestnut.common.security.domain.LoginUser;
 import com.chestnut.common.staticize.StaticizeService;
 import com.chestnut.common.staticize.core.TemplateContext;
+import com.chestnut.common.staticize.core.TemplateDataCache;
 import com.chestnut.common.utils.Assert;
 import com.chestnut.common.utils.StringUtils;
 import com.chestnut.common.utils.file.FileExUtils;
@@ -14,6 +14,7 @@ import com.chestnut.contentcore.config.CMSPublishConfig;
 import com.chestnut.contentcore.core.IContent;
 import com.chestnut.contentcore.core.IContentType;
 import com.chestnut.contentcore.core.IPageWidget;
+import com.chestnut.contentcore.core.IPageWidgetType;
 import com.chestnut.contentcore.core.IPublishPipeProp;
 import com.chestnut.contentcore.core.impl.*;
 import com.chestnut.contentcore.domain.*;
@@ -21,8 +22,14 @@ import com.chestnut.contentcore.enums.ContentCopyType;
 import com.chestnut.contentcore.exception.ContentCoreErrorCode;
 import com.chestnut.contentcore.listener.event.AfterContentPublishEvent;
 import com.chestnut.contentcore.properties.MaxPageOnContentPublishProperty;
+import com.chestnut.contentcore.publish.CatalogListPageTracker;
+import com.chestnut.contentcore.publish.CatalogListPageTracker.PageWindow;
 import com.chestnut.contentcore.publish.CatalogPublishTask;
+import com.chestnut.contentcore.publish.ContentPartitionPublisher;
 import com.chestnut.contentcore.publish.ContentPublishTask;
+import com.chestnut.contentcore.publish.PublishDependencyIndex;
+import com.chestnut.contentcore.publish.PublishDependencyIndex.Dependents;
+import com.chestnut.contentcore.publish.PublishTaskCoalescer;
 import com.chestnut.contentcore.publish.SitePublishTask;
 import com.chestnut.contentcore.service.*;
 import com.chestnut.contentcore.template.ITemplateType;
@@ -69,6 +76,8 @@ public class PublishServiceImpl implements IPublishService, ApplicationContextAw
 
 	private final AsyncTaskManager asyncTaskManager;
 
+	private final ContentPartitionPublisher contentPartitionPublisher;
+
 	private ApplicationContext applicationContext;
 
 	@Override
@@ -91,14 +100,14 @@ public class PublishServiceImpl implements IPublishService, ApplicationContextAw
 		List<CmsPublishPipe> publishPipes = this.publishPipeService.getPublishPipes(site.getSiteId());
 		Assert.isTrue(!publishPipes.isEmpty(), ContentCoreErrorCode.NO_PUBLISHPIPE::exception);
 
-		Map<String, String> data = Map.of("type", SitePublishTask.Type, "id", site.getSiteId().toString());
-		redisTemplate.opsForStream().add(MapRecord.create(CMSPublishConfig.PublishStreamName, data));
+		this.asyncPublishSite(site);
 
 //		this.siteStaticize(site);
 	}
 
 	@Override
-	public AsyncTask publishAll(CmsSite site, final String contentStatus, final LoginUser operator) {
+	public AsyncTask publishAll(CmsSite site, final String contentStatus, final LoginUser operator,
+								boolean resume) {
 		AsyncTask asyncTask = new AsyncTask() {
 
 			@Override
@@ -115,40 +124,8 @@ public class PublishServiceImpl implements IPublishService, ApplicationContextAw
 
 				List<CmsCatalog> catalogList = catalogService
 						.list(new LambdaQueryWrapper<CmsCatalog>().eq(CmsCatalog::getSiteId, site.getSiteId()));
-				for (CmsCatalog catalog : catalogList) {
-					// 先发布内容
-					int pageSize = 100;
-					long lastContentId = 0L;
-					long total = contentService.lambdaQuery().eq(CmsContent::getCatalogId, catalog.getCatalogId())
-							.eq(CmsContent::getStatus, contentStatus)
-							.ne(CmsContent::getLinkFlag, YesOrNo.YES)
-							.count();
-					int count = 1;
-					while (true) {
-						LambdaQueryWrapper<CmsContent> q = new LambdaQueryWrapper<CmsContent>()
-								.eq(CmsContent::getCatalogId, catalog.getCatalogId())
-								.eq(CmsContent::getStatus, contentStatus)
-								.ne(CmsContent::getLinkFlag, YesOrNo.YES)
-								.gt(CmsContent::getContentId, lastContentId)
-								.orderByAsc(CmsContent::getContentId);
-						Page<CmsContent> page = contentService.page(new Page<>(0, pageSize, false), q);
-						for (CmsContent xContent : page.getRecords()) {
-							this.setProgressInfo((int) (count * 100 / total),
-									"正在发布内容：" + catalog.getName() + "[" + count + " / " + total + "]");
-							lastContentId = xContent.getContentId();
-							IContentType contentType = ContentCoreUtils.getContentType(xContent.getContentType());
-							IContent<?> content = contentType.newContent();
-							content.setContentEntity(xContent);
-							content.setOperator(operator);
-							content.publish();
-							this.checkInterrupt();
-							count++;
-						}
-						if (page.getRecords().size() < pageSize) {
-							break;
-						}
-					}
-				}
+				// 先发布内容
+				contentPartitionPublisher.publish(this, catalogList, contentStatus, operator, resume);
 				// 发布栏目
 				for (int i = 0; i < catalogList.size(); i++) {
 					CmsCatalog catalog = catalogList.get(i);
@@ -171,27 +148,39 @@ public class PublishServiceImpl implements IPublishService, ApplicationContextAw
 
 	private final StringRedisTemplate redisTemplate;
 
+	private final PublishTaskCoalescer publishTaskCoalescer;
+
+	private final CatalogListPageTracker catalogListPageTracker;
+
+	private final PublishDependencyIndex publishDependencyIndex;
+
+	private final IPageWidgetService pageWidgetService;
+
 	private void asyncPublishSite(CmsSite site) {
-		Map<String, String> data = Map.of("type", SitePublishTask.Type, "id", site.getSiteId().toString());
-		redisTemplate.opsForStream().add(MapRecord.create(CMSPublishConfig.PublishStreamName, data));
+		this.publishTaskCoalescer.submit(SitePublishTask.Type, site.getSiteId());
 	}
 
 	@Override
 	public void siteStaticize(CmsSite site) {
+		// 各发布通道共享标签数据
+		TemplateDataCache dataCache = new TemplateDataCache();
 		this.publishPipeService.getPublishPipes(site.getSiteId())
-				.forEach(pp -> doSiteStaticize(site, pp.getCode()));
+				.forEach(pp -> doSiteStaticize(site, pp.getCode(), dataCache));
 	}
 
-	private void doSiteStaticize(CmsSite site, String publishPipeCode) {
+	private void doSiteStaticize(CmsSite site, String publishPipeCode, TemplateDataCache dataCache) {
 		try {
 			AsyncTaskManager
 					.setTaskMessage(StringUtils.messageFormat("[{0}]正在发布站点首页：{1}", publishPipeCode, site.getName()));
 			TemplateContext templateContext = this.generateSiteTemplateContext(site, publishPipeCode, false);
+			templateContext.setDataCache(dataCache);
 
 			long s = System.currentTimeMillis();
 			templateContext.setDirectory(SiteUtils.getSiteRoot(site, publishPipeCode));
 			templateContext.setFirstFileName("index" + StringUtils.DOT + site.getStaticSuffix(publishPipeCode));
 			this.staticizeService.process(templateContext);
+			this.publishDependencyIndex.record(PublishDependencyIndex.siteTarget(site.getSiteId(), publishPipeCode),
+					templateContext.getDependencies());
 			logger.debug("[{}]首页模板解析：{}，耗时：{}ms", publishPipeCode, site.getName(), (System.currentTimeMillis() - s));
 		} catch (Exception e) {
 			logger.error(AsyncTaskManager.addErrMessage(StringUtils.messageFormat("[{0}][{1}]站点首页解析失败：{2}",
@@ -267,7 +256,7 @@ public class PublishServiceImpl implements IPublishService, ApplicationContextAw
 
 	@Override
 	public AsyncTask publishCatalog(CmsCatalog catalog, boolean publishChild, boolean publishDetail,
-			final String publishStatus, final LoginUser operator) {
+			final String publishStatus, final LoginUser operator, boolean resume) {
 		List<CmsPublishPipe> publishPipes = publishPipeService.getPublishPipes(catalog.getSiteId());
 		Assert.isTrue(!publishPipes.isEmpty(), ContentCoreErrorCode.NO_PUBLISHPIPE::exception);
 
@@ -288,39 +277,7 @@ public class PublishServiceImpl implements IPublishService, ApplicationContextAw
 				}
 				// 先发布内容
 				if (publishDetail) {
-					for (CmsCatalog catalog : catalogs) {
-						int pageSize = 100;
-						long lastContentId = 0L;
-						long total = contentService.lambdaQuery().eq(CmsContent::getCatalogId, catalog.getCatalogId())
-								.eq(CmsContent::getStatus, publishStatus)
-								.ne(CmsContent::getLinkFlag, YesOrNo.YES)
-								.count();
-						int count = 1;
-						while (true) {
-							LambdaQueryWrapper<CmsContent> q = new LambdaQueryWrapper<CmsContent>()
-									.eq(CmsContent::getCatalogId, catalog.getCatalogId())
-									.eq(CmsContent::getStatus, publishStatus)
-									.ne(CmsContent::getLinkFlag, YesOrNo.YES)
-									.gt(CmsContent::getContentId, lastContentId)
-									.orderByAsc(CmsContent::getContentId);
-							Page<CmsContent> page = contentService.page(new Page<>(0, pageSize, false), q);
-							for (CmsContent xContent : page.getRecords()) {
-								this.setProgressInfo((int) (count * 100 / total),
-										"正在发布内容：" + catalog.getName() + "[" + count + " / " + total + "]");
-								lastContentId = xContent.getContentId();
-								IContentType contentType = ContentCoreUtils.getContentType(xContent.getContentType());
-								IContent<?> content = contentType.newContent();
-								content.setContentEntity(xContent);
-								content.setOperator(operator);
-								content.publish();
-								this.checkInterrupt();
-								count++;
-							}
-							if (page.getRecords().size() < pageSize) {
-								break;
-							}
-						}
-					}
+					contentPartitionPublisher.publish(this, catalogs, publishStatus, operator, resume);
 				}
 				// 发布栏目
 				for (int i = 0; i < catalogs.size(); i++) {
@@ -343,15 +300,25 @@ public class PublishServiceImpl implements IPublishService, ApplicationContextAw
 	}
 
 	public void asyncPublishCatalog(final CmsCatalog catalog) {
-		Map<String, String> data = Map.of("type", CatalogPublishTask.Type, "id", catalog.getCatalogId().toString());
-		redisTemplate.opsForStream().add(MapRecord.create(CMSPublishConfig.PublishStreamName, data));
+		this.catalogListPageTracker.markFull(catalog.getCatalogId());
+		this.publishTaskCoalescer.submit(CatalogPublishTask.Type, catalog.getCatalogId());
+	}
+
+	@Override
+	public void asyncPublishCatalog(final CmsCatalog catalog, List<CmsContent> changedContents) {
+		this.catalogListPageTracker.markDirty(catalog, changedContents);
+		this.publishTaskCoalescer.submit(CatalogPublishTask.Type, catalog.getCatalogId());
 	}
 
 	@Override
 	public void catalogStaticize(CmsCatalog catalog) {
-		CmsSite site = this.siteService.getSite(catalog.getSiteId());
-		int maxPage = MaxPageOnContentPublishProperty.getValue(site.getConfigProps());
-		this.catalogStaticize(catalog, maxPage);
+		// 发布任务消费时读取内容变更标记的列表页范围，无标记时完整发布
+		this.catalogStaticize(catalog, this.catalogListPageTracker.pollDirtyWindows(catalog.getCatalogId()));
+	}
+
+	@Override
+	public void catalogStaticize(CmsCatalog catalog, List<CmsContent> changedContents) {
+		this.catalogStaticize(catalog, this.catalogListPageTracker.computeDirtyWindows(catalog, changedContents));
 	}
 
 	@Override
@@ -360,12 +327,46 @@ public class PublishServiceImpl implements IPublishService, ApplicationContextAw
 			return;
 		}
 		List<CmsPublishPipe> publishPipes = this.publishPipeService.getPublishPipes(catalog.getSiteId());
+		TemplateDataCache dataCache = new TemplateDataCache();
 		for (CmsPublishPipe pp : publishPipes) {
-			this.doCatalogStaticize(catalog, pp.getCode(), pageMax);
+			this.doCatalogStaticize(catalog, pp.getCode(), 1, pageMax, dataCache);
 		}
 	}
 
-	private void doCatalogStaticize(CmsCatalog catalog, String publishPipeCode, int pageMax) {
+	/**
+	 * 按发布通道列表页范围静态化栏目
+	 *
+	 * @param windows 发布通道编码 -> 列表页范围，为null或不包含的发布通道完整发布
+	 */
+	private void catalogStaticize(CmsCatalog catalog, Map<String, PageWindow> windows) {
+		if (!catalog.isStaticize() || !catalog.isVisible() || CatalogType_Link.ID.equals(catalog.getCatalogType())) {
+			return;
+		}
+		CmsSite site = this.siteService.getSite(catalog.getSiteId());
+		int maxPage = MaxPageOnContentPublishProperty.getValue(site.getConfigProps());
+		List<CmsPublishPipe> publishPipes = this.publishPipeService.getPublishPipes(catalog.getSiteId());
+		// 各发布通道共享标签数据
+		TemplateDataCache dataCache = new TemplateDataCache();
+		for (CmsPublishPipe pp : publishPipes) {
+			PageWindow window = Objects.isNull(windows) ? null : windows.get(pp.getCode());
+			if (Objects.isNull(window)) {
+				this.doCatalogStaticize(catalog, pp.getCode(), 1, maxPage, dataCache);
+			} else {
+				this.doCatalogStaticize(catalog, pp.getCode(), window.fromPage(), window.getMaxPageNo(maxPage),
+						dataCache);
+			}
+		}
+	}
+
+	/**
+	 * 栏目静态化
+	 *
+	 * @param fromPage 列表页起始页码，小于1时不生成列表页
+	 * @param pageMax 列表页最大页码，小于1时不限制
+	 * @param dataCache 发布任务标签数据缓存
+	 */
+	private void doCatalogStaticize(CmsCatalog catalog, String publishPipeCode, int fromPage, int pageMax,
+									TemplateDataCache dataCache) {
 		CmsSite site = this.siteService.getSite(catalog.getSiteId());
 		if (!catalog.isStaticize()) {
 			logger.warn("【{}】未启用静态化的栏目跳过静态化：{}", publishPipeCode, catalog.getName());
@@ -396,12 +397,16 @@ public class PublishServiceImpl implements IPublishService, ApplicationContextAw
 		FileExUtils.mkdirs(dirPath);
 		String staticSuffix = site.getStaticSuffix(publishPipeCode); // 静态化文件类型
 
+		// 栏目首页及列表页均生成成功时更新栏目数据依赖
+		Set<String> dependencies = new HashSet<>();
+		boolean complete = true;
 		// 发布栏目首页
 		long s = System.currentTimeMillis();
 		if (Objects.nonNull(indexTemplateFile)) {
 			try {
 				String templateKey = SiteUtils.getTemplateKey(site, publishPipeCode, indexTemplate);
 				TemplateContext templateContext = new TemplateContext(templateKey, false, publishPipeCode);
+				templateContext.setDataCache(dataCache);
 				templateContext.setDirectory(dirPath);
 				templateContext.setFirstFileName("index" + StringUtils.DOT + staticSuffix);
 				// init template variables
@@ -411,18 +416,24 @@ public class PublishServiceImpl implements IPublishService, ApplicationContextAw
 				templateType.initTemplateData(catalog.getCatalogId(), templateContext);
 				// staticize
 				this.staticizeService.process(templateContext);
+				dependencies.addAll(templateContext.getDependencies());
 				logger.debug("[{}]栏目首页模板解析：{}，耗时：{}ms", publishPipeCode, catalog.getCatalogId() + "#" + catalog.getName(), (System.currentTimeMillis() - s));
 			} catch (IOException | TemplateException e) {
+				complete = false;
 				logger.error(AsyncTaskManager.addErrMessage(StringUtils.messageFormat("[{0}]栏目首页解析失败：{1}",
 						publishPipeCode, catalog.getCatalogId() + "#" + catalog.getName())), e);
 			}
 		}
 		// 发布栏目列表页
-		if (Objects.nonNull(listTemplateFile)) {
+		if (Objects.nonNull(listTemplateFile) && (fromPage < 1 || (pageMax > 0 && fromPage > pageMax))) {
+			complete = false; // 未生成列表页，保留原依赖
+		} else if (Objects.nonNull(listTemplateFile)) {
 			s = System.currentTimeMillis();
 			try {
 				String templateKey = SiteUtils.getTemplateKey(site, publishPipeCode, listTemplate);
 				TemplateContext templateContext = new TemplateContext(templateKey, false, publishPipeCode);
+				templateContext.setDataCache(dataCache);
+				templateContext.setPageIndex(fromPage);
 				templateContext.setMaxPageNo(pageMax);
 				templateContext.setDirectory(dirPath);
 				String name = Objects.nonNull(indexTemplateFile) ? "list" : "index";
@@ -436,12 +447,19 @@ public class PublishServiceImpl implements IPublishService, ApplicationContextAw
 				templateType.initTemplateData(catalog.getCatalogId(), templateContext);
 				// staticize
 				this.staticizeService.process(templateContext);
+				this.catalogListPageTracker.recordListPage(catalog, publishPipeCode, templateContext);
+				dependencies.addAll(templateContext.getDependencies());
 				logger.debug("[{}]栏目列表模板解析：{}，耗时：{}ms", publishPipeCode, catalog.getCatalogId() + "#" + catalog.getName(), (System.currentTimeMillis() - s));
 			} catch (Exception e1) {
+				complete = false;
 				logger.error(AsyncTaskManager.addErrMessage(StringUtils.messageFormat("[{0}]栏目列表页解析失败：{1}",
 						publishPipeCode, catalog.getCatalogId() + "#" + catalog.getName())), e1);
 			}
 		}
+		if (complete) {
+			this.publishDependencyIndex.record(PublishDependencyIndex.catalogTarget(catalog.getCatalogId(), publishPipeCode),
+					dependencies);
+		}
 	}
 
 	private String getDetailTemplate(CmsSite site, CmsCatalog catalog, CmsContent content, String publishPipeCode) {
@@ -512,39 +530,74 @@ public class PublishServiceImpl implements IPublishService, ApplicationContextAw
 		}
 		asyncTaskManager.execute(() -> {
 			// 发布内容
-			Set<Long> catalogIds = new HashSet<>();
+			List<CmsContent> publishedContents = new ArrayList<>();
 			for (CmsContent cmsContent : list) {
 				IContentType contentType = ContentCoreUtils.getContentType(cmsContent.getContentType());
 				IContent<?> content = contentType.loadContent(cmsContent);
 				content.setOperator(operator);
 
-				catalogIds.add(cmsContent.getCatalogId());
+				publishedContents.add(content.getContentEntity());
 				if (content.publish()) {
 					applicationContext.publishEvent(new AfterContentPublishEvent(contentType, content));
 				}
 			}
-			// 发布关联栏目：内容所属栏目及其所有父级栏目
-			Map<Long, CmsCatalog> catalogMap = new HashMap<>();
-			catalogIds.forEach(catalogId -> {
-				CmsCatalog catalog = catalogService.getCatalog(catalogId);
-				catalogMap.put(catalog.getCatalogId(), catalog);
-				long parentId = catalog.getParentId();
-				while (parentId > 0) {
-					CmsCatalog parent = catalogService.getCatalog(parentId);
-					if (parent == null) {
-						break;
-					}
-					catalogMap.put(parent.getCatalogId(), parent);
-					parentId = parent.getParentId();
-				}
-			});
-			CmsSite site = siteService.getSite(list.get(0).getSiteId());
-			catalogMap.values().forEach(this::asyncPublishCatalog);
-			// 发布站点首页
-			asyncPublishSite(site);
+			// 发布依赖内容数据的栏目、站点首页及页面部件
+			this.asyncPublishContentDependents(publishedContents);
 		});
 	}
 
+	@Override
+	public void asyncPublishContentDependents(List<CmsContent> changedContents) {
+		if (changedContents.isEmpty()) {
+			return;
+		}
+		CmsSite site = this.siteService.getSite(changedContents.get(0).getSiteId());
+		Dependents dependents = this.resolveContentDependents(site, changedContents);
+		for (Long catalogId : dependents.catalogIds()) {
+			CmsCatalog catalog = this.catalogService.getCatalog(catalogId);
+			if (Objects.nonNull(catalog)) {
+				this.asyncPublishCatalog(catalog, changedContents);
+			}
+		}
+		dependents.pageWidgetIds().forEach(this::pageWidgetStaticize);
+		if (dependents.site()) {
+			this.asyncPublishSite(site);
+		}
+	}
+
+	@Override
+	public void contentDependentsStaticize(CmsSite site, List<CmsContent> changedContents) {
+		if (changedContents.isEmpty()) {
+			return;
+		}
+		Dependents dependents = this.resolveContentDependents(site, changedContents);
+		for (Long catalogId : dependents.catalogIds()) {
+			CmsCatalog catalog = this.catalogService.getCatalog(catalogId);
+			if (Objects.nonNull(catalog)) {
+				this.catalogStaticize(catalog, changedContents);
+			}
+		}
+		dependents.pageWidgetIds().forEach(this::pageWidgetStaticize);
+		if (dependents.site()) {
+			this.siteStaticize(site);
+		}
+	}
+
+	/**
+	 * 查找内容变更影响的页面，内容所属栏目及其上级栏目未建立依赖索引时视为受影响
+	 */
+	private Dependents resolveContentDependents(CmsSite site, List<CmsContent> changedContents) {
+		Set<String> dependencies = new HashSet<>();
+		Set<Long> catalogIds = new LinkedHashSet<>();
+		for (CmsContent content : changedContents) {
+			dependencies.addAll(PublishDependencyIndex.ofContent(content));
+			for (String catalogId : StringUtils.split(content.getCatalogAncestors(), CatalogUtils.ANCESTORS_SPLITER)) {
+				catalogIds.add(Long.valueOf(catalogId));
+			}
+		}
+		return this.publishDependencyIndex.resolve(site.getSiteId(), dependencies, catalogIds, true);
+	}
+
 	@Override
 	public void asyncPublishContent(IContent<?> content) {
 		CmsCatalog catalog = this.catalogService.getCatalog(content.getCatalogId());
@@ -573,15 +626,16 @@ public class PublishServiceImpl implements IPublishService, ApplicationContextAw
 	@Override
 	public void contentStaticize(CmsContent cmsContent) {
 		List<CmsPublishPipe> publishPipes = publishPipeService.getPublishPipes(cmsContent.getSiteId());
-		// 发布内容
+		// 发布内容，各发布通道共享标签数据
+		TemplateDataCache dataCache = new TemplateDataCache();
 		for (CmsPublishPipe pp : publishPipes) {
-			doContentStaticize(cmsContent, pp.getCode());
+			doContentStaticize(cmsContent, pp.getCode(), dataCache);
 			// 内容扩展模板静态化
-			doContentExStaticize(cmsContent, pp.getCode());
+			doContentExStaticize(cmsContent, pp.getCode(), dataCache);
 		}
 	}
 
-	private void doContentStaticize(CmsContent content, String publishPipeCode) {
+	private void doContentStaticize(CmsContent content, String publishPipeCode, TemplateDataCache dataCache) {
 		CmsSite site = this.siteService.getSite(content.getSiteId());
 		CmsCatalog catalog = this.catalogService.getCatalog(content.getCatalogId());
 		if (!catalog.isStaticize()) {
@@ -603,6 +657,7 @@ public class PublishServiceImpl implements IPublishService, ApplicationContextAw
 			// 自定义模板上下文
 			String templateKey = SiteUtils.getTemplateKey(site, publishPipeCode, detailTemplate);
 			TemplateContext templateContext = new TemplateContext(templateKey, false, publishPipeCode);
+			templateContext.setDataCache(dataCache);
 			// init template datamode
 			TemplateUtils.initGlobalVariables(site, templateContext);
 			// init templateType data to datamode
@@ -679,7 +734,7 @@ public class PublishServiceImpl implements IPublishService, ApplicationContextAw
 		}
 	}
 
-	private void doContentExStaticize(CmsContent content, String publishPipeCode) {
+	private void doContentExStaticize(CmsContent content, String publishPipeCode, TemplateDataCache dataCache) {
 		CmsSite site = this.siteService.getSite(content.getSiteId());
 		CmsCatalog catalog = this.catalogService.getCatalog(content.getCatalogId());
 		if (!catalog.isStaticize()) {
@@ -703,6 +758,7 @@ public class PublishServiceImpl implements IPublishService, ApplicationContextAw
 			// 自定义模板上下文
 			String templateKey = SiteUtils.getTemplateKey(site, publishPipeCode, exTemplate);
 			TemplateContext templateContext = new TemplateContext(templateKey, false, publishPipeCode);
+			templateContext.setDataCache(dataCache);
 			// init template datamode
 			TemplateUtils.initGlobalVariables(site, templateContext);
 			// init templateType data to datamode
@@ -753,6 +809,32 @@ public class PublishServiceImpl implements IPublishService, ApplicationContextAw
 		}
 	}
 
+	public void asyncPublishPageWidgetDependents(CmsPageWidget pageWidget) {
+		String dependency = PublishDependencyIndex.pageWidget(pageWidget.getSiteId(), pageWidget.getCode());
+		Dependents dependents = this.publishDependencyIndex.resolve(pageWidget.getSiteId(), Set.of(dependency),
+				List.of(), false);
+		for (Long catalogId : dependents.catalogIds()) {
+			CmsCatalog catalog = this.catalogService.getCatalog(catalogId);
+			if (Objects.nonNull(catalog)) {
+				this.asyncPublishCatalog(catalog);
+			}
+		}
+		if (dependents.site()) {
+			this.asyncPublishSite(this.siteService.getSite(pageWidget.getSiteId()));
+		}
+	}
+
+	private void pageWidgetStaticize(Long pageWidgetId) {
+		CmsPageWidget pw = this.pageWidgetService.getById(pageWidgetId);
+		if (Objects.isNull(pw)) {
+			return;
+		}
+		IPageWidgetType pwt = this.pageWidgetService.getPageWidgetType(pw.getType());
+		if (Objects.nonNull(pwt)) {
+			this.pageWidgetStaticize(pwt.loadPageWidget(pw));
+		}
+	}
+
 	@Override
 	public void pageWidgetStaticize(IPageWidget pageWidget) {
 		long s = System.currentTimeMillis();
@@ -778,6 +860,8 @@ public class PublishServiceImpl implements IPublishService, ApplicationContextAw
 			templateType.initTemplateData(site.getSiteId(), templateContext);
 			// staticize
 			this.staticizeService.process(templateContext);
+			this.publishDependencyIndex.record(PublishDependencyIndex.pageWidgetTarget(pw.getPageWidgetId()),
+					templateContext.getDependencies());
 			logger.debug("[{}]页面部件模板解析：{}，耗时：{}ms", pw.getPublishPipeCode(), pw.getCode(), System.currentTimeMillis() - s);
 		} catch (TemplateException | IOException e) {
 			logger.error(AsyncTaskManager.addErrMessage(StringUtils.messageFormat("[{0}]页面部件模板解析失败：{1}#{2}",
@@ -3,6 +3,7 @@ package com.chestnut.contentcore.service.impl;
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
 import com.chestnut.common.async.AsyncTaskManager;
 import com.chestnut.common.exception.CommonErrorCode;
+import com.chestnut.common.redis.NearCache;
 import com.chestnut.common.redis.RedisCache;
 import com.chestnut.common.security.domain.LoginUser;
 import com.chestnut.common.utils.*;
@@ -56,15 +57,15 @@ public class SiteServiceImpl extends ServiceImpl<CmsSiteMapper, CmsSite> impleme
 
 	private final RedisCache redisCache;
 
+	private final NearCache<CmsSite> siteNearCache;
+
 	@Override
 	public CmsSite getSite(Long siteId) {
-		CmsSite site = this.redisCache.getCacheObject(CACHE_PREFIX + siteId);
-		if (Objects.isNull(site)) {
-			site = this.getById(siteId);
+		return this.siteNearCache.get(String.valueOf(siteId), key -> this.redisCache.getCacheObject(CACHE_PREFIX + siteId, () -> {
+			CmsSite site = this.getById(siteId);
 			Assert.notNull(site, () -> CommonErrorCode.DATA_NOT_FOUND_BY_ID.exception("siteId", siteId));
-			this.redisCache.setCacheObject(CACHE_PREFIX + siteId, site);
-		}
-		return site;
+			return site;
+		}));
 	}
 
 	@Override
@@ -202,5 +203,6 @@ public class SiteServiceImpl extends ServiceImpl<CmsSiteMapper, CmsSite> impleme
 	@Override
 	public void clearCache(long siteId) {
 		this.redisCache.deleteObject(CACHE_PREFIX + siteId);
+		this.siteNearCache.invalidate(String.valueOf(siteId));
 	}
 }
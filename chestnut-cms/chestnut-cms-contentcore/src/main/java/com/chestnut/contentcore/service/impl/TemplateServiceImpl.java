@@ -7,12 +7,14 @@ import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 import com.chestnut.common.security.domain.LoginUser;
 import com.chestnut.common.utils.IdUtils;
 import com.chestnut.contentcore.util.TemplateUtils;
 import org.apache.commons.io.FileUtils;
+import org.springframework.context.ApplicationContext;
 import org.springframework.stereotype.Service;
 
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
@@ -30,6 +32,7 @@ import com.chestnut.contentcore.domain.dto.TemplateRenameDTO;
 import com.chestnut.contentcore.domain.dto.TemplateUpdateDTO;
 import com.chestnut.contentcore.exception.ContentCoreErrorCode;
 import com.chestnut.contentcore.fixed.config.TemplateSuffix;
+import com.chestnut.contentcore.listener.event.AfterTemplateChangeEvent;
 import com.chestnut.contentcore.mapper.CmsTemplateMapper;
 import com.chestnut.contentcore.service.IPublishPipeService;
 import com.chestnut.contentcore.service.ISiteService;
@@ -54,6 +57,8 @@ public class TemplateServiceImpl extends ServiceImpl<CmsTemplateMapper, CmsTempl
 
 	private final ISiteService siteService;
 
+	private final ApplicationContext applicationContext;
+
 	@Override
 	public String getTemplateStaticContentCache(String templateId) {
 		return this.redisCache.getCacheObject(TEMPLATE_STATIC_CONTENT_CACHE_KEY_PREFIX + templateId);
@@ -68,6 +73,14 @@ public class TemplateServiceImpl extends ServiceImpl<CmsTemplateMapper, CmsTempl
 	@Override
 	public void clearTemplateStaticContentCache(String templateId) {
 		this.redisCache.deleteObject(TEMPLATE_STATIC_CONTENT_CACHE_KEY_PREFIX + templateId);
+		// 带参数的区块缓存：templateId?params
+		String pattern = TEMPLATE_STATIC_CONTENT_CACHE_KEY_PREFIX
+				+ templateId.replaceAll("([*?\\[\\]\\\\])", "\\\\$1") + "\\?*";
+		Set<String> keys = this.redisCache.scanKeys(pattern, 100);
+		if (!keys.isEmpty()) {
+			this.redisCache.deleteObject(keys);
+		}
+		this.applicationContext.publishEvent(new AfterTemplateChangeEvent(this, templateId));
 	}
 
 	@Override
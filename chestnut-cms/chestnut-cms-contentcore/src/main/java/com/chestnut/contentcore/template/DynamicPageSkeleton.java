@@ -0,0 +1,91 @@
+package com.chestnut.contentcore.template;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 动态页面公共部分
+ * <p>
+ * 模板以公共部分模式渲染后，动态区块位置输出占位符，解析为静态片段与区块名称交替的列表。
+ * 输出时按区块名称填充每次请求渲染的区块内容。
+ * </p>
+ *
+ * @author 兮玥
+ * @email 190785909@qq.com
+ */
+public class DynamicPageSkeleton {
+
+	private static final String PLACEHOLDER_PREFIX = "<!--cms_dynamic_region:";
+
+	private static final String PLACEHOLDER_SUFFIX = "-->";
+
+	private static final Pattern PLACEHOLDER_PATTERN = Pattern.compile(Pattern.quote(PLACEHOLDER_PREFIX)
+			+ "(.+?)" + Pattern.quote(PLACEHOLDER_SUFFIX));
+
+	/**
+	 * 无动态区块的页面，不缓存内容，只记录结果避免重复解析公共部分
+	 */
+	public static final DynamicPageSkeleton NO_REGION = new DynamicPageSkeleton(List.of(), List.of());
+
+	/**
+	 * 静态片段，数量比区块多一个
+	 */
+	private final List<String> fragments;
+
+	private final List<String> regions;
+
+	private DynamicPageSkeleton(List<String> fragments, List<String> regions) {
+		this.fragments = fragments;
+		this.regions = regions;
+	}
+
+	public static String placeholder(String regionName) {
+		return PLACEHOLDER_PREFIX + regionName + PLACEHOLDER_SUFFIX;
+	}
+
+	/**
+	 * 解析公共部分渲染结果
+	 */
+	public static DynamicPageSkeleton parse(String content) {
+		List<String> fragments = new ArrayList<>();
+		List<String> regions = new ArrayList<>();
+		Matcher matcher = PLACEHOLDER_PATTERN.matcher(content);
+		int start = 0;
+		while (matcher.find()) {
+			fragments.add(content.substring(start, matcher.start()));
+			regions.add(matcher.group(1));
+			start = matcher.end();
+		}
+		if (regions.isEmpty()) {
+			return NO_REGION;
+		}
+		fragments.add(content.substring(start));
+		return new DynamicPageSkeleton(List.copyOf(fragments), List.copyOf(regions));
+	}
+
+	public boolean hasRegions() {
+		return !this.regions.isEmpty();
+	}
+
+	/**
+	 * 输出页面内容
+	 *
+	 * @param regionContents 区块内容，未渲染的区块输出空
+	 */
+	public void write(Writer writer, Map<String, String> regionContents) throws IOException {
+		for (int i = 0; i < this.regions.size(); i++) {
+			writer.write(this.fragments.get(i));
+			String content = regionContents.get(this.regions.get(i));
+			if (Objects.nonNull(content)) {
+				writer.write(content);
+			}
+		}
+		writer.write(this.fragments.get(this.fragments.size() - 1));
+	}
+}
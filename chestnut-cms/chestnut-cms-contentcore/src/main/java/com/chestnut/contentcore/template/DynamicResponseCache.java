@@ -0,0 +1,295 @@
+package com.chestnut.contentcore.template;
+
+import com.chestnut.common.i18n.I18nUtils;
+import com.chestnut.common.redis.IMonitoredCache;
+import com.chestnut.common.redis.RedisCache;
+import com.chestnut.common.utils.IdUtils;
+import com.chestnut.contentcore.config.CMSConfig;
+import com.chestnut.contentcore.config.properties.CMSProperties;
+import com.chestnut.contentcore.listener.event.*;
+import freemarker.template.TemplateException;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 动态区块（/cms/ssi/virtual）及动态浏览（/cms/view）响应缓存
+ * <p>
+ * 缓存键由内置参数及模板配置的参数白名单生成，请求包含白名单外的参数时不缓存，避免任意参数生成大量缓存。
+ * 响应带ETag及Last-Modified，客户端条件请求命中时返回304。
+ * </p>
+ * <p>
+ * 缓存版本记录在Redis Hash中，分为全局版本、站点版本和动态浏览版本：模板变更时更新全局版本，站点保存时更新站点版本；
+ * 内容发布/下线/删除、栏目变更只标记站点，按间隔合并更新站点版本及动态浏览版本（动态浏览请求无法提前确定站点），
+ * 批量发布时不会每条内容都使缓存失效。
+ * </p>
+ *
+ * @author 兮玥
+ * @email 190785909@qq.com
+ */
+@Slf4j
+@Component
+public class DynamicResponseCache implements IMonitoredCache {
+
+	private static final String VERSION_GLOBAL = "global";
+
+	private static final String VERSION_VIEW = "view";
+
+	private final RedisCache redisCache;
+
+	private final CMSProperties properties;
+
+	/**
+	 * 待更新缓存版本的站点
+	 */
+	private final Set<Long> dirtySites = ConcurrentHashMap.newKeySet();
+
+	private final ScheduledExecutorService scheduler;
+
+	private final LongAdder hits = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	private final LongAdder notModified = new LongAdder();
+
+	private final LongAdder invalidations = new LongAdder();
+
+	private final LongAdder uncacheableParams = new LongAdder();
+
+	public DynamicResponseCache(RedisCache redisCache, CMSProperties properties) {
+		this.redisCache = redisCache;
+		this.properties = properties;
+		this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+			Thread thread = new Thread(r, "cms-response-cache-version");
+			thread.setDaemon(true);
+			return thread;
+		});
+		long interval = Math.max(100, properties.getResponseCache().getVersionInterval().toMillis());
+		this.scheduler.scheduleWithFixedDelay(this::flushVersions, interval, interval, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * 输出响应内容，缓存不存在时调用renderer生成
+	 *
+	 * @param siteId      站点ID，为空时为动态浏览请求，使用动态浏览缓存版本
+	 * @param template    模板标识，用于匹配缓存时长及参数白名单配置
+	 * @param keyParams   内置参数，全部参与缓存键
+	 * @param requestParams 请求参数，只有模板参数白名单中的参数参与缓存键，包含其他参数时不缓存
+	 * @param renderer    响应内容生成
+	 */
+	public void write(Long siteId, String template, Map<String, ?> keyParams, Map<String, ?> requestParams,
+					  HttpServletRequest request, HttpServletResponse response, Renderer renderer)
+			throws IOException, TemplateException {
+		CMSProperties.ResponseCache config = this.properties.getResponseCache();
+		Duration ttl = config.getTtl(template);
+		if (!config.isEnable() || ttl.isZero() || ttl.isNegative()) {
+			response.getWriter().write(renderer.render());
+			return;
+		}
+		List<String> allowedParams = config.getParams(template);
+		Map<String, Object> params = new TreeMap<>(keyParams);
+		for (Map.Entry<String, ?> e : requestParams.entrySet()) {
+			if (keyParams.containsKey(e.getKey())) {
+				continue;
+			}
+			if (!allowedParams.contains(e.getKey())) {
+				this.uncacheableParams.increment();
+				response.getWriter().write(renderer.render());
+				return;
+			}
+			params.put(e.getKey(), e.getValue());
+		}
+		String cacheKey = this.getCacheKey() + this.buildKey(siteId, template, params);
+		CachedResponse cached = this.redisCache.getCacheObject(cacheKey);
+		if (Objects.isNull(cached)) {
+			this.misses.increment();
+			String content = renderer.render();
+			cached = new CachedResponse();
+			cached.setContent(content);
+			cached.setEtag("\"" + DigestUtils.md5DigestAsHex(content.getBytes(StandardCharsets.UTF_8)) + "\"");
+			cached.setLastModified(System.currentTimeMillis());
+			if (content.length() <= config.getMaxContentLength()) {
+				this.redisCache.setCacheObject(cacheKey, cached, ttl.toSeconds(), TimeUnit.SECONDS);
+			}
+		} else {
+			this.hits.increment();
+		}
+		if (new ServletWebRequest(request, response).checkNotModified(cached.getEtag(), cached.getLastModified())) {
+			this.notModified.increment();
+			return;
+		}
+		response.getWriter().write(cached.getContent());
+	}
+
+	/**
+	 * 缓存键：站点ID:MD5(缓存版本|模板|排序后的参数)
+	 */
+	private String buildKey(Long siteId, String template, Map<String, Object> params) {
+		List<String> fields = List.of(VERSION_GLOBAL, Objects.isNull(siteId) ? VERSION_VIEW : siteId.toString());
+		List<Object> versions = this.redisCache.getMultiCacheMapValue(this.getVersionCacheKey(), fields);
+		StringBuilder sb = new StringBuilder();
+		versions.forEach(v -> sb.append(v).append("|"));
+		sb.append(template);
+		params.forEach((k, v) -> sb.append("&").append(k).append("=").append(v));
+		String digest = DigestUtils.md5DigestAsHex(sb.toString().getBytes(StandardCharsets.UTF_8));
+		return Objects.requireNonNullElse(siteId, 0L) + ":" + digest;
+	}
+
+	/**
+	 * 立即更新缓存版本，旧版本缓存不再命中，到期后自动删除
+	 *
+	 * @param siteId 站点ID，为空时更新全局版本
+	 */
+	public void invalidate(Long siteId) {
+		String version = IdUtils.simpleUUID();
+		Map<String, String> versions = new HashMap<>();
+		if (Objects.isNull(siteId)) {
+			versions.put(VERSION_GLOBAL, version);
+		} else {
+			versions.put(siteId.toString(), version);
+			versions.put(VERSION_VIEW, version);
+		}
+		this.redisCache.setCacheMap(this.getVersionCacheKey(), versions);
+		this.invalidations.increment();
+	}
+
+	/**
+	 * 标记站点缓存失效，按间隔合并更新版本
+	 */
+	public void markDirty(Long siteId) {
+		if (Objects.nonNull(siteId)) {
+			this.dirtySites.add(siteId);
+		}
+	}
+
+	void flushVersions() {
+		try {
+			if (this.dirtySites.isEmpty()) {
+				return;
+			}
+			String version = IdUtils.simpleUUID();
+			Map<String, String> versions = new HashMap<>();
+			for (Iterator<Long> it = this.dirtySites.iterator(); it.hasNext(); ) {
+				versions.put(it.next().toString(), version);
+				it.remove();
+			}
+			versions.put(VERSION_VIEW, version);
+			this.redisCache.setCacheMap(this.getVersionCacheKey(), versions);
+			this.invalidations.increment();
+		} catch (Exception e) {
+			log.error("Update response cache version failed.", e);
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		this.scheduler.shutdown();
+		this.flushVersions();
+	}
+
+	@EventListener
+	public void afterContentPublish(AfterContentPublishEvent event) {
+		this.markDirty(event.getContent().getSiteId());
+	}
+
+	@EventListener
+	public void afterContentOffline(AfterContentOfflineEvent event) {
+		this.markDirty(event.getContent().getSiteId());
+	}
+
+	@EventListener
+	public void afterContentDelete(AfterContentDeleteEvent event) {
+		this.markDirty(event.getContent().getSiteId());
+	}
+
+	@EventListener
+	public void afterCatalogSave(AfterCatalogSaveEvent event) {
+		this.markDirty(event.getCatalog().getSiteId());
+	}
+
+	@EventListener
+	public void afterCatalogDelete(AfterCatalogDeleteEvent event) {
+		this.markDirty(event.getCatalog().getSiteId());
+	}
+
+	@EventListener
+	public void afterCatalogMove(AfterCatalogMoveEvent event) {
+		this.markDirty(event.getFromCatalog().getSiteId());
+	}
+
+	@EventListener
+	public void afterSiteSave(AfterSiteSaveEvent event) {
+		this.invalidate(event.getSite().getSiteId());
+	}
+
+	@EventListener
+	public void afterTemplateChange(AfterTemplateChangeEvent event) {
+		this.invalidate(null);
+	}
+
+	private String getVersionCacheKey() {
+		return CMSConfig.CachePrefix + "response_version";
+	}
+
+	@Override
+	public String getCacheKey() {
+		return CMSConfig.CachePrefix + "response:";
+	}
+
+	@Override
+	public String getCacheName() {
+		return I18nUtils.get("{MONITORED.CACHE.CMS_RESPONSE}");
+	}
+
+	@Override
+	public Map<String, Object> getCacheStats() {
+		long hitCount = this.hits.sum();
+		long missCount = this.misses.sum();
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("hits", hitCount);
+		stats.put("misses", missCount);
+		stats.put("hitRate", hitCount + missCount == 0 ? 0 : hitCount * 100.0 / (hitCount + missCount));
+		stats.put("notModified", this.notModified.sum());
+		stats.put("invalidations", this.invalidations.sum());
+		stats.put("uncacheableParams", this.uncacheableParams.sum());
+		stats.put("pendingInvalidations", this.dirtySites.size());
+		return stats;
+	}
+
+	/**
+	 * 响应内容生成
+	 */
+	@FunctionalInterface
+	public interface Renderer {
+
+		String render() throws IOException, TemplateException;
+	}
+
+	@Getter
+	@Setter
+	public static class CachedResponse {
+
+		private String content;
+
+		private String etag;
+
+		private long lastModified;
+	}
+}
@@ -0,0 +1,243 @@
+package com.chestnut.contentcore.template;
+
+import com.chestnut.common.i18n.I18nUtils;
+import com.chestnut.common.redis.IMonitoredCache;
+import com.chestnut.common.redis.NearCache;
+import com.chestnut.common.redis.NearCacheManager;
+import com.chestnut.common.redis.RedisCache;
+import com.chestnut.contentcore.config.CMSConfig;
+import com.chestnut.contentcore.config.properties.CMSPublishProperties;
+import com.chestnut.contentcore.domain.CmsSite;
+import com.chestnut.contentcore.listener.event.AfterTemplateChangeEvent;
+import com.chestnut.contentcore.service.ITemplateService;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 包含模板（cms_include）静态化内容进程内缓存
+ * <p>
+ * 缓存键为包含模板Key及参数，位于Redis缓存之前。缓存数据记录生成时的模板文件修改时间及站点版本（站点更新时间），
+ * 读取时二者任一变化视为失效。模板文件修改时间按检查间隔缓存，避免每次包含都访问文件系统。
+ * 模板保存/删除时通过{@link NearCache}通知所有节点清空缓存。
+ * </p>
+ * <p>
+ * 生成时的模板文件修改时间及站点版本同时写入Redis，本地缓存未命中而Redis命中时校验一致后才放入本地缓存，
+ * 无法校验时只返回内容。读取Redis或生成内容前记录失效版本，期间发生清空时不放入本地缓存。
+ * </p>
+ *
+ * @author 兮玥
+ * @email 190785909@qq.com
+ */
+@Component
+public class IncludeFragmentCache implements IMonitoredCache {
+
+	/**
+	 * 包含模板静态化内容Redis缓存键前缀，与ITemplateService一致
+	 */
+	private static final String CONTENT_CACHE_PREFIX = CMSConfig.CachePrefix + "template:";
+
+	/**
+	 * 包含模板静态化内容生成时的模板文件修改时间及站点版本，后接缓存键
+	 */
+	private static final String STAMP_CACHE_PREFIX = CMSConfig.CachePrefix + "include_stamp:";
+
+	/**
+	 * Redis缓存有效期（小时），与ITemplateService一致
+	 */
+	private static final long REDIS_EXPIRE_HOURS = 24;
+
+	private final ITemplateService templateService;
+
+	private final RedisCache redisCache;
+
+	private final CMSPublishProperties properties;
+
+	private final NearCache<Fragment> fragments;
+
+	/**
+	 * 文件修改时间缓存，key为文件绝对路径
+	 */
+	private final Map<String, FileStamp> fileStamps = new ConcurrentHashMap<>();
+
+	private final LongAdder templateChanged = new LongAdder();
+
+	private final LongAdder siteChanged = new LongAdder();
+
+	private final LongAdder fileChecks = new LongAdder();
+
+	private final LongAdder redisHits = new LongAdder();
+
+	private final LongAdder redisStale = new LongAdder();
+
+	private final LongAdder redisUnverified = new LongAdder();
+
+	public IncludeFragmentCache(ITemplateService templateService, RedisCache redisCache,
+								CMSPublishProperties properties, NearCacheManager nearCacheManager) {
+		this.templateService = templateService;
+		this.redisCache = redisCache;
+		this.properties = properties;
+		this.fragments = nearCacheManager.create("cms_include", "{MONITORED.CACHE.CMS_INCLUDE}",
+				this.getCacheKey(), null);
+	}
+
+	/**
+	 * 获取包含模板静态化内容，本地缓存失效时读取Redis缓存，模板文件变更后不读取Redis缓存
+	 *
+	 * @param site         站点
+	 * @param cacheKey     缓存键：包含模板Key?参数
+	 * @param templateFile 包含模板文件
+	 * @param staticFile   SSI静态文件，不为空时文件不存在视为缓存失效
+	 * @return 缓存内容，不存在或已失效返回null
+	 */
+	public String get(CmsSite site, String cacheKey, File templateFile, File staticFile) {
+		if (Objects.nonNull(staticFile) && this.getFileStamp(staticFile) == 0) {
+			return null;
+		}
+		if (!this.properties.getIncludeCache().isEnable()) {
+			return this.templateService.getTemplateStaticContentCache(cacheKey);
+		}
+		long templateStamp = this.getFileStamp(templateFile);
+		long siteVersion = getSiteVersion(site);
+		Fragment fragment = this.fragments.getIfPresent(cacheKey);
+		if (Objects.nonNull(fragment)) {
+			if (fragment.templateStamp() == templateStamp && fragment.siteVersion() == siteVersion) {
+				return fragment.content();
+			}
+			// 模板或站点已变更，Redis缓存同样过期，需重新生成
+			if (fragment.templateStamp() != templateStamp) {
+				this.templateChanged.increment();
+			} else {
+				this.siteChanged.increment();
+			}
+			return null;
+		}
+		long version = this.fragments.getVersion();
+		List<String> values = this.redisCache.getMultiCacheObject(List.of(CONTENT_CACHE_PREFIX + cacheKey,
+				STAMP_CACHE_PREFIX + cacheKey));
+		String content = values.get(0);
+		if (Objects.isNull(content)) {
+			return null;
+		}
+		String stamp = values.get(1);
+		if (Objects.isNull(stamp)) {
+			// 其他方式写入的缓存无法校验，不放入本地缓存
+			this.redisUnverified.increment();
+			return content;
+		}
+		if (!stamp.equals(toStamp(templateStamp, siteVersion))) {
+			this.redisStale.increment();
+			return null;
+		}
+		this.redisHits.increment();
+		this.fragments.put(cacheKey, new Fragment(content, templateStamp, siteVersion), version);
+		return content;
+	}
+
+	/**
+	 * 当前失效版本，生成包含模板内容前获取，写入缓存时传入{@link #put}
+	 */
+	public long getVersion() {
+		return this.fragments.getVersion();
+	}
+
+	/**
+	 * 缓存包含模板静态化内容
+	 *
+	 * @param staticFile 已写入的SSI静态文件，可为空
+	 * @param version    生成内容前通过{@link #getVersion()}获取的失效版本，生成期间发生失效时不放入本地缓存
+	 */
+	public void put(CmsSite site, String cacheKey, File templateFile, File staticFile, String content, long version) {
+		if (Objects.nonNull(staticFile)) {
+			this.fileStamps.put(staticFile.getAbsolutePath(), new FileStamp(staticFile.lastModified(),
+					System.currentTimeMillis()));
+		}
+		this.templateService.setTemplateStaticContentCache(cacheKey, content);
+		if (!this.properties.getIncludeCache().isEnable()) {
+			return;
+		}
+		long templateStamp = this.getFileStamp(templateFile);
+		long siteVersion = getSiteVersion(site);
+		// 内容先于版本写入，读取到新版本时内容必为新内容
+		this.redisCache.setCacheObject(STAMP_CACHE_PREFIX + cacheKey, toStamp(templateStamp, siteVersion),
+				REDIS_EXPIRE_HOURS, TimeUnit.HOURS);
+		this.fragments.put(cacheKey, new Fragment(content, templateStamp, siteVersion), version);
+	}
+
+	private static String toStamp(long templateStamp, long siteVersion) {
+		return templateStamp + ":" + siteVersion;
+	}
+
+	/**
+	 * 模板变更后清空所有节点缓存，包含模板可能被任意模板引用且带不同参数，不区分模板直接清空
+	 */
+	@EventListener
+	public void onTemplateChange(AfterTemplateChangeEvent event) {
+		this.invalidateAll();
+	}
+
+	public void invalidateAll() {
+		this.fileStamps.clear();
+		this.fragments.invalidateAll();
+	}
+
+	/**
+	 * 获取文件修改时间，文件不存在返回0，检查间隔内返回上次结果
+	 */
+	private long getFileStamp(File file) {
+		long now = System.currentTimeMillis();
+		long interval = this.properties.getIncludeCache().getFileCheckInterval().toMillis();
+		FileStamp stamp = this.fileStamps.get(file.getAbsolutePath());
+		if (Objects.isNull(stamp) || now - stamp.checkTime() >= interval) {
+			this.fileChecks.increment();
+			stamp = new FileStamp(file.lastModified(), now);
+			this.fileStamps.put(file.getAbsolutePath(), stamp);
+		}
+		return stamp.lastModified();
+	}
+
+	private static long getSiteVersion(CmsSite site) {
+		if (Objects.isNull(site.getUpdateTime())) {
+			return 0;
+		}
+		return site.getUpdateTime().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+	}
+
+	@Override
+	public String getCacheKey() {
+		return CONTENT_CACHE_PREFIX;
+	}
+
+	@Override
+	public String getCacheName() {
+		return I18nUtils.get("{MONITORED.CACHE.CMS_INCLUDE}");
+	}
+
+	@Override
+	public Map<String, Object> getCacheStats() {
+		Map<String, Object> stats = new LinkedHashMap<>(this.fragments.getCacheStats());
+		stats.put("redisHits", this.redisHits.sum());
+		stats.put("redisStale", this.redisStale.sum());
+		stats.put("redisUnverified", this.redisUnverified.sum());
+		stats.put("templateChanged", this.templateChanged.sum());
+		stats.put("siteChanged", this.siteChanged.sum());
+		stats.put("fileChecks", this.fileChecks.sum());
+		stats.put("trackedFiles", this.fileStamps.size());
+		return stats;
+	}
+
+	private record Fragment(String content, long templateStamp, long siteVersion) {
+	}
+
+	private record FileStamp(long lastModified, long checkTime) {
+	}
+}
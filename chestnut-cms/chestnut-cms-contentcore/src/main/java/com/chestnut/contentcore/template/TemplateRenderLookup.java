@@ -0,0 +1,85 @@
+package com.chestnut.contentcore.template;
+
+import com.chestnut.common.staticize.core.TemplateContext;
+import com.chestnut.contentcore.domain.CmsCatalog;
+import com.chestnut.contentcore.domain.CmsContent;
+import com.chestnut.contentcore.domain.CmsSite;
+import com.chestnut.contentcore.service.ICatalogService;
+import com.chestnut.contentcore.service.IContentService;
+import com.chestnut.contentcore.service.ISiteService;
+import com.chestnut.contentcore.util.CatalogUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 模板渲染范围内的站点、栏目及链接查询
+ * <p>
+ * 查询结果缓存在模板上下文中，同一次静态化过程中的模板标签及函数共享，避免重复读取Redis缓存。
+ * </p>
+ *
+ * @author 兮玥
+ * @email 190785909@qq.com
+ */
+@Component
+@RequiredArgsConstructor
+public class TemplateRenderLookup {
+
+    private final ISiteService siteService;
+
+    private final ICatalogService catalogService;
+
+    private final IContentService contentService;
+
+    public CmsSite getSite(TemplateContext context, Long siteId) {
+        return context.getRenderCache("site:" + siteId, () -> this.siteService.getSite(siteId));
+    }
+
+    public CmsCatalog getCatalog(TemplateContext context, Long catalogId) {
+        return context.getRenderCache("catalog:" + catalogId, () -> this.catalogService.getCatalog(catalogId));
+    }
+
+    public String getContentLink(TemplateContext context, CmsContent content, int pageIndex, String publishPipeCode) {
+        String cacheKey = "content_link:" + content.getContentId() + ":" + pageIndex + ":" + publishPipeCode;
+        return context.getRenderCache(cacheKey, () -> {
+            CmsSite site = this.getSite(context, content.getSiteId());
+            CmsCatalog catalog = this.getCatalog(context, content.getCatalogId());
+            return this.contentService.getContentLink(site, catalog, content, pageIndex, publishPipeCode,
+                    context.isPreview());
+        });
+    }
+
+    /**
+     * 批量获取内容链接
+     *
+     * @return 内容ID -> 链接
+     */
+    public Map<Long, String> getContentLinks(TemplateContext context, List<CmsContent> contents, int pageIndex,
+                                             String publishPipeCode) {
+        Map<Long, String> links = new HashMap<>(contents.size());
+        contents.forEach(c -> links.put(c.getContentId(), this.getContentLink(context, c, pageIndex, publishPipeCode)));
+        return links;
+    }
+
+    public String getCatalogLink(TemplateContext context, CmsCatalog catalog, int pageIndex, String publishPipeCode) {
+        String cacheKey = "catalog_link:" + catalog.getCatalogId() + ":" + pageIndex + ":" + publishPipeCode;
+        return context.getRenderCache(cacheKey, () -> {
+            CmsSite site = this.getSite(context, catalog.getSiteId());
+            return Objects.isNull(site) ? null
+                    : CatalogUtils.getCatalogLink(site, catalog, pageIndex, publishPipeCode, context.isPreview());
+        });
+    }
+
+    public String getCatalogListLink(TemplateContext context, CmsCatalog catalog, int pageIndex, String publishPipeCode) {
+        String cacheKey = "catalog_list_link:" + catalog.getCatalogId() + ":" + pageIndex + ":" + publishPipeCode;
+        return context.getRenderCache(cacheKey, () -> {
+            CmsSite site = this.getSite(context, catalog.getSiteId());
+            return Objects.isNull(site) ? null
+                    : CatalogUtils.getCatalogListLink(site, catalog, pageIndex, publishPipeCode, context.isPreview());
+        });
+    }
+}
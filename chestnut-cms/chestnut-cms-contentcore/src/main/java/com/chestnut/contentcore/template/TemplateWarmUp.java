@@ -0,0 +1,94 @@
+package com.chestnut.contentcore.template;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.chestnut.common.async.AsyncTask;
+import com.chestnut.common.async.AsyncTaskManager;
+import com.chestnut.common.staticize.StaticizeService;
+import com.chestnut.contentcore.config.properties.CMSPublishProperties;
+import com.chestnut.contentcore.domain.CmsSite;
+import com.chestnut.contentcore.domain.CmsTemplate;
+import com.chestnut.contentcore.service.ISiteService;
+import com.chestnut.contentcore.service.ITemplateService;
+import com.chestnut.contentcore.util.SiteUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 模板预热
+ * <p>
+ * 预先解析所有站点各发布通道的模板并放入FreeMarker模板缓存，避免部署后首次发布时集中解析模板。
+ * 应用启动后自动执行（可通过<code>chestnut.cms.publish.warm-up.enable-on-start</code>关闭），也可在模板管理中手动触发。
+ * </p>
+ *
+ * @author 兮玥
+ * @email 190785909@qq.com
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TemplateWarmUp {
+
+	private static final String TaskId = "TemplateWarmUp";
+
+	private final ISiteService siteService;
+
+	private final ITemplateService templateService;
+
+	private final StaticizeService staticizeService;
+
+	private final AsyncTaskManager asyncTaskManager;
+
+	private final CMSPublishProperties properties;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void onApplicationReady() {
+		if (this.properties.getWarmUp().isEnableOnStart()) {
+			this.warmUp();
+		}
+	}
+
+	/**
+	 * 提交模板预热任务
+	 */
+	public AsyncTask warmUp() {
+		AsyncTask asyncTask = new AsyncTask() {
+
+			@Override
+			public void run0() throws InterruptedException {
+				long s = System.currentTimeMillis();
+				int loaded = 0;
+				List<CmsSite> sites = siteService.list();
+				for (CmsSite site : sites) {
+					List<CmsTemplate> templates = templateService.list(new LambdaQueryWrapper<CmsTemplate>()
+							.select(CmsTemplate::getTemplateId, CmsTemplate::getPublishPipeCode, CmsTemplate::getPath)
+							.eq(CmsTemplate::getSiteId, site.getSiteId()));
+					for (int i = 0; i < templates.size(); i++) {
+						CmsTemplate template = templates.get(i);
+						this.setProgressInfo(i * 100 / templates.size(), "正在预热模板：" + site.getName() + " " + template.getPath());
+						String templateKey = SiteUtils.getTemplateKey(site, template.getPublishPipeCode(), template.getPath());
+						try {
+							staticizeService.loadTemplate(templateKey);
+							loaded++;
+						} catch (Exception e) {
+							log.warn("Template warm-up failed: {}, {}", templateKey, e.getMessage());
+						}
+						this.checkInterrupt();
+					}
+				}
+				this.setProgressInfo(100, "模板预热完成");
+				log.info("Template warm-up completed, {} templates loaded, cost: {}ms", loaded,
+						System.currentTimeMillis() - s);
+			}
+		};
+		asyncTask.setType("TemplateWarmUp");
+		asyncTask.setTaskId(TaskId);
+		asyncTask.setInterruptible(true);
+		this.asyncTaskManager.execute(asyncTask);
+		return asyncTask;
+	}
+}
@@ -5,7 +5,7 @@ import com.chestnut.common.staticize.core.TemplateContext;
 import com.chestnut.common.staticize.func.AbstractFunc;
 import com.chestnut.common.utils.StringUtils;
 import com.chestnut.contentcore.domain.CmsCatalog;
-import com.chestnut.contentcore.service.ICatalogService;
+import com.chestnut.contentcore.template.TemplateRenderLookup;
 import freemarker.core.Environment;
 import freemarker.template.SimpleNumber;
 import freemarker.template.SimpleScalar;
@@ -27,7 +27,7 @@ public class CatalogUrlFunction extends AbstractFunc {
 	
 	private static final String DESC = "{FREEMARKER.FUNC.DESC." + FUNC_NAME + "}";
 
-	private final ICatalogService catalogService;
+	private final TemplateRenderLookup templateRenderLookup;
 
 	@Override
 	public String getFuncName() {
@@ -45,13 +45,13 @@ public class CatalogUrlFunction extends AbstractFunc {
 			return StringUtils.EMPTY;
 		}
 		long catalogId = ((SimpleNumber) args[0]).getAsNumber().longValue();
-		CmsCatalog catalog = catalogService.getCatalog(catalogId);
+		TemplateContext context = FreeMarkerUtils.getTemplateContext(Environment.getCurrentEnvironment());
+		CmsCatalog catalog = this.templateRenderLookup.getCatalog(context, catalogId);
 		if (Objects.isNull(catalog)) {
 			return StringUtils.EMPTY;
 		}
 		String publishPipeCode = ((SimpleScalar) args[1]).getAsString();
-		TemplateContext context = FreeMarkerUtils.getTemplateContext(Environment.getCurrentEnvironment());
-		return catalogService.getCatalogLink(catalog, 1, publishPipeCode, context.isPreview());
+		return this.templateRenderLookup.getCatalogLink(context, catalog, 1, publishPipeCode);
 	}
 
 	@Override
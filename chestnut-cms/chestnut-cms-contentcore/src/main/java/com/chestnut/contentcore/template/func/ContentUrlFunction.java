@@ -8,6 +8,7 @@ import com.chestnut.contentcore.domain.CmsCatalog;
 import com.chestnut.contentcore.domain.CmsContent;
 import com.chestnut.contentcore.service.ICatalogService;
 import com.chestnut.contentcore.service.IContentService;
+import com.chestnut.contentcore.template.TemplateRenderLookup;
 import com.chestnut.contentcore.service.ISiteService;
 import freemarker.core.Environment;
 import freemarker.template.SimpleNumber;
@@ -32,6 +33,8 @@ public class ContentUrlFunction extends AbstractFunc {
 
 	private final IContentService contentService;
 
+	private final TemplateRenderLookup templateRenderLookup;
+
 	@Override
 	public String getFuncName() {
 		return FUNC_NAME;
@@ -48,13 +51,13 @@ public class ContentUrlFunction extends AbstractFunc {
 			return StringUtils.EMPTY;
 		}
 		long contentId = ((SimpleNumber) args[0]).getAsNumber().longValue();
-		CmsContent content = this.contentService.getById(contentId);
+		TemplateContext context = FreeMarkerUtils.getTemplateContext(Environment.getCurrentEnvironment());
+		CmsContent content = context.getRenderCache("content:" + contentId, () -> this.contentService.getById(contentId));
 		if (Objects.isNull(content)) {
 			return StringUtils.EMPTY;
 		}
 		String publishPipeCode = ((SimpleScalar) args[1]).getAsString();
-		TemplateContext context = FreeMarkerUtils.getTemplateContext(Environment.getCurrentEnvironment());
-		return contentService.getContentLink(content, 1, publishPipeCode, context.isPreview());
+		return this.templateRenderLookup.getContentLink(context, content, 1, publishPipeCode);
 	}
 
 	@Override
@@ -19,6 +19,8 @@ import com.chestnut.common.staticize.tag.AbstractListTag;
 import com.chestnut.common.staticize.tag.TagAttr;
 import com.chestnut.common.utils.StringUtils;
 import com.chestnut.contentcore.domain.CmsCatalog;
+import com.chestnut.contentcore.publish.PublishDependencyIndex;
+import com.chestnut.contentcore.template.TemplateRenderLookup;
 import com.chestnut.contentcore.service.ICatalogService;
 import com.chestnut.contentcore.template.exception.CatalogNotFoundException;
 import com.chestnut.contentcore.util.InternalUrlUtils;
@@ -42,6 +44,8 @@ public class CmsCatalogTag extends AbstractListTag {
 
 	private final ICatalogService catalogService;
 
+	private final TemplateRenderLookup templateRenderLookup;
+
 	@Override
 	public List<TagAttr> getTagAttrs() {
 		List<TagAttr> tagAttrs = super.getTagAttrs();
@@ -68,6 +72,7 @@ public class CmsCatalogTag extends AbstractListTag {
 			throw new CatalogNotFoundException(getTagName(), catalogId, alias, env);
 		}
 		String condition = MapUtils.getString(attrs, TagAttr.AttrName_Condition);
+		FreeMarkerUtils.getTemplateContext(env).addDependency(getDependency(siteId, catalog, level));
 
 		LambdaQueryWrapper<CmsCatalog> q = new LambdaQueryWrapper<>();
 		q.eq(CmsCatalog::getSiteId, siteId).eq(CmsCatalog::getVisibleFlag, YesOrNo.YES);
@@ -86,8 +91,8 @@ public class CmsCatalogTag extends AbstractListTag {
 		TemplateContext context = FreeMarkerUtils.getTemplateContext(env);
 		Page<CmsCatalog> pageResult = this.catalogService.page(new Page<>(pageIndex, size, page), q);
 		pageResult.getRecords().forEach(c -> {
-			c.setLink(catalogService.getCatalogLink(c, 1, context.getPublishPipeCode(), context.isPreview()));
-			c.setListLink(catalogService.getCatalogListLink(c, 1, context.getPublishPipeCode(), context.isPreview()));
+			c.setLink(templateRenderLookup.getCatalogLink(context, c, 1, context.getPublishPipeCode()));
+			c.setListLink(templateRenderLookup.getCatalogListLink(context, c, 1, context.getPublishPipeCode()));
 		});
 		return TagPageData.of(pageResult.getRecords(), pageResult.getTotal());
 	}
@@ -107,6 +112,22 @@ public class CmsCatalogTag extends AbstractListTag {
 		return DESC;
 	}
 
+	/**
+	 * 栏目列表数据依赖
+	 */
+	private static String getDependency(long siteId, CmsCatalog catalog, String level) {
+		if (CatalogTagLevel.isCurrent(level)) {
+			return PublishDependencyIndex.catalogOfParent(catalog.getParentId());
+		} else if (CatalogTagLevel.isChild(level)) {
+			return PublishDependencyIndex.catalogOfParent(catalog.getCatalogId());
+		} else if (CatalogTagLevel.isCurrentAndChild(level)) {
+			return PublishDependencyIndex.catalogOfTree(catalog.getCatalogId());
+		} else if (CatalogTagLevel.isSelf(level)) {
+			return PublishDependencyIndex.catalog(catalog.getCatalogId());
+		}
+		return PublishDependencyIndex.catalogOfSite(siteId);
+	}
+
 	private enum CatalogTagLevel {
 		Root("所有栏目"), Current("同级栏目"), Child("子栏目"), CurrentAndChild("当前栏目及子栏目"), Self("当前栏目");
 
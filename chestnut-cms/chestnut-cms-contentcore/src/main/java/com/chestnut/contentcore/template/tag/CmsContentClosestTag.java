@@ -17,7 +17,9 @@ import com.chestnut.contentcore.core.IPageWidgetType;
 import com.chestnut.contentcore.domain.CmsContent;
 import com.chestnut.contentcore.domain.CmsPageWidget;
 import com.chestnut.contentcore.domain.dto.ContentDTO;
+import com.chestnut.contentcore.publish.PublishDependencyIndex;
 import com.chestnut.contentcore.service.IContentService;
+import com.chestnut.contentcore.template.TemplateRenderLookup;
 import com.chestnut.contentcore.service.IPageWidgetService;
 import com.chestnut.contentcore.util.InternalUrlUtils;
 import freemarker.core.Environment;
@@ -47,6 +49,8 @@ public class CmsContentClosestTag extends AbstractListTag {
 
 	private final IContentService contentService;
 
+	private final TemplateRenderLookup templateRenderLookup;
+
 	@Override
 	public TagPageData prepareData(Environment env, Map<String, String> attrs, boolean page, int size, int pageIndex) throws TemplateException {
 		boolean isNext = TypeTagAttr.isNext(attrs.get(TagAttr_Type));
@@ -72,13 +76,17 @@ public class CmsContentClosestTag extends AbstractListTag {
 			q.orderBy(true, isNext, CmsContent::getSortFlag);
 		}
 		TemplateContext context = FreeMarkerUtils.getTemplateContext(env);
+		// 相邻内容随栏目内容变化
+		context.addDependency(PublishDependencyIndex.contentOfCatalog(content.getCatalogId()));
 		Page<CmsContent> pageResult = this.contentService.page(new Page<>(1, 1, false), q);
 		if (pageResult.getRecords().isEmpty()) {
 			return TagPageData.of(List.of(), 0);
 		}
+		Map<Long, String> links = this.templateRenderLookup.getContentLinks(context, pageResult.getRecords(), 1,
+				context.getPublishPipeCode());
 		List<ContentDTO> dataList = pageResult.getRecords().stream().map(c -> {
 			ContentDTO dto = ContentDTO.newInstance(c);
-			dto.setLink(this.contentService.getContentLink(c, 1, context.getPublishPipeCode(), context.isPreview()));
+			dto.setLink(links.get(c.getContentId()));
 			dto.setLogoSrc(InternalUrlUtils.getActualUrl(c.getLogo(), context.getPublishPipeCode(), context.isPreview()));
 			return dto;
 		}).toList();
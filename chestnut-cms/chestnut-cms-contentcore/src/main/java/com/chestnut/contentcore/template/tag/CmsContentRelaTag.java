@@ -11,7 +11,9 @@ import com.chestnut.contentcore.domain.CmsContent;
 import com.chestnut.contentcore.domain.CmsContentRela;
 import com.chestnut.contentcore.domain.dto.ContentDTO;
 import com.chestnut.contentcore.mapper.CmsContentRelaMapper;
+import com.chestnut.contentcore.publish.PublishDependencyIndex;
 import com.chestnut.contentcore.service.IContentService;
+import com.chestnut.contentcore.template.TemplateRenderLookup;
 import freemarker.core.Environment;
 import freemarker.template.TemplateException;
 import lombok.RequiredArgsConstructor;
@@ -35,6 +37,8 @@ public class CmsContentRelaTag extends AbstractListTag {
 
 	private final IContentService contentService;
 
+	private final TemplateRenderLookup templateRenderLookup;
+
 	@Override
 	public List<TagAttr> getTagAttrs() {
 		List<TagAttr> tagAttrs = super.getTagAttrs();
@@ -50,15 +54,18 @@ public class CmsContentRelaTag extends AbstractListTag {
 			throw new TemplateException("内容ID错误：" + contentId, env);
 		}
 		TemplateContext context = FreeMarkerUtils.getTemplateContext(env);
+		context.addDependency(PublishDependencyIndex.content(contentId));
 		Page<CmsContentRela> pageResult = contentRelaMapper.selectPage(new Page<>(pageIndex, size, page),
 				new LambdaQueryWrapper<CmsContentRela>().eq(CmsContentRela::getContentId, contentId));
 		if (pageResult.getRecords().size() > 0) {
 			List<Long> contentIds = pageResult.getRecords().stream().map(CmsContentRela::getRelaContentId).toList();
 			List<CmsContent> contents = this.contentService.lambdaQuery().in(CmsContent::getContentId, contentIds).list();
+			contents.forEach(c -> context.addDependency(PublishDependencyIndex.content(c.getContentId())));
+			Map<Long, String> links = this.templateRenderLookup.getContentLinks(context, contents, 1,
+				context.getPublishPipeCode());
 			List<ContentDTO> result = contents.stream().map(c -> {
 				ContentDTO dto = ContentDTO.newInstance(c);
-				dto.setLink(this.contentService.getContentLink(c, 1,
-						context.getPublishPipeCode(), context.isPreview()));
+				dto.setLink(links.get(c.getContentId()));
 				return dto;
 			}).toList();
 			return TagPageData.of(result, page ? pageResult.getTotal() : result.size());
@@ -11,9 +11,12 @@ import org.apache.commons.collections4.MapUtils;
 import org.springframework.stereotype.Component;
 
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.toolkit.support.SFunction;
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import com.chestnut.common.staticize.FreeMarkerUtils;
+import com.chestnut.common.staticize.core.PageCursor;
 import com.chestnut.common.staticize.core.TemplateContext;
+import com.chestnut.common.staticize.core.TemplateDataCache;
 import com.chestnut.common.staticize.enums.TagAttrDataType;
 import com.chestnut.common.staticize.tag.AbstractListTag;
 import com.chestnut.common.staticize.tag.TagAttr;
@@ -21,6 +24,8 @@ import com.chestnut.common.utils.StringUtils;
 import com.chestnut.contentcore.domain.CmsCatalog;
 import com.chestnut.contentcore.domain.CmsContent;
 import com.chestnut.contentcore.domain.dto.ContentDTO;
+import com.chestnut.contentcore.publish.PublishDependencyIndex;
+import com.chestnut.contentcore.template.TemplateRenderLookup;
 import com.chestnut.contentcore.fixed.dict.ContentAttribute;
 import com.chestnut.contentcore.fixed.dict.ContentStatus;
 import com.chestnut.contentcore.service.ICatalogService;
@@ -41,10 +46,17 @@ public class CmsContentTag extends AbstractListTag {
 	public final static String NAME = "{FREEMARKER.TAG.NAME." + TAG_NAME + "}";
 	public final static String DESC = "{FREEMARKER.TAG.DESC." + TAG_NAME + "}";
 
+	/**
+	 * 静态化分页游标每次预读页数
+	 */
+	private static final int CURSOR_PREFETCH_PAGES = 10;
+
 	private final IContentService contentService;
 
 	private final ICatalogService catalogService;
 
+	private final TemplateRenderLookup templateRenderLookup;
+
 	@Override
 	public List<TagAttr> getTagAttrs() {
 		List<TagAttr> tagAttrs = super.getTagAttrs();
@@ -61,10 +73,11 @@ public class CmsContentTag extends AbstractListTag {
 
 	@Override
 	public TagPageData prepareData(Environment env, Map<String, String> attrs, boolean page, int size, int pageIndex) throws TemplateException {
+		TemplateContext context = FreeMarkerUtils.getTemplateContext(env);
 		CmsCatalog catalog = null;
 		long catalogId = MapUtils.getLongValue(attrs, "catalogid");
 		if (catalogId > 0) {
-			catalog = this.catalogService.getCatalog(catalogId);
+			catalog = this.templateRenderLookup.getCatalog(context, catalogId);
 		}
 		long siteId = FreeMarkerUtils.evalLongVariable(env, "Site.siteId");
 		String alias = MapUtils.getString(attrs, "catalogalias");
@@ -75,6 +88,9 @@ public class CmsContentTag extends AbstractListTag {
 		if (!LevelTagAttr.isRoot(level) && Objects.isNull(catalog)) {
 			throw new CatalogNotFoundException(getTagName(), catalogId, alias, env);
 		}
+		context.addDependency(getDependency(siteId, catalog, level));
+		// 查询结果与发布通道无关，同一发布任务的多个发布通道共享
+		Long catalogKey = Objects.isNull(catalog) ? null : catalog.getCatalogId();
 		String condition = MapUtils.getString(attrs, TagAttr.AttrName_Condition);
 		String status = MapUtils.getString(attrs, "status", ContentStatus.PUBLISHED);
 
@@ -103,27 +119,122 @@ public class CmsContentTag extends AbstractListTag {
 		}
 		q.apply(StringUtils.isNotEmpty(condition), condition);
 		String sortType = MapUtils.getString(attrs, "sort");
-		q.orderByDesc(MapUtils.getBooleanValue(attrs, "topflag", true), CmsContent::getTopFlag);
-		if (SortTagAttr.isRecent(sortType)) {
-			q.orderByDesc(CmsContent::getPublishDate);
-		} else if(SortTagAttr.isViews(sortType)) {
-			q.orderByDesc(CmsContent::getViewCount);
-		} else {
-			q.orderByDesc(CmsContent::getSortFlag);
-		}
+		boolean topFlag = MapUtils.getBooleanValue(attrs, "topflag", true);
+		SFunction<CmsContent, ?> sortColumn = getSortColumn(sortType);
+		q.orderByDesc(topFlag, CmsContent::getTopFlag);
+		q.orderByDesc(sortColumn);
+		q.orderByDesc(CmsContent::getContentId);
 
-		TemplateContext context = FreeMarkerUtils.getTemplateContext(env);
-		Page<CmsContent> pageResult = this.contentService.page(new Page<>(pageIndex, size, page), q);
-		if (pageIndex > 1 & pageResult.getRecords().size() == 0) {
+		List<CmsContent> records = null;
+		long total = 0;
+		PageCursor<CmsContent> cursor = null;
+		if (page && context.isPageCursorEnabled()) {
+			// 静态化连续分页：后续页码从游标读取，不足时按排序键续查多页数据
+			cursor = context.getPageCursor(getTagName(), attrs, pageIndex);
+			if (Objects.nonNull(cursor) && cursor.getBufferSize() < size && !cursor.isExhausted()) {
+				if (applyKeyset(q, cursor.getLast(), topFlag, sortColumn)) {
+					int prefetchSize = size * getPrefetchPages(context, pageIndex);
+					String dataKey = TemplateDataCache.key(getTagName(), attrs, siteId, catalogKey, "cursor",
+							cursor.getLast().getContentId(), prefetchSize);
+					Page<CmsContent> pageResult = context.getTagData(dataKey,
+							() -> this.contentService.page(new Page<>(1, prefetchSize, false), q));
+					cursor.append(pageResult.getRecords(), pageResult.getRecords().size() < prefetchSize);
+				} else {
+					cursor = null;
+				}
+			}
+			if (Objects.nonNull(cursor)) {
+				records = cursor.poll(size, pageIndex);
+				total = cursor.getTotal();
+			}
+		}
+		if (Objects.isNull(records)) {
+			String dataKey = TemplateDataCache.key(getTagName(), attrs, siteId, catalogKey, pageIndex, size, page);
+			Page<CmsContent> pageResult = context.getTagData(dataKey,
+					() -> this.contentService.page(new Page<>(pageIndex, size, page), q));
+			records = pageResult.getRecords();
+			total = pageResult.getTotal();
+			if (page && context.isPageCursorEnabled()) {
+				// 首个静态化页码统计总数并创建游标
+				cursor = new PageCursor<>(getTagName(), attrs, total, CmsContent::getContentId);
+				cursor.append(records, records.size() < size);
+				records = cursor.poll(size, pageIndex);
+				context.setPageCursor(cursor);
+			}
+		}
+		if (pageIndex > 1 & records.size() == 0) {
 			throw new TemplateException("内容列表页码超出上限：" + pageIndex, env);
 		}
 		List<ContentDTO> list = new ArrayList<>();
-		pageResult.getRecords().forEach(c -> {
+		Map<Long, String> links = this.templateRenderLookup.getContentLinks(context, records, 1,
+				context.getPublishPipeCode());
+		records.forEach(c -> {
 			ContentDTO dto = ContentDTO.newInstance(c);
-			dto.setLink(this.contentService.getContentLink(c, 1, context.getPublishPipeCode(), context.isPreview()));
+			dto.setLink(links.get(c.getContentId()));
 			list.add(dto);
 		});
-		return TagPageData.of(list, pageResult.getTotal());
+		return TagPageData.of(list, total);
+	}
+
+	/**
+	 * 内容列表数据依赖
+	 */
+	private static String getDependency(long siteId, CmsCatalog catalog, String level) {
+		if (LevelTagAttr.isRoot(level)) {
+			return PublishDependencyIndex.contentOfSite(siteId);
+		} else if (LevelTagAttr.isChild(level) || LevelTagAttr.isCurrentAndChild(level)) {
+			return PublishDependencyIndex.contentOfTree(catalog.getCatalogId());
+		}
+		return PublishDependencyIndex.contentOfCatalog(catalog.getCatalogId());
+	}
+
+	/**
+	 * 内容列表排序字段
+	 *
+	 * @param sortType 标签sort属性值
+	 */
+	public static SFunction<CmsContent, ?> getSortColumn(String sortType) {
+		if (SortTagAttr.isRecent(sortType)) {
+			return CmsContent::getPublishDate;
+		} else if (SortTagAttr.isViews(sortType)) {
+			return CmsContent::getViewCount;
+		}
+		return CmsContent::getSortFlag;
+	}
+
+	/**
+	 * 游标预读页数，不超过模板上下文最大静态化页数
+	 */
+	private int getPrefetchPages(TemplateContext context, int pageIndex) {
+		if (context.getMaxPageNo() > 0) {
+			return Math.max(1, Math.min(CURSOR_PREFETCH_PAGES, context.getMaxPageNo() - pageIndex + 1));
+		}
+		return CURSOR_PREFETCH_PAGES;
+	}
+
+	/**
+	 * 添加键集分页条件：排序键(topFlag, sortColumn, contentId)降序位于last之后的数据
+	 *
+	 * @return 排序键存在null值时返回false，需退回OFFSET分页
+	 */
+	public static boolean applyKeyset(LambdaQueryWrapper<CmsContent> q, CmsContent last, boolean topFlag,
+								SFunction<CmsContent, ?> sortColumn) {
+		Object sortValue = sortColumn.apply(last);
+		Long topValue = last.getTopFlag();
+		if (Objects.isNull(sortValue) || (topFlag && Objects.isNull(topValue))) {
+			return false;
+		}
+		Long contentId = last.getContentId();
+		if (topFlag) {
+			q.and(w -> w.lt(CmsContent::getTopFlag, topValue)
+					.or(w1 -> w1.eq(CmsContent::getTopFlag, topValue).lt(sortColumn, sortValue))
+					.or(w2 -> w2.eq(CmsContent::getTopFlag, topValue).eq(sortColumn, sortValue)
+							.lt(CmsContent::getContentId, contentId)));
+		} else {
+			q.and(w -> w.lt(sortColumn, sortValue)
+					.or(w1 -> w1.eq(sortColumn, sortValue).lt(CmsContent::getContentId, contentId)));
+		}
+		return true;
 	}
 
 	@Override
@@ -141,7 +252,7 @@ public class CmsContentTag extends AbstractListTag {
 		return DESC;
 	}
 
-	enum LevelTagAttr {
+	public enum LevelTagAttr {
 		Root("所有栏目"), Current("当前栏目"), Child("子栏目"), CurrentAndChild("当前栏目和子栏目");
 
 		private final String desc;
@@ -176,7 +287,7 @@ public class CmsContentTag extends AbstractListTag {
 		}
 	}
 
-	enum SortTagAttr {
+	public enum SortTagAttr {
 		Recent("发布时间降序"), Views("浏览量降序"), Default("排序字段降序（默认）");
 
 		private final String desc;
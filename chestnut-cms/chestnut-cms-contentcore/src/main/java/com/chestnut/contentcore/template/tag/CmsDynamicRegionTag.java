@@ -0,0 +1,103 @@
+package com.chestnut.contentcore.template.tag;
+
+import com.chestnut.common.staticize.FreeMarkerUtils;
+import com.chestnut.common.staticize.core.TemplateContext;
+import com.chestnut.common.staticize.enums.TagAttrDataType;
+import com.chestnut.common.staticize.tag.AbstractTag;
+import com.chestnut.common.staticize.tag.TagAttr;
+import com.chestnut.contentcore.template.DynamicPageSkeleton;
+import freemarker.core.Environment;
+import freemarker.template.TemplateDirectiveBody;
+import freemarker.template.TemplateException;
+import freemarker.template.TemplateModel;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 动态区块标签
+ * <p>
+ * 标记动态页面（会员、搜索等）中与请求用户相关的区块，例如：
+ * <@cms_dynamic_region name="member">${Member.nickName}</@cms_dynamic_region>
+ * 动态页面类型支持缓存公共部分时，区块外内容按模板版本缓存，区块内容每次请求重新解析；其他场景直接输出区块内容。
+ * </p>
+ *
+ * @author 兮玥
+ * @email 190785909@qq.com
+ */
+@Component
+public class CmsDynamicRegionTag extends AbstractTag {
+
+	public static final String TAG_NAME = "cms_dynamic_region";
+	public final static String NAME = "{FREEMARKER.TAG.NAME." + TAG_NAME + "}";
+	public final static String DESC = "{FREEMARKER.TAG.DESC." + TAG_NAME + "}";
+
+	private static final String TagAttr_NAME = "name";
+
+	@Override
+	public String getTagName() {
+		return TAG_NAME;
+	}
+
+	@Override
+	public String getName() {
+		return NAME;
+	}
+
+	@Override
+	public String getDescription() {
+		return DESC;
+	}
+
+	@Override
+	public List<TagAttr> getTagAttrs() {
+		List<TagAttr> tagAttrs = new ArrayList<>();
+		tagAttrs.add(new TagAttr(TagAttr_NAME, true, TagAttrDataType.STRING, "区块名称，同一页面内唯一"));
+		return tagAttrs;
+	}
+
+	@Override
+	protected boolean isExecuteOutsideRegion() {
+		return true;
+	}
+
+	@Override
+	public Map<String, TemplateModel> execute0(Environment env, Map<String, String> attrs) {
+		return null;
+	}
+
+	@Override
+	public void onTagEnd(Environment env, Map<String, String> tagAttrs, TemplateDirectiveBody body,
+						 Map<String, TemplateModel> tagVariables) throws TemplateException, IOException {
+		if (Objects.isNull(body)) {
+			return;
+		}
+		TemplateContext context = FreeMarkerUtils.getTemplateContext(env);
+		String name = tagAttrs.get(TagAttr_NAME);
+		if (context.isInRegion() || context.getRegionMode() == TemplateContext.RegionMode.NONE) {
+			body.render(env.getOut());
+		} else if (context.getRegionMode() == TemplateContext.RegionMode.SKELETON) {
+			if (context.getTagDepth() > 1) {
+				// 嵌套在其他标签内的区块在REGION模式下不会被执行，标记后由动态页面完整渲染
+				context.setNestedRegion(true);
+				body.render(env.getOut());
+				return;
+			}
+			env.getOut().write(DynamicPageSkeleton.placeholder(name));
+		} else {
+			StringWriter writer = new StringWriter();
+			context.setInRegion(true);
+			try {
+				body.render(writer);
+			} finally {
+				context.setInRegion(false);
+			}
+			context.getRegionContents().put(name, writer.toString());
+		}
+	}
+}
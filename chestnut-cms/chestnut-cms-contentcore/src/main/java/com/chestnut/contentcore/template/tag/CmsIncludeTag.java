@@ -7,10 +7,12 @@ import com.chestnut.common.staticize.tag.AbstractTag;
 import com.chestnut.common.staticize.tag.TagAttr;
 import com.chestnut.common.utils.Assert;
 import com.chestnut.common.utils.StringUtils;
+import com.chestnut.contentcore.ContentCoreConsts;
 import com.chestnut.contentcore.domain.CmsSite;
+import com.chestnut.contentcore.publish.PublishDependencyIndex;
 import com.chestnut.contentcore.properties.EnableSSIProperty;
 import com.chestnut.contentcore.service.ISiteService;
-import com.chestnut.contentcore.service.ITemplateService;
+import com.chestnut.contentcore.template.IncludeFragmentCache;
 import com.chestnut.contentcore.util.SiteUtils;
 import com.chestnut.contentcore.util.TemplateUtils;
 import freemarker.core.Environment;
@@ -78,7 +80,7 @@ public class CmsIncludeTag extends AbstractTag {
 
 	private final ISiteService siteService;
 
-	private final ITemplateService templateService;
+	private final IncludeFragmentCache includeFragmentCache;
 
 	@Override
 	public List<TagAttr> getTagAttrs() {
@@ -120,24 +122,38 @@ public class CmsIncludeTag extends AbstractTag {
 			String virtualPath = "/cms/ssi/virtual?sid=" + siteId + "&pp=" + context.getPublishPipeCode()
 					+ "&t=" + templateFile + "&" + params;
 			env.getOut().write(StringUtils.messageFormat(SSI_INCLUDE_VIRTUAL_TAG, virtualPath));
+		} else if (context.getRegionMode() != TemplateContext.RegionMode.NONE) {
+			// 动态区块渲染时输出包含区块占位符或区块内容，不可缓存或写入SSI静态文件，直接内联渲染
+			String content = processTemplate(env, StringUtils.getPathParameterMap(file), includeTemplateKey);
+			env.getOut().write(content);
 		} else {
 			String cacheKey = includeTemplateKey + (StringUtils.isEmpty(params) ? "" : ("?" + params));
 			String siteRoot = SiteUtils.getSiteRoot(site, context.getPublishPipeCode());
 			String staticFilePath = TemplateUtils.getIncludeRelativeStaticPath(site,
 					context.getPublishPipeCode(), includeTemplateKey);
-			String staticContent = cache ? templateService.getTemplateStaticContentCache(cacheKey) : null;
-			if (Objects.isNull(staticContent) || !new File(siteRoot + staticFilePath).exists()) {
+			File staticFile = ssi ? new File(siteRoot + staticFilePath) : null;
+			File includeTemplateFile = new File(siteRoot + ContentCoreConsts.TemplateDirectory + templateFile);
+			String staticContent = null;
+			long cacheVersion = 0;
+			if (cache) {
+				// 生成内容前记录缓存失效版本，生成期间清空缓存时不放入本地缓存
+				cacheVersion = this.includeFragmentCache.getVersion();
+				staticContent = this.includeFragmentCache.get(site, cacheKey, includeTemplateFile, staticFile);
+			}
+			if (Objects.isNull(staticContent)) {
 				staticContent = processTemplate(env, StringUtils.getPathParameterMap(file), includeTemplateKey);
 				if (ssi) {
-					FileUtils.writeStringToFile(new File(siteRoot + staticFilePath), staticContent, StandardCharsets.UTF_8);
+					FileUtils.writeStringToFile(staticFile, staticContent, StandardCharsets.UTF_8);
 				}
 				if (cache) {
-					this.templateService.setTemplateStaticContentCache(cacheKey, staticContent);
+					this.includeFragmentCache.put(site, cacheKey, includeTemplateFile, staticFile, staticContent,
+							cacheVersion);
 				}
 			}
 			if (ssi) {
 				env.getOut().write(StringUtils.messageFormat(SSI_INCLUDE_TAG, "/" + staticFilePath));
 			} else {
+				context.addDependency(PublishDependencyIndex.include(includeTemplateKey));
 				env.getOut().write(staticContent);
 			}
 		}
@@ -17,6 +17,7 @@ import org.springframework.stereotype.Component;
 
 import com.chestnut.common.staticize.FreeMarkerUtils;
 import com.chestnut.common.staticize.core.TemplateContext;
+import com.chestnut.common.staticize.core.TemplateDataCache;
 import com.chestnut.common.staticize.enums.TagAttrDataType;
 import com.chestnut.common.staticize.tag.AbstractTag;
 import com.chestnut.common.staticize.tag.TagAttr;
@@ -25,6 +26,7 @@ import com.chestnut.common.utils.StringUtils;
 import com.chestnut.contentcore.core.IPageWidgetType;
 import com.chestnut.contentcore.domain.CmsPageWidget;
 import com.chestnut.contentcore.domain.CmsSite;
+import com.chestnut.contentcore.publish.PublishDependencyIndex;
 import com.chestnut.contentcore.service.IPageWidgetService;
 import com.chestnut.contentcore.service.ISiteService;
 import com.chestnut.contentcore.service.ITemplateService;
@@ -87,8 +89,9 @@ public class CmsPageWidgetTag extends AbstractTag {
 		Assert.notEmpty(code, () -> new TemplateException("参数[code]不能为空", env));
 
 		long siteId = FreeMarkerUtils.evalLongVariable(env, "Site.siteId");
-		CmsPageWidget pw = this.pageWidgetService.lambdaQuery().eq(CmsPageWidget::getSiteId, siteId)
-				.eq(CmsPageWidget::getCode, code).one();
+		CmsPageWidget pw = context.getTagData(TemplateDataCache.key(getTagName(), Map.of(), siteId, code),
+				() -> this.pageWidgetService.lambdaQuery().eq(CmsPageWidget::getSiteId, siteId)
+						.eq(CmsPageWidget::getCode, code).one());
 		Assert.notNull(pw, () -> new TemplateException(StringUtils.messageFormat("页面部件[{0}]不存在", code), env));
 
 		IPageWidgetType pwt = this.pageWidgetService.getPageWidgetType(pw.getType());
@@ -117,6 +120,7 @@ public class CmsPageWidgetTag extends AbstractTag {
 				env.getOut().write(StringUtils.messageFormat(CmsIncludeTag.SSI_INCLUDE_TAG, "/" + staticFilePath));
 			} else {
 				// 非ssi模式无法使用缓存
+				context.addDependency(PublishDependencyIndex.pageWidget(siteId, code));
 				String staticContent = this.processTemplate(env, context, templateKey);
 				env.getOut().write(staticContent);
 			}
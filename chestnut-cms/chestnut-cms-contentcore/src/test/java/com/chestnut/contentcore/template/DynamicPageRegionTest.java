@@ -0,0 +1,119 @@
+package com.chestnut.contentcore.template;
+
+import com.chestnut.common.staticize.FreeMarkerUtils;
+import com.chestnut.common.staticize.core.TemplateContext;
+import com.chestnut.contentcore.domain.CmsSite;
+import com.chestnut.contentcore.properties.EnableSSIProperty;
+import com.chestnut.contentcore.service.ISiteService;
+import com.chestnut.contentcore.template.tag.CmsDynamicRegionTag;
+import com.chestnut.contentcore.template.tag.CmsIncludeTag;
+import freemarker.cache.StringTemplateLoader;
+import freemarker.core.Environment;
+import freemarker.template.Configuration;
+import freemarker.template.Template;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 动态页面区块渲染测试
+ *
+ * @author 兮玥
+ * @email 190785909@qq.com
+ */
+public class DynamicPageRegionTest {
+
+	private static final String PUBLISH_PIPE_CODE = "pc";
+
+	private static final String TEMPLATE_PREFIX = "demo_" + PUBLISH_PIPE_CODE + "/template/";
+
+	private Configuration cfg;
+
+	private StringTemplateLoader templateLoader;
+
+	private IncludeFragmentCache includeFragmentCache;
+
+	private MockedStatic<EnableSSIProperty> enableSSIProperty;
+
+	@BeforeEach
+	void setup() {
+		CmsSite site = new CmsSite();
+		site.setSiteId(1L);
+		site.setPath("demo");
+		ISiteService siteService = mock(ISiteService.class);
+		when(siteService.getSite(1L)).thenReturn(site);
+		this.includeFragmentCache = mock(IncludeFragmentCache.class);
+		// 站点配置属性依赖Spring容器，默认启用SSI
+		this.enableSSIProperty = Mockito.mockStatic(EnableSSIProperty.class);
+		this.enableSSIProperty.when(() -> EnableSSIProperty.getValue(any())).thenReturn(true);
+
+		this.templateLoader = new StringTemplateLoader();
+		this.cfg = new Configuration(Configuration.VERSION_2_3_31);
+		this.cfg.setTemplateLoader(this.templateLoader);
+		this.cfg.setSharedVariable(CmsIncludeTag.TAG_NAME, new CmsIncludeTag(siteService, this.includeFragmentCache));
+		this.cfg.setSharedVariable(CmsDynamicRegionTag.TAG_NAME, new CmsDynamicRegionTag());
+	}
+
+	@AfterEach
+	void tearDown() {
+		this.enableSSIProperty.close();
+	}
+
+	private void addTemplate(String name, String source) {
+		this.templateLoader.putTemplate(TEMPLATE_PREFIX + name, source);
+	}
+
+	private TemplateContext render(String name, TemplateContext.RegionMode regionMode, String member, Writer writer)
+			throws Exception {
+		TemplateContext context = new TemplateContext(TEMPLATE_PREFIX + name, false, PUBLISH_PIPE_CODE);
+		context.setRegionMode(regionMode);
+		context.getVariables().put("Site", Map.of("siteId", 1L));
+		context.getVariables().put("Member", member);
+		Template template = this.cfg.getTemplate(context.getTemplateId());
+		Environment env = template.createProcessingEnvironment(context.getVariables(), writer);
+		FreeMarkerUtils.addGlobalVariables(env, context);
+		env.process();
+		return context;
+	}
+
+	@Test
+	void testTopLevelRegion() throws Exception {
+		addTemplate("page.html", "header|<@cms_dynamic_region name=\"member\">${Member}</@cms_dynamic_region>|footer");
+
+		StringWriter skeletonWriter = new StringWriter();
+		TemplateContext context = render("page.html", TemplateContext.RegionMode.SKELETON, "A", skeletonWriter);
+		assertFalse(context.isNestedRegion());
+		DynamicPageSkeleton skeleton = DynamicPageSkeleton.parse(skeletonWriter.toString());
+		assertTrue(skeleton.hasRegions());
+
+		context = render("page.html", TemplateContext.RegionMode.REGION, "B", new StringWriter());
+		StringWriter out = new StringWriter();
+		skeleton.write(out, context.getRegionContents());
+		assertEquals("header|B|footer", out.toString());
+	}
+
+	@Test
+	void testRegionInsideInclude() throws Exception {
+		addTemplate("member.template.html", "<@cms_dynamic_region name=\"member\">${Member}</@cms_dynamic_region>");
+		addTemplate("page.html", "header|<@cms_include file=\"member.template.html\" cache=\"true\"></@cms_include>|footer");
+
+		StringWriter skeletonWriter = new StringWriter();
+		TemplateContext context = render("page.html", TemplateContext.RegionMode.SKELETON, "A", skeletonWriter);
+		// 包含模板内的区块在REGION模式下不会执行，需标记为嵌套区块由动态页面完整渲染
+		assertTrue(context.isNestedRegion());
+		assertEquals("header|A|footer", skeletonWriter.toString());
+		assertEquals(0, context.getTagDepth());
+		// 动态区块渲染不可使用包含模板缓存或写入SSI文件
+		verifyNoInteractions(this.includeFragmentCache);
+	}
+}
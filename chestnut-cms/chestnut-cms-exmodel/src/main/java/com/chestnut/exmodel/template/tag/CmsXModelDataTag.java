@@ -5,7 +5,11 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
+import com.chestnut.common.staticize.FreeMarkerUtils;
 import com.chestnut.common.staticize.StaticizeConstants;
+import com.chestnut.common.staticize.core.TemplateContext;
+import com.chestnut.common.staticize.core.TemplateDataCache;
+import com.chestnut.contentcore.publish.PublishDependencyIndex;
 import com.chestnut.common.staticize.tag.TagAttrOption;
 import com.chestnut.exmodel.CmsExtendMetaModelType;
 import com.chestnut.exmodel.domain.CmsExtendModelData;
@@ -16,6 +20,7 @@ import org.springframework.stereotype.Component;
 import com.chestnut.common.staticize.enums.TagAttrDataType;
 import com.chestnut.common.staticize.tag.AbstractTag;
 import com.chestnut.common.staticize.tag.TagAttr;
+import com.chestnut.common.utils.NumberUtils;
 import com.chestnut.common.utils.StringUtils;
 import com.chestnut.xmodel.domain.XModel;
 import com.chestnut.xmodel.service.IModelDataService;
@@ -66,12 +71,17 @@ public class CmsXModelDataTag extends AbstractTag {
 		if (StringUtils.isEmpty(dataId)) {
 			throw new TemplateException("扩展模型数据ID不能为空：" + dataId, env);
 		}
-		Map<String, Object> modelData = this.modelDataService.getModelDataByPkValue(modelId,
-				Map.of(
-						CmsExtendMetaModelType.FIELD_MODEL_ID.getCode(), modelId,
-						CmsExtendMetaModelType.FIELD_DATA_TYPE.getCode(), dataType,
-						CmsExtendMetaModelType.FIELD_DATA_ID.getCode(), dataId
-				));
+		TemplateContext context = FreeMarkerUtils.getTemplateContext(env);
+		if (ExtendModelDataType.CONTENT.equals(dataType) && NumberUtils.isDigits(dataId)) {
+			context.addDependency(PublishDependencyIndex.content(Long.valueOf(dataId)));
+		}
+		Map<String, Object> modelData = context.getTagData(TemplateDataCache.key(getTagName(), attrs),
+				() -> this.modelDataService.getModelDataByPkValue(modelId,
+						Map.of(
+								CmsExtendMetaModelType.FIELD_MODEL_ID.getCode(), modelId,
+								CmsExtendMetaModelType.FIELD_DATA_TYPE.getCode(), dataType,
+								CmsExtendMetaModelType.FIELD_DATA_ID.getCode(), dataId
+						)));
 		return Map.of(StaticizeConstants.TemplateVariable_Data, this.wrap(env, modelData));
 	}
 
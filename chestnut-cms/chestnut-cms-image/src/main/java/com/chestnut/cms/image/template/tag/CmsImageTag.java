@@ -18,6 +18,7 @@ import com.chestnut.common.staticize.tag.AbstractListTag;
 import com.chestnut.common.staticize.tag.TagAttr;
 import com.chestnut.contentcore.domain.CmsContent;
 import com.chestnut.contentcore.enums.ContentCopyType;
+import com.chestnut.contentcore.publish.PublishDependencyIndex;
 import com.chestnut.contentcore.service.IContentService;
 import com.chestnut.contentcore.util.InternalUrlUtils;
 
@@ -52,8 +53,11 @@ public class CmsImageTag extends AbstractListTag {
 			throw new TemplateException("图集内容ID错误：" + contentId, env);
 		}
 		CmsContent c = this.contentService.getById(contentId);
+		TemplateContext context = FreeMarkerUtils.getTemplateContext(env);
+		context.addDependency(PublishDependencyIndex.content(contentId));
 		if (ContentCopyType.isMapping(c.getCopyType())) {
 			contentId = c.getCopyId();
+			context.addDependency(PublishDependencyIndex.content(contentId));
 		}
 		String condition = MapUtils.getString(attrs, TagAttr.AttrName_Condition);
 
@@ -64,7 +68,6 @@ public class CmsImageTag extends AbstractListTag {
 		if (pageIndex > 1 & pageResult.getRecords().size() == 0) {
 			throw new TemplateException("内容列表页码超出上限：" + pageIndex, env);
 		}
-		TemplateContext context = FreeMarkerUtils.getTemplateContext(env);
 		pageResult.getRecords().forEach(image -> {
 			image.setSrc(
 					InternalUrlUtils.getActualUrl(image.getPath(), context.getPublishPipeCode(), context.isPreview()));
@@ -10,6 +10,7 @@ import com.chestnut.common.staticize.tag.TagAttr;
 import com.chestnut.common.utils.StringUtils;
 import com.chestnut.contentcore.domain.CmsContent;
 import com.chestnut.contentcore.enums.ContentCopyType;
+import com.chestnut.contentcore.publish.PublishDependencyIndex;
 import com.chestnut.contentcore.service.IContentService;
 import com.chestnut.contentcore.util.InternalUrlUtils;
 import com.chestnut.media.domain.CmsAudio;
@@ -50,8 +51,11 @@ public class CmsAudioTag extends AbstractListTag {
 			throw new TemplateException("音频集内容ID错误：" + contentId, env);
 		}
 		CmsContent c = this.contentService.getById(contentId);
+		TemplateContext context = FreeMarkerUtils.getTemplateContext(env);
+		context.addDependency(PublishDependencyIndex.content(contentId));
 		if (ContentCopyType.isMapping(c.getCopyType())) {
 			contentId = c.getCopyId();
+			context.addDependency(PublishDependencyIndex.content(contentId));
 		}
 		String condition = MapUtils.getString(attrs, TagAttr.AttrName_Condition);
 		LambdaQueryWrapper<CmsAudio> q = new LambdaQueryWrapper<CmsAudio>().eq(CmsAudio::getContentId, contentId);
@@ -61,7 +65,6 @@ public class CmsAudioTag extends AbstractListTag {
 		if (pageIndex > 1 & pageResult.getRecords().size() == 0) {
 			throw new TemplateException("内容列表页码超出上限：" + pageIndex, env);
 		}
-		TemplateContext context = FreeMarkerUtils.getTemplateContext(env);
 		pageResult.getRecords().forEach(audio -> {
 			audio.setSrc(
 					InternalUrlUtils.getActualUrl(audio.getPath(), context.getPublishPipeCode(), context.isPreview()));
@@ -16,6 +16,7 @@ import com.chestnut.common.staticize.tag.AbstractListTag;
 import com.chestnut.common.staticize.tag.TagAttr;
 import com.chestnut.contentcore.domain.CmsContent;
 import com.chestnut.contentcore.enums.ContentCopyType;
+import com.chestnut.contentcore.publish.PublishDependencyIndex;
 import com.chestnut.contentcore.service.IContentService;
 import com.chestnut.contentcore.util.InternalUrlUtils;
 import com.chestnut.media.domain.CmsVideo;
@@ -52,8 +53,11 @@ public class CmsVideoTag extends AbstractListTag {
 			throw new TemplateException("视频集内容ID错误：" + contentId, env);
 		}
 		CmsContent c = this.contentService.getById(contentId);
+		TemplateContext context = FreeMarkerUtils.getTemplateContext(env);
+		context.addDependency(PublishDependencyIndex.content(contentId));
 		if (ContentCopyType.isMapping(c.getCopyType())) {
 			contentId = c.getCopyId();
+			context.addDependency(PublishDependencyIndex.content(contentId));
 		}
 
 		LambdaQueryWrapper<CmsVideo> q = new LambdaQueryWrapper<CmsVideo>().eq(CmsVideo::getContentId, contentId);
@@ -65,7 +69,6 @@ public class CmsVideoTag extends AbstractListTag {
 		if (pageIndex > 1 & pageResult.getRecords().size() == 0) {
 			throw new TemplateException("内容列表页码超出上限：" + pageIndex, env);
 		}
-		TemplateContext context = FreeMarkerUtils.getTemplateContext(env);
 		pageResult.getRecords().forEach(video -> {
 			video.setSrc(
 					InternalUrlUtils.getActualUrl(video.getPath(), context.getPublishPipeCode(), context.isPreview()));
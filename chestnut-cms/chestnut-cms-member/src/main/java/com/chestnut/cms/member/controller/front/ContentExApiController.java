@@ -18,6 +18,9 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -51,10 +54,12 @@ public class ContentExApiController extends BaseRestController {
 			return R.ok(List.of());
 		}
 		List<ContentDynamicDataVO> list = this.contentDynamicDataService.getContentDynamicDataList(contentIds);
+		Map<Long, MemberCache> contributors = this.memberStatDataService.getMemberCaches(list.stream()
+				.map(ContentDynamicDataVO::getContributorId).filter(IdUtils::validate).collect(Collectors.toSet()));
 		List<ContentDynamicDataWithContributorVO> values = list.stream().map(data -> {
 			ContentDynamicDataWithContributorVO vo = new ContentDynamicDataWithContributorVO(data);
-			if (IdUtils.validate(vo.getContributorId())) {
-				MemberCache memberCache = this.memberStatDataService.getMemberCache(vo.getContributorId());
+			MemberCache memberCache = contributors.get(vo.getContributorId());
+			if (Objects.nonNull(memberCache)) {
 				ContributorVO contributor = new ContributorVO();
 				contributor.setUid(memberCache.getMemberId());
 				contributor.setDisplayName(memberCache.getDisplayName());
@@ -24,6 +24,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -64,10 +66,12 @@ public class MemberContentApiController extends BaseRestController {
 			return R.ok(List.of());
 		}
 		List<ContentDynamicDataVO> list = this.contentDynamicDataService.getContentDynamicDataList(contentIds);
+		Map<Long, MemberCache> contributors = this.memberStatDataService.getMemberCaches(list.stream()
+				.map(ContentDynamicDataVO::getContributorId).filter(IdUtils::validate).collect(Collectors.toSet()));
 		List<ContentDynamicDataWithContributorVO> values = list.stream().map(data -> {
 			ContentDynamicDataWithContributorVO vo = new ContentDynamicDataWithContributorVO(data);
-			if (IdUtils.validate(vo.getContributorId())) {
-				MemberCache memberCache = this.memberStatDataService.getMemberCache(vo.getContributorId());
+			MemberCache memberCache = contributors.get(vo.getContributorId());
+			if (Objects.nonNull(memberCache)) {
 				ContributorVO contributor = new ContributorVO();
 				contributor.setUid(memberCache.getMemberId());
 				contributor.setDisplayName(memberCache.getDisplayName());
@@ -62,6 +62,11 @@ public class AccountCentreDynamicPageType implements IDynamicPageType {
         return PublishPipeProp_AccountCentreTemplate.KEY;
     }
 
+    @Override
+    public List<String> getCacheParameters() {
+        return List.of("memberId", "type");
+    }
+
     @Override
     public void validate(Map<String, String> parameters) {
         Long memberId = MapUtils.getLong(parameters, "memberId");
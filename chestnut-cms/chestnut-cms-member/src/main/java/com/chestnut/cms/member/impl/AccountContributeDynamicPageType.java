@@ -79,6 +79,11 @@ public class AccountContributeDynamicPageType implements IDynamicPageType {
         return PublishPipeProp_MemberContributeTemplate.KEY;
     }
 
+    @Override
+    public List<String> getCacheParameters() {
+        return List.of("memberId");
+    }
+
     @Override
     public void validate(Map<String, String> parameters) {
         Long memberId = MapUtils.getLong(parameters, "memberId");
@@ -49,4 +49,9 @@ public class AccountForgetPasswordDynamicPageType implements IDynamicPageType {
     public String getPublishPipeKey() {
         return PublishPipeProp_MemberForgetPasswordTemplate.KEY;
     }
+
+    @Override
+    public List<String> getCacheParameters() {
+        return List.of();
+    }
 }
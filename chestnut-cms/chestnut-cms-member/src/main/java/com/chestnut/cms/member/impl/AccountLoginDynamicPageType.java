@@ -49,4 +49,9 @@ public class AccountLoginDynamicPageType implements IDynamicPageType {
     public String getPublishPipeKey() {
         return PublishPipeProp_MemberLoginTemplate.KEY;
     }
+
+    @Override
+    public List<String> getCacheParameters() {
+        return List.of();
+    }
 }
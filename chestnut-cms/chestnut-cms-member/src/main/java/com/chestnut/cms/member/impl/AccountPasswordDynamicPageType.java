@@ -66,6 +66,11 @@ public class AccountPasswordDynamicPageType implements IDynamicPageType {
         return PublishPipeProp_MemberPasswordTemplate.KEY;
     }
 
+    @Override
+    public List<String> getCacheParameters() {
+        return List.of("memberId");
+    }
+
     @Override
     public void validate(Map<String, String> parameters) {
         Long memberId = MapUtils.getLong(parameters, "memberId");
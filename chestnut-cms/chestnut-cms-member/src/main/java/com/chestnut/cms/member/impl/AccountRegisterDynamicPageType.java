@@ -49,4 +49,9 @@ public class AccountRegisterDynamicPageType implements IDynamicPageType {
     public String getPublishPipeKey() {
         return PublishPipeProp_MemberRegisterTemplate.KEY;
     }
+
+    @Override
+    public List<String> getCacheParameters() {
+        return List.of();
+    }
 }
@@ -66,6 +66,11 @@ public class AccountSettingDynamicPageType implements IDynamicPageType {
         return PublishPipeProp_MemberSettingTemplate.KEY;
     }
 
+    @Override
+    public List<String> getCacheParameters() {
+        return List.of("memberId");
+    }
+
     @Override
     public void validate(Map<String, String> parameters) {
         Long memberId = MapUtils.getLong(parameters, "memberId");
@@ -9,6 +9,7 @@ import com.chestnut.common.staticize.tag.AbstractListTag;
 import com.chestnut.common.staticize.tag.TagAttr;
 import com.chestnut.contentcore.domain.CmsContent;
 import com.chestnut.contentcore.domain.dto.ContentDTO;
+import com.chestnut.contentcore.publish.PublishDependencyIndex;
 import com.chestnut.contentcore.service.IContentService;
 import com.chestnut.contentcore.util.InternalUrlUtils;
 import com.chestnut.member.domain.MemberFavorites;
@@ -57,6 +58,7 @@ public class CmsFavoriteContentTag extends AbstractListTag {
 		List<CmsContent> contents = this.contentService.listByIds(contentIds);
 
 		TemplateContext context = FreeMarkerUtils.getTemplateContext(env);
+		contents.forEach(c -> context.addDependency(PublishDependencyIndex.content(c.getContentId())));
 		List<ContentDTO> list = contents.stream().map(c -> {
 			ContentDTO dto = ContentDTO.newInstance(c);
 			dto.setLink(this.contentService.getContentLink(c, 1, context.getPublishPipeCode(), context.isPreview()));
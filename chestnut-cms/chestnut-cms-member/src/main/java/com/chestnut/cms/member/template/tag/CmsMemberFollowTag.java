@@ -17,6 +17,7 @@ import org.springframework.stereotype.Component;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 @Component
 @RequiredArgsConstructor
@@ -44,13 +45,15 @@ public class CmsMemberFollowTag extends AbstractListTag {
 		if (pageResult.getRecords().isEmpty()) {
 			return TagPageData.of(List.of(), pageResult.getTotal());
 		}
-		List<MemberCache> list = pageResult.getRecords().stream().map(mf -> {
+		List<Long> memberIds = pageResult.getRecords().stream().map(mf -> {
 			if ("follow".equalsIgnoreCase(type)) {
-				return this.memberStatDataService.getMemberCache(mf.getFollowMemberId());
+				return mf.getFollowMemberId();
 			} else {
-				return this.memberStatDataService.getMemberCache(mf.getMemberId());
+				return mf.getMemberId();
 			}
 		}).toList();
+		Map<Long, MemberCache> members = this.memberStatDataService.getMemberCaches(memberIds);
+		List<MemberCache> list = memberIds.stream().map(members::get).filter(Objects::nonNull).toList();
 		return TagPageData.of(list, pageResult.getTotal());
 	}
 
@@ -61,6 +61,11 @@ public class SearchDynamicPageType implements IDynamicPageType {
         return PublishPipeProp_SearchTemplate.KEY;
     }
 
+    @Override
+    public List<String> getCacheParameters() {
+        return List.of();
+    }
+
     @Override
     public void initTemplateData(Map<String, String> parameters, TemplateContext templateContext) {
         templateContext.getVariables().put("Request", ServletUtils.getParameters());
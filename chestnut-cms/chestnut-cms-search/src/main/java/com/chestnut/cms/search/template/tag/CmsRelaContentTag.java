@@ -16,6 +16,7 @@ import com.chestnut.common.utils.StringUtils;
 import com.chestnut.contentcore.domain.CmsCatalog;
 import com.chestnut.contentcore.domain.CmsContent;
 import com.chestnut.contentcore.domain.dto.ContentDTO;
+import com.chestnut.contentcore.publish.PublishDependencyIndex;
 import com.chestnut.contentcore.service.ICatalogService;
 import com.chestnut.contentcore.service.IContentService;
 import com.chestnut.search.SearchConsts;
@@ -62,6 +63,9 @@ public class CmsRelaContentTag extends AbstractListTag {
 		long siteId = FreeMarkerUtils.evalLongVariable(env, "Site.siteId");
 		long catalogId = MapUtils.getLongValue(attrs, "catalogid", 0);
 		String keywords = StringUtils.replaceEx(MapUtils.getString(attrs, "keywords"), ",", " ");
+		TemplateContext context = FreeMarkerUtils.getTemplateContext(env);
+		context.addDependency(catalogId > 0 ? PublishDependencyIndex.contentOfTree(catalogId)
+				: PublishDependencyIndex.contentOfSite(siteId));
 		if (this.searchService.isElasticSearchAvailable() && StringUtils.isNotEmpty(keywords)) {
 			try {
 				List<ContentDTO> list = findContentByIndex(siteId, catalogId, keywords, size);
@@ -71,7 +75,6 @@ public class CmsRelaContentTag extends AbstractListTag {
 			}
 		} else {
 			List<CmsContent> contents = this.findContentByDB(siteId, catalogId, size);
-			TemplateContext context = FreeMarkerUtils.getTemplateContext(env);
 			List<ContentDTO> list = contents.stream().map(c -> {
 				ContentDTO dto = ContentDTO.newInstance(c);
 				dto.setLink(this.contentService.getContentLink(c, 1, context.getPublishPipeCode(), context.isPreview()));
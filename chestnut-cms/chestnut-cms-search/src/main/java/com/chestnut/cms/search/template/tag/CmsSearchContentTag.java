@@ -13,6 +13,7 @@ import com.chestnut.common.staticize.tag.TagAttrOption;
 import com.chestnut.common.utils.IdUtils;
 import com.chestnut.common.utils.JacksonUtils;
 import com.chestnut.common.utils.StringUtils;
+import com.chestnut.contentcore.publish.PublishDependencyIndex;
 import com.chestnut.exmodel.CmsExtendMetaModelType;
 import com.chestnut.search.SearchConsts;
 import com.fasterxml.jackson.databind.node.ObjectNode;
@@ -67,6 +68,8 @@ public class CmsSearchContentTag extends AbstractListTag {
 		}
 		String contentType = MapUtils.getString(attrs, ATTR_CONTENT_TYPE);
 		Long catalogId = MapUtils.getLong(attrs, ATTR_CATALOG_ID);
+		FreeMarkerUtils.getTemplateContext(env).addDependency(IdUtils.validate(catalogId)
+				? PublishDependencyIndex.contentOfCatalog(catalogId) : PublishDependencyIndex.contentOfSite(siteId));
 		try {
 			SearchResponse<ObjectNode> sr = esClient.search(s -> {
 				s.index(ESContent.INDEX_NAME) // 索引
@@ -0,0 +1,88 @@
+package com.chestnut.cms.stat.collector;
+
+import com.baomidou.mybatisplus.extension.toolkit.Db;
+import com.chestnut.cms.stat.config.properties.CmsStatProperties;
+import com.chestnut.cms.stat.core.CmsStat;
+import com.chestnut.cms.stat.domain.CmsSiteVisitLog;
+import com.chestnut.stat.buffer.EventBuffer;
+import com.chestnut.stat.buffer.EventBufferManager;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 网站访问日志收集
+ * <p>
+ * 请求线程只记录原始请求信息放入缓冲队列，由消费线程批量解析IP及UserAgent、
+ * 执行{@link CmsStat}统计并批量写入访问日志。不保存访问日志且所有统计均不需要时跳过IP及UserAgent解析。
+ * </p>
+ *
+ * @author 兮玥
+ * @email 190785909@qq.com
+ */
+@Slf4j
+@Component
+public class CmsVisitLogCollector {
+
+	private static final String BUFFER_NAME = "cms_visit_log";
+
+	/**
+	 * 关闭时等待处理剩余访问日志的最长时间
+	 */
+	private static final long SHUTDOWN_TIMEOUT_MILLIS = 10000;
+
+	private final List<CmsStat> statList;
+
+	private final CmsStatProperties properties;
+
+	private final EventBuffer<CmsSiteVisitLog> buffer;
+
+	/**
+	 * 是否需要解析IP及UserAgent
+	 */
+	private final boolean enrich;
+
+	public CmsVisitLogCollector(List<CmsStat> statList, CmsStatProperties properties,
+								EventBufferManager eventBufferManager) {
+		this.statList = statList;
+		this.properties = properties;
+		this.enrich = properties.getVisitLog().isSaveLog() || statList.stream().anyMatch(CmsStat::needsEnrich);
+		this.buffer = eventBufferManager.create(BUFFER_NAME, properties.getVisitLog().getBuffer(), this::handle);
+	}
+
+	/**
+	 * 提交访问日志，队列已满时按配置策略处理
+	 */
+	public boolean collect(CmsSiteVisitLog visitLog) {
+		return this.buffer.offer(visitLog);
+	}
+
+	private void handle(List<CmsSiteVisitLog> logs) {
+		for (CmsSiteVisitLog visitLog : logs) {
+			if (this.enrich) {
+				try {
+					visitLog.enrich();
+				} catch (Exception e) {
+					log.warn("Parse visit log ip/user-agent failed: {}", e.getMessage());
+				}
+			}
+			for (CmsStat stat : this.statList) {
+				try {
+					stat.deal(visitLog);
+				} catch (Exception e) {
+					log.error("Cms stat [{}] deal failed.", stat.getClass().getSimpleName(), e);
+				}
+			}
+		}
+		if (this.properties.getVisitLog().isSaveLog()) {
+			Db.saveBatch(logs, logs.size());
+		}
+	}
+
+	@PreDestroy
+	public void destroy() {
+		this.buffer.shutdown(SHUTDOWN_TIMEOUT_MILLIS);
+	}
+}
@@ -0,0 +1,17 @@
+package com.chestnut.cms.stat.config;
+
+import com.chestnut.cms.stat.config.properties.CmsStatProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * CMS统计配置
+ *
+ * @author 兮玥
+ * @email 190785909@qq.com
+ */
+@Configuration
+@EnableConfigurationProperties(CmsStatProperties.class)
+public class CmsStatConfig {
+
+}
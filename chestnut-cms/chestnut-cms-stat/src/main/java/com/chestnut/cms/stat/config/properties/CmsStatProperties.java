@@ -0,0 +1,41 @@
+package com.chestnut.cms.stat.config.properties;
+
+import com.chestnut.stat.buffer.EventBufferOptions;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * CMS统计配置
+ *
+ * @author 兮玥
+ * @email 190785909@qq.com
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "chestnut.cms.stat")
+public class CmsStatProperties {
+
+	/**
+	 * 网站访问日志配置
+	 */
+	private final VisitLog visitLog = new VisitLog();
+
+	@Getter
+	@Setter
+	public static class VisitLog {
+
+		/**
+		 * 是否保存访问日志到数据库，默认不保存
+		 * <p>
+		 * 访问日志按请求逐条写入且不会自动清理，开启时需自行定期清理cms_site_visit_log表。
+		 * </p>
+		 */
+		private boolean saveLog = false;
+
+		/**
+		 * 访问日志缓冲队列配置
+		 */
+		private final EventBufferOptions buffer = new EventBufferOptions();
+	}
+}
@@ -1,6 +1,6 @@
 package com.chestnut.cms.stat.controller.front;
 
-import com.chestnut.cms.stat.core.CmsStat;
+import com.chestnut.cms.stat.collector.CmsVisitLogCollector;
 import com.chestnut.cms.stat.domain.CmsSiteVisitLog;
 import com.chestnut.common.security.anno.Priv;
 import com.chestnut.common.security.web.BaseRestController;
@@ -13,7 +13,6 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
 /**
  * 统计数据
@@ -25,7 +24,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class CmsStatApiController extends BaseRestController {
 
-	private final List<CmsStat> statList;
+	private final CmsVisitLogCollector visitLogCollector;
 
 	/**
 	 * 网站访问统计
@@ -42,13 +41,13 @@ public class CmsStatApiController extends BaseRestController {
 			@RequestParam(value = "id", required = false, defaultValue = "0") Long contentId) {
 		try {
 			CmsSiteVisitLog log = new CmsSiteVisitLog();
-			log.fill(ServletUtils.getRequest());
+			log.capture(ServletUtils.getRequest());
 			log.setSiteId(siteId);
 			log.setCatalogId(catalogId);
 			log.setContentId(contentId);
 			log.setEvtTime(LocalDateTime.now());
 
-			this.statList.forEach(stat -> stat.deal(log));
+			this.visitLogCollector.collect(log);
 		} catch (Exception e) {
 			// TODO: handle exception
 		}
@@ -11,4 +11,11 @@ import com.chestnut.cms.stat.domain.CmsSiteVisitLog;
 public interface CmsStat {
 
     void deal(CmsSiteVisitLog log);
+
+    /**
+     * 是否需要解析访问日志的IP所属地区及UserAgent，均不需要且不保存访问日志时跳过解析
+     */
+    default boolean needsEnrich() {
+        return true;
+    }
 }
@@ -22,4 +22,9 @@ public class CmsContentViewStat implements CmsStat {
     public void deal(final CmsSiteVisitLog log) {
         this.contentDynamicDataService.increaseViewCount(log.getContentId());
     }
+
+    @Override
+    public boolean needsEnrich() {
+        return false;
+    }
 }
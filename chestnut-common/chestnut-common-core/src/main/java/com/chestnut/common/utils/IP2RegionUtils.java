@@ -2,6 +2,9 @@ package com.chestnut.common.utils;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.lionsoul.ip2region.xdb.Searcher;
 import org.slf4j.Logger;
@@ -10,39 +13,166 @@ import org.springframework.util.FileCopyUtils;
 
 /**
  * IP2Region工具类，内存查询
+ * <p>
+ * xdb全部加载到内存，查询只读共享字节数组，多线程共用同一个Searcher。
+ * IPv4查询结果按IP整数值缓存（LRU），相同地区共用同一个{@link IpRegion}对象，爬虫、NAT等重复IP无需重复查询。
+ * </p>
  */
 public class IP2RegionUtils {
-	
+
     private static final Logger logger = LoggerFactory.getLogger(IP2RegionUtils.class);
 
 	private static final String IP2REGION_DB_PATH = "ip2region/ip2region.xdb";
-	
+
+	private static final String INTERNAL = "内网";
+
+	/**
+	 * IP查询结果缓存数量
+	 */
+	private static final int CACHE_CAPACITY = 65536;
+
+	private static final IntLruCache<IpRegion> CACHE = new IntLruCache<>(CACHE_CAPACITY, 16);
+
+	/**
+	 * 地区字符串 -> 地区，xdb中的地区数量有限
+	 */
+	private static final Map<String, IpRegion> REGIONS = new ConcurrentHashMap<>();
+
 	private static Searcher searcher;
-	
+
 	static {
         try (InputStream is = IP2RegionUtils.class.getClassLoader().getResourceAsStream(IP2REGION_DB_PATH)) {
         	 byte[] cBuff;
              cBuff = FileCopyUtils.copyToByteArray(is);
              searcher = Searcher.newWithBuffer(cBuff);
-        } catch (IOException e1) {
+        } catch (IOException | IllegalArgumentException e1) {
+         	// xdb不存在时仍可使用IP格式解析，查询返回未知地区
          	logger.error("Load ip2region.xdb failed: {}", e1);
 		}
     }
-	
+
 	public static String ip2Region(String ip) {
+		return lookup(ip).region();
+	}
+
+	/**
+	 * 查询IP所属地区
+	 *
+	 * @param ip IP地址
+	 * @return 地区，无法识别时返回{@link IpRegion#UNKNOWN}
+	 */
+	public static IpRegion lookup(String ip) {
+		if (ServletUtils.isUnknown(ip)) {
+			return IpRegion.UNKNOWN;
+		}
+		long address = parseIPv4(ip);
+		if (address < 0) {
+			// 非标准格式IPv4地址及IPv6不缓存
+			return search(ip);
+		}
+		IpRegion region = CACHE.get((int) address);
+		if (Objects.isNull(region)) {
+			region = search(ip);
+			CACHE.put((int) address, region);
+		}
+		return region;
+	}
+
+	private static IpRegion search(String ip) {
 		try {
-			if (ServletUtils.isUnknown(ip)) {
-				return ServletUtils.UNKNOWN;
-			}
 			if (ServletUtils.internalIp(ip)) {
-				return "内网";
+				return IpRegion.INTERNAL;
 			}
-			return searcher.search(ip);
+			return REGIONS.computeIfAbsent(searcher.search(ip), IpRegion::of);
         } catch (Exception e) {
         	if (logger.isDebugEnabled()) {
         		logger.error("Ip2region failed: {}", e);
         	}
-        	return ServletUtils.UNKNOWN;
+        	return IpRegion.UNKNOWN;
         }
 	}
+
+	/**
+	 * 解析标准格式IPv4地址（四段十进制，无前导0）
+	 *
+	 * @return 无符号整数值，格式不符时返回-1
+	 */
+	static long parseIPv4(String ip) {
+		int length = ip.length();
+		if (length < 7 || length > 15) {
+			return -1;
+		}
+		long address = 0;
+		int part = 0;
+		int digits = 0;
+		int dots = 0;
+		for (int i = 0; i < length; i++) {
+			char c = ip.charAt(i);
+			if (c >= '0' && c <= '9') {
+				if (digits > 0 && part == 0) {
+					return -1;
+				}
+				part = part * 10 + (c - '0');
+				if (part > 255) {
+					return -1;
+				}
+				digits++;
+			} else if (c == '.' && digits > 0 && dots < 3) {
+				address = (address << 8) | part;
+				part = 0;
+				digits = 0;
+				dots++;
+			} else {
+				return -1;
+			}
+		}
+		if (dots != 3 || digits == 0) {
+			return -1;
+		}
+		return (address << 8) | part;
+	}
+
+	/**
+	 * IP查询缓存统计
+	 */
+	public static Map<String, Object> getStats() {
+		Map<String, Object> stats = CACHE.getStats();
+		stats.put("regions", REGIONS.size());
+		return stats;
+	}
+
+	/**
+	 * IP所属地区
+	 *
+	 * @param region   ip2region地区字符串：国家|区域|省份|城市|ISP
+	 * @param country  国家
+	 * @param area     区域
+	 * @param province 省份
+	 * @param city     城市
+	 * @param isp      运营商
+	 */
+	public record IpRegion(String region, String country, String area, String province, String city, String isp) {
+
+		public static final IpRegion UNKNOWN = new IpRegion(ServletUtils.UNKNOWN, "", "", "", "", "");
+
+		public static final IpRegion INTERNAL = new IpRegion(IP2RegionUtils.INTERNAL, "", "", "", "", "");
+
+		static IpRegion of(String region) {
+			String[] parts = new String[5];
+			int start = 0;
+			for (int i = 0; i < parts.length; i++) {
+				int end = i < parts.length - 1 ? region.indexOf('|', start) : -1;
+				String part = end < 0 ? region.substring(Math.min(start, region.length())) : region.substring(start, end);
+				// ip2region以0表示无数据
+				parts[i] = "0".equals(part) ? "" : part;
+				start = end < 0 ? region.length() : end + 1;
+			}
+			return new IpRegion(region, parts[0], parts[1], parts[2], parts[3], parts[4]);
+		}
+
+		@Override
+		public String toString() {
+			return this.region;
+		}
+	}
 }
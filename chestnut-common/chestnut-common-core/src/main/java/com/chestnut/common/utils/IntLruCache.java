@@ -0,0 +1,286 @@
+package com.chestnut.common.utils;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * int键LRU缓存
+ * <p>
+ * 键不装箱：每个分段使用开放寻址的int哈希表定位槽位，槽位之间以int数组组成双向链表维护访问顺序，
+ * 容量满时淘汰最久未访问的键。按键hash分段加锁，不同分段可并发读写。
+ * </p>
+ *
+ * @author 兮玥
+ * @email 190785909@qq.com
+ */
+public class IntLruCache<V> {
+
+	private final Segment<V>[] segments;
+
+	private final int segmentMask;
+
+	private final LongAdder hits = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	/**
+	 * @param capacity    最大缓存数量
+	 * @param concurrency 分段数量，向上取2的幂
+	 */
+	@SuppressWarnings("unchecked")
+	public IntLruCache(int capacity, int concurrency) {
+		int segmentCount = 1;
+		while (segmentCount < concurrency) {
+			segmentCount <<= 1;
+		}
+		this.segments = new Segment[segmentCount];
+		this.segmentMask = segmentCount - 1;
+		int segmentCapacity = Math.max(1, (capacity + segmentCount - 1) / segmentCount);
+		for (int i = 0; i < segmentCount; i++) {
+			this.segments[i] = new Segment<>(segmentCapacity);
+		}
+	}
+
+	public V get(int key) {
+		int hash = hash(key);
+		V value = this.segments[hash & this.segmentMask].get(key, hash);
+		if (value == null) {
+			this.misses.increment();
+		} else {
+			this.hits.increment();
+		}
+		return value;
+	}
+
+	public void put(int key, V value) {
+		int hash = hash(key);
+		this.segments[hash & this.segmentMask].put(key, hash, value);
+	}
+
+	public int size() {
+		int size = 0;
+		for (Segment<V> segment : this.segments) {
+			size += segment.size();
+		}
+		return size;
+	}
+
+	public void clear() {
+		for (Segment<V> segment : this.segments) {
+			segment.clear();
+		}
+		this.hits.reset();
+		this.misses.reset();
+	}
+
+	public Map<String, Object> getStats() {
+		long hitCount = this.hits.sum();
+		long missCount = this.misses.sum();
+		long evictions = 0;
+		int capacity = 0;
+		for (Segment<V> segment : this.segments) {
+			evictions += segment.evictions();
+			capacity += segment.capacity;
+		}
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("capacity", capacity);
+		stats.put("size", this.size());
+		stats.put("hits", hitCount);
+		stats.put("misses", missCount);
+		stats.put("hitRate", hitCount + missCount == 0 ? 0 : hitCount * 100.0 / (hitCount + missCount));
+		stats.put("evictions", evictions);
+		return stats;
+	}
+
+	/**
+	 * 打散键，分段及表内定位分别使用hash的高低位
+	 */
+	private static int hash(int key) {
+		int h = key * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+
+	private static class Segment<V> {
+
+		private static final int NONE = -1;
+
+		private final int capacity;
+
+		private final int tableMask;
+
+		/**
+		 * 哈希表，值为槽位+1，0表示空
+		 */
+		private final int[] table;
+
+		private final int[] keys;
+
+		private final int[] hashes;
+
+		private final Object[] values;
+
+		private final int[] prev;
+
+		private final int[] next;
+
+		/**
+		 * 最近访问的槽位
+		 */
+		private int head = NONE;
+
+		/**
+		 * 最久未访问的槽位
+		 */
+		private int tail = NONE;
+
+		private int size;
+
+		private long evictions;
+
+		Segment(int capacity) {
+			this.capacity = capacity;
+			int tableSize = 2;
+			while (tableSize < capacity * 2) {
+				tableSize <<= 1;
+			}
+			this.tableMask = tableSize - 1;
+			this.table = new int[tableSize];
+			this.keys = new int[capacity];
+			this.hashes = new int[capacity];
+			this.values = new Object[capacity];
+			this.prev = new int[capacity];
+			this.next = new int[capacity];
+		}
+
+		@SuppressWarnings("unchecked")
+		synchronized V get(int key, int hash) {
+			int slot = this.find(key, hash);
+			if (slot == NONE) {
+				return null;
+			}
+			this.moveToHead(slot);
+			return (V) this.values[slot];
+		}
+
+		synchronized void put(int key, int hash, V value) {
+			int slot = this.find(key, hash);
+			if (slot != NONE) {
+				this.values[slot] = value;
+				this.moveToHead(slot);
+				return;
+			}
+			if (this.size < this.capacity) {
+				slot = this.size++;
+			} else {
+				slot = this.tail;
+				this.removeFromTable(slot);
+				this.unlink(slot);
+				this.evictions++;
+			}
+			this.keys[slot] = key;
+			this.hashes[slot] = hash;
+			this.values[slot] = value;
+			int i = this.index(hash);
+			while (this.table[i] != 0) {
+				i = (i + 1) & this.tableMask;
+			}
+			this.table[i] = slot + 1;
+			this.linkHead(slot);
+		}
+
+		synchronized int size() {
+			return this.size;
+		}
+
+		synchronized long evictions() {
+			return this.evictions;
+		}
+
+		synchronized void clear() {
+			Arrays.fill(this.table, 0);
+			Arrays.fill(this.values, null);
+			this.head = this.tail = NONE;
+			this.size = 0;
+			this.evictions = 0;
+		}
+
+		private int index(int hash) {
+			// 低位已用于选择分段，表内定位使用高位
+			return (hash >>> 8) & this.tableMask;
+		}
+
+		private int find(int key, int hash) {
+			int i = this.index(hash);
+			while (this.table[i] != 0) {
+				int slot = this.table[i] - 1;
+				if (this.keys[slot] == key) {
+					return slot;
+				}
+				i = (i + 1) & this.tableMask;
+			}
+			return NONE;
+		}
+
+		/**
+		 * 从哈希表中删除槽位，后续冲突项前移填补空位
+		 */
+		private void removeFromTable(int slot) {
+			int i = this.index(this.hashes[slot]);
+			while (this.table[i] != slot + 1) {
+				i = (i + 1) & this.tableMask;
+			}
+			this.table[i] = 0;
+			int j = i;
+			while (true) {
+				j = (j + 1) & this.tableMask;
+				if (this.table[j] == 0) {
+					return;
+				}
+				int k = this.index(this.hashes[this.table[j] - 1]);
+				// k不在(i, j]区间内时，j处的项移到空位i
+				boolean stay = i <= j ? (i < k && k <= j) : (i < k || k <= j);
+				if (!stay) {
+					this.table[i] = this.table[j];
+					this.table[j] = 0;
+					i = j;
+				}
+			}
+		}
+
+		private void moveToHead(int slot) {
+			if (slot != this.head) {
+				this.unlink(slot);
+				this.linkHead(slot);
+			}
+		}
+
+		private void linkHead(int slot) {
+			this.prev[slot] = NONE;
+			this.next[slot] = this.head;
+			if (this.head != NONE) {
+				this.prev[this.head] = slot;
+			}
+			this.head = slot;
+			if (this.tail == NONE) {
+				this.tail = slot;
+			}
+		}
+
+		private void unlink(int slot) {
+			int p = this.prev[slot];
+			int n = this.next[slot];
+			if (p != NONE) {
+				this.next[p] = n;
+			} else {
+				this.head = n;
+			}
+			if (n != NONE) {
+				this.prev[n] = p;
+			} else {
+				this.tail = p;
+			}
+		}
+	}
+}
@@ -84,7 +84,7 @@ public class ServletUtils {
 	}
 
 	public static UserAgent parseUserAgent(HttpServletRequest request) {
-		return UserAgent.parseUserAgentString(getUserAgent(request));
+		return UserAgentUtils.parse(getUserAgent(request));
 	}
 
 	public static String getReferer(HttpServletRequest request) {
@@ -673,7 +673,7 @@ public class ServletUtils {
 	 * @return
 	 */
 	public static String getDeviceType(String userAgent) {
-		UserAgent ua = UserAgent.parseUserAgentString(userAgent);
+		UserAgent ua = UserAgentUtils.parse(userAgent);
 		return ua.getOperatingSystem().getDeviceType().getName();
 	}
 }
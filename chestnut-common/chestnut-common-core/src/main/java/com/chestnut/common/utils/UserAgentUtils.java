@@ -0,0 +1,128 @@
+package com.chestnut.common.utils;
+
+import eu.bitwalker.useragentutils.UserAgent;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * UserAgent解析
+ * <p>
+ * 解析结果按UserAgent字符串缓存，实际访问中不同的UserAgent字符串数量有限，缓存可避免每次请求重复解析。
+ * 缓存为固定容量的组相联结构：按字符串hash定位分组，组内比对hash及完整字符串，
+ * 分组已满时随机替换，读写无锁。过长的UserAgent不缓存。
+ * </p>
+ *
+ * @author 兮玥
+ * @email 190785909@qq.com
+ */
+public class UserAgentUtils {
+
+	/**
+	 * 分组数量，必须为2的幂
+	 */
+	private static final int SETS = 1024;
+
+	/**
+	 * 每组缓存数量
+	 */
+	private static final int WAYS = 8;
+
+	/**
+	 * 缓存的UserAgent最大长度
+	 */
+	private static final int MAX_CACHEABLE_LENGTH = 1024;
+
+	private static final AtomicReferenceArray<CachedUserAgent> CACHE = new AtomicReferenceArray<>(SETS * WAYS);
+
+	private static final LongAdder HITS = new LongAdder();
+
+	private static final LongAdder MISSES = new LongAdder();
+
+	private static final LongAdder EVICTIONS = new LongAdder();
+
+	/**
+	 * 解析UserAgent，优先从缓存读取
+	 *
+	 * @param userAgent UserAgent字符串
+	 */
+	public static UserAgent parse(String userAgent) {
+		if (Objects.isNull(userAgent) || userAgent.length() > MAX_CACHEABLE_LENGTH) {
+			MISSES.increment();
+			return UserAgent.parseUserAgentString(userAgent);
+		}
+		int hash = spread(userAgent.hashCode());
+		int offset = (hash & (SETS - 1)) * WAYS;
+		int emptyIndex = -1;
+		for (int i = offset; i < offset + WAYS; i++) {
+			CachedUserAgent cached = CACHE.get(i);
+			if (Objects.isNull(cached)) {
+				if (emptyIndex < 0) {
+					emptyIndex = i;
+				}
+			} else if (cached.hash == hash && cached.userAgentString.equals(userAgent)) {
+				HITS.increment();
+				return cached.userAgent;
+			}
+		}
+		MISSES.increment();
+		UserAgent parsed = UserAgent.parseUserAgentString(userAgent);
+		if (emptyIndex < 0) {
+			emptyIndex = offset + ThreadLocalRandom.current().nextInt(WAYS);
+			EVICTIONS.increment();
+		}
+		CACHE.set(emptyIndex, new CachedUserAgent(hash, userAgent, parsed));
+		return parsed;
+	}
+
+	/**
+	 * 打散hash高位，避免仅低位不同的hash落入同一分组
+	 */
+	private static int spread(int hash) {
+		return hash ^ (hash >>> 16);
+	}
+
+	/**
+	 * 缓存统计
+	 */
+	public static Map<String, Object> getStats() {
+		int size = 0;
+		for (int i = 0; i < CACHE.length(); i++) {
+			if (Objects.nonNull(CACHE.get(i))) {
+				size++;
+			}
+		}
+		long hits = HITS.sum();
+		long misses = MISSES.sum();
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("capacity", CACHE.length());
+		stats.put("size", size);
+		stats.put("hits", hits);
+		stats.put("misses", misses);
+		stats.put("hitRate", hits + misses == 0 ? 0 : hits * 100.0 / (hits + misses));
+		stats.put("evictions", EVICTIONS.sum());
+		return stats;
+	}
+
+	/**
+	 * 清空缓存及统计
+	 */
+	public static void clear() {
+		for (int i = 0; i < CACHE.length(); i++) {
+			CACHE.set(i, null);
+		}
+		HITS.reset();
+		MISSES.reset();
+		EVICTIONS.reset();
+	}
+
+	/**
+	 * UserAgent解析结果不可变，可在线程间共享
+	 */
+	private record CachedUserAgent(int hash, String userAgentString, UserAgent userAgent) {
+	}
+}
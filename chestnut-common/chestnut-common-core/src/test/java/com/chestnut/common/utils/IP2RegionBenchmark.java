@@ -0,0 +1,92 @@
+package com.chestnut.common.utils;
+
+import org.lionsoul.ip2region.xdb.Searcher;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.util.FileCopyUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * IP所属地区查询基准测试
+ * <p>
+ * 模拟重复IP访问，对比直接查询xdb与{@link IP2RegionUtils#lookup(String)}。
+ * 需要classpath中存在ip2region/ip2region.xdb。
+ * </p>
+ *
+ * @author 兮玥
+ * @email 190785909@qq.com
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IP2RegionBenchmark {
+
+	/**
+	 * 不同IP数量
+	 */
+	@Param({ "1000", "50000" })
+	private int distinct;
+
+	private String[] ips;
+
+	private Searcher searcher;
+
+	@Setup
+	public void setup() throws IOException {
+		try (InputStream is = IP2RegionBenchmark.class.getClassLoader().getResourceAsStream("ip2region/ip2region.xdb")) {
+			Objects.requireNonNull(is, "ip2region/ip2region.xdb not found in classpath.");
+			this.searcher = Searcher.newWithBuffer(FileCopyUtils.copyToByteArray(is));
+		}
+		Random random = new Random(this.distinct);
+		this.ips = new String[this.distinct];
+		for (int i = 0; i < this.distinct; i++) {
+			this.ips[i] = (random.nextInt(223) + 1) + "." + random.nextInt(256) + "." + random.nextInt(256) + "."
+					+ random.nextInt(256);
+		}
+	}
+
+	private String next() {
+		return this.ips[ThreadLocalRandom.current().nextInt(this.ips.length)];
+	}
+
+	/**
+	 * 优化前的查询：内网判断后直接查询xdb
+	 */
+	@Benchmark
+	@Threads(4)
+	public void rawSearch(Blackhole bh) throws Exception {
+		String ip = next();
+		if (ServletUtils.internalIp(ip)) {
+			bh.consume("内网");
+			return;
+		}
+		String region = this.searcher.search(ip);
+		bh.consume(region.split("\\|"));
+	}
+
+	@Benchmark
+	@Threads(4)
+	public void cachedLookup(Blackhole bh) {
+		IP2RegionUtils.IpRegion region = IP2RegionUtils.lookup(next());
+		bh.consume(region.province());
+		bh.consume(region.city());
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options options = new OptionsBuilder().include(IP2RegionBenchmark.class.getSimpleName()).build();
+		new Runner(options).run();
+	}
+}
@@ -0,0 +1,32 @@
+package com.chestnut.common.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * IPv4地址解析测试
+ *
+ * @author 兮玥
+ * @email 190785909@qq.com
+ */
+public class IP2RegionUtilsTest {
+
+	@Test
+	void testParseIPv4() {
+		assertEquals(0L, IP2RegionUtils.parseIPv4("0.0.0.0"));
+		assertEquals(0xFFFFFFFFL, IP2RegionUtils.parseIPv4("255.255.255.255"));
+		assertEquals(0x01020304L, IP2RegionUtils.parseIPv4("1.2.3.4"));
+		assertEquals(0xC0A80001L, IP2RegionUtils.parseIPv4("192.168.0.1"));
+		assertEquals(0x0A00000AL, IP2RegionUtils.parseIPv4("10.0.0.10"));
+	}
+
+	@Test
+	void testParseIPv4Invalid() {
+		String[] invalid = { "01.2.3.4", "1.02.3.4", "00.0.0.0", "1.2.3", "1.2.3.4.", ".1.2.3", "1..2.3",
+				"256.1.1.1", "1.2.3.256", "1.2.3.4.5", "::1", "fe80::1", "a.b.c.d", "1.2.3.-4", " 1.2.3.4", "" };
+		for (String ip : invalid) {
+			assertEquals(-1L, IP2RegionUtils.parseIPv4(ip), ip);
+		}
+	}
+}
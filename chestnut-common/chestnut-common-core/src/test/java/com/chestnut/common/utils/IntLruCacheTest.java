@@ -0,0 +1,141 @@
+package com.chestnut.common.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * int键LRU缓存测试
+ *
+ * @author 兮玥
+ * @email 190785909@qq.com
+ */
+public class IntLruCacheTest {
+
+	@Test
+	void testEvictionOrder() {
+		IntLruCache<String> cache = new IntLruCache<>(3, 1);
+		cache.put(1, "v1");
+		cache.put(2, "v2");
+		cache.put(3, "v3");
+		// 访问后1变为最近访问，淘汰顺序：2、3、1
+		assertEquals("v1", cache.get(1));
+		cache.put(4, "v4");
+		assertNull(cache.get(2));
+		cache.put(5, "v5");
+		assertNull(cache.get(3));
+		assertEquals(3, cache.size());
+
+		// 淘汰后重新放入，淘汰当前最久未访问的1
+		cache.put(2, "v2'");
+		assertNull(cache.get(1));
+		assertEquals("v2'", cache.get(2));
+		assertEquals("v4", cache.get(4));
+		assertEquals("v5", cache.get(5));
+		assertEquals(3, cache.size());
+		assertEquals(3L, cache.getStats().get("evictions"));
+	}
+
+	@Test
+	void testUpdateExistingKey() {
+		IntLruCache<String> cache = new IntLruCache<>(2, 1);
+		cache.put(1, "a");
+		cache.put(2, "b");
+		// 更新已存在的键同时更新访问顺序
+		cache.put(1, "a'");
+		cache.put(3, "c");
+		assertNull(cache.get(2));
+		assertEquals("a'", cache.get(1));
+		assertEquals("c", cache.get(3));
+	}
+
+	@Test
+	void testCollisionAcrossTableWrapAround() {
+		// 容量8的分段哈希表大小为16，取定位到最后一个位置的键，冲突项从表尾回绕到表头
+		int capacity = 8;
+		List<Integer> keys = keysAtIndex(15, 15, 4);
+		List<Integer> nextKeys = keysAtIndex(0, 15, 2);
+		List<Integer> fillers = keysAtIndex(7, 15, capacity);
+		IntLruCache<Integer> cache = new IntLruCache<>(capacity, 1);
+		List<Integer> live = new ArrayList<>();
+		live.addAll(keys);
+		live.addAll(nextKeys);
+		live.addAll(fillers.subList(0, capacity - live.size()));
+		live.forEach(key -> cache.put(key, key));
+		live.forEach(key -> assertEquals(key, cache.get(key)));
+
+		// 依次淘汰回绕位置上的键，后续冲突项前移后仍可查询
+		int fillerIndex = capacity - keys.size() - nextKeys.size();
+		for (Integer evicted : keys) {
+			live.remove(evicted);
+			live.forEach(key -> assertEquals(key, cache.get(key)));
+			Integer filler = fillers.get(fillerIndex++);
+			cache.put(filler, filler);
+			live.add(filler);
+			assertNull(cache.get(evicted));
+			live.forEach(key -> assertEquals(key, cache.get(key)));
+		}
+		assertEquals(capacity, cache.size());
+	}
+
+	@Test
+	void testNegativeKeys() {
+		IntLruCache<String> cache = new IntLruCache<>(16, 4);
+		// 128.0.0.0及以上的IPv4地址转为int后为负数
+		int[] keys = { -1, Integer.MIN_VALUE, (int) IP2RegionUtils.parseIPv4("128.0.0.1"),
+				(int) IP2RegionUtils.parseIPv4("255.255.255.255"), 0, Integer.MAX_VALUE };
+		for (int key : keys) {
+			cache.put(key, String.valueOf(key));
+		}
+		for (int key : keys) {
+			assertEquals(String.valueOf(key), cache.get(key));
+		}
+		assertEquals(5, cache.size());
+	}
+
+	@Test
+	void testMatchesLinkedHashMap() {
+		int capacity = 16;
+		IntLruCache<Integer> cache = new IntLruCache<>(capacity, 1);
+		Map<Integer, Integer> reference = new LinkedHashMap<>(16, 0.75f, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Integer, Integer> eldest) {
+				return size() > capacity;
+			}
+		};
+		Random random = new Random(20240101);
+		for (int i = 0; i < 200000; i++) {
+			int key = random.nextInt(80) - 40;
+			if (random.nextBoolean()) {
+				cache.put(key, i);
+				reference.put(key, i);
+			} else {
+				assertEquals(reference.get(key), cache.get(key), "key: " + key + ", op: " + i);
+			}
+			assertEquals(reference.size(), cache.size());
+		}
+		reference.forEach((key, value) -> assertEquals(value, cache.get(key)));
+	}
+
+	/**
+	 * 查找在分段哈希表中定位到指定位置的键，与IntLruCache的hash及表内定位一致
+	 */
+	private static List<Integer> keysAtIndex(int index, int tableMask, int count) {
+		List<Integer> keys = new ArrayList<>(count);
+		for (int key = 1; keys.size() < count; key++) {
+			int h = key * 0x9E3779B9;
+			h ^= h >>> 16;
+			if (((h >>> 8) & tableMask) == index) {
+				keys.add(key);
+			}
+		}
+		return keys;
+	}
+}
@@ -0,0 +1,85 @@
+package com.chestnut.common.utils;
+
+import eu.bitwalker.useragentutils.UserAgent;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * UserAgent解析缓存基准测试
+ * <p>
+ * 模拟少量不同UserAgent反复出现的访问，对比直接解析与{@link UserAgentUtils#parse(String)}。
+ * 运行：执行main方法，或mvn test-compile后通过org.openjdk.jmh.Main运行。
+ * </p>
+ *
+ * @author 兮玥
+ * @email 190785909@qq.com
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserAgentParseBenchmark {
+
+	private static final String[] BASE_USER_AGENTS = {
+			"Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36",
+			"Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/605.1.15 (KHTML, like Gecko) Version/17.1 Safari/605.1.15",
+			"Mozilla/5.0 (iPhone; CPU iPhone OS 17_1 like Mac OS X) AppleWebKit/605.1.15 (KHTML, like Gecko) Version/17.1 Mobile/15E148 Safari/604.1",
+			"Mozilla/5.0 (Linux; Android 13; SM-S9080) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/116.0.0.0 Mobile Safari/537.36",
+			"Mozilla/5.0 (Windows NT 10.0; Win64; x64; rv:121.0) Gecko/20100101 Firefox/121.0",
+			"Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36 Edg/120.0.0.0",
+			"Mozilla/5.0 (Linux; Android 12; V2163A) AppleWebKit/537.36 (KHTML, like Gecko) Version/4.0 Chrome/101.0.4951.74 Mobile Safari/537.36 MicroMessenger/8.0.42",
+			"Mozilla/5.0 (compatible; Baiduspider/2.0; +http://www.baidu.com/search/spider.html)"
+	};
+
+	/**
+	 * 不同UserAgent数量
+	 */
+	@Param({ "100", "2000" })
+	private int distinct;
+
+	private String[] userAgents;
+
+	@Setup
+	public void setup() {
+		this.userAgents = new String[this.distinct];
+		for (int i = 0; i < this.distinct; i++) {
+			// 以版本号区分出不同的UserAgent字符串
+			this.userAgents[i] = BASE_USER_AGENTS[i % BASE_USER_AGENTS.length] + " Build/" + i;
+		}
+		UserAgentUtils.clear();
+	}
+
+	private String next() {
+		return this.userAgents[ThreadLocalRandom.current().nextInt(this.userAgents.length)];
+	}
+
+	@Benchmark
+	@Threads(4)
+	public void rawParse(Blackhole bh) {
+		UserAgent ua = UserAgent.parseUserAgentString(next());
+		bh.consume(ua.getBrowser());
+		bh.consume(ua.getOperatingSystem().getDeviceType());
+	}
+
+	@Benchmark
+	@Threads(4)
+	public void cachedParse(Blackhole bh) {
+		UserAgent ua = UserAgentUtils.parse(next());
+		bh.consume(ua.getBrowser());
+		bh.consume(ua.getOperatingSystem().getDeviceType());
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options options = new OptionsBuilder().include(UserAgentParseBenchmark.class.getSimpleName()).build();
+		new Runner(options).run();
+	}
+}
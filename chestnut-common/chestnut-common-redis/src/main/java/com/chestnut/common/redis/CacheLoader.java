@@ -0,0 +1,236 @@
+package com.chestnut.common.redis;
+
+import com.chestnut.common.redis.config.properties.RedisLoadProperties;
+import com.chestnut.common.redis.monitor.CacheMetrics;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 缓存加载，防止缓存失效时大量并发请求同时加载数据
+ * <p>
+ * 当前节点对同一缓存键的并发加载合并为一次，其他线程等待加载结果；
+ * 启用租约时通过Redis SET NX在节点间互斥，未获得租约的节点等待缓存写入，超时后自行加载。
+ * </p>
+ * <p>
+ * 设置了有效期的缓存按加载耗时及剩余有效期概率提前刷新（XFetch），剩余有效期越短、加载越慢，刷新概率越大，
+ * 由单个请求在缓存过期前重新加载，避免过期瞬间的并发加载。
+ * </p>
+ *
+ * @author 兮玥
+ * @email 190785909@qq.com
+ */
+@SuppressWarnings(value = { "unchecked", "rawtypes" })
+class CacheLoader {
+
+	private static final String LEASE_SUFFIX = ":load_lease";
+
+	private static final RedisScript<Long> RELEASE_LEASE_SCRIPT = new DefaultRedisScript<>(
+			"if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+			Long.class);
+
+	/**
+	 * 记录加载耗时的最大缓存键数量
+	 */
+	private static final int MAX_LOAD_COSTS = 10000;
+
+	private final RedisTemplate redisTemplate;
+
+	private final RedisLoadProperties properties;
+
+	/**
+	 * 当前节点正在加载的缓存键
+	 */
+	private final Map<String, CompletableFuture<Object>> loadings = new ConcurrentHashMap<>();
+
+	/**
+	 * 缓存加载耗时（毫秒），用于计算提前刷新概率
+	 */
+	private final Map<String, Long> loadCosts = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+			return size() > MAX_LOAD_COSTS;
+		}
+	});
+
+	private final LongAdder loads = new LongAdder();
+
+	private final LongAdder sharedLoads = new LongAdder();
+
+	private final LongAdder leaseWaits = new LongAdder();
+
+	private final LongAdder leaseTimeouts = new LongAdder();
+
+	private final LongAdder earlyRefreshes = new LongAdder();
+
+	private final CacheMetrics metrics;
+
+	CacheLoader(RedisTemplate redisTemplate, RedisLoadProperties properties, CacheMetrics metrics) {
+		this.redisTemplate = redisTemplate;
+		this.properties = properties;
+		this.metrics = metrics;
+	}
+
+	/**
+	 * 读取缓存，不存在时加载，缓存即将过期时按概率提前刷新
+	 */
+	<T> T get(String cacheKey, Supplier<CacheObject<T>> loader) {
+		if (!this.properties.getEarlyRefresh().isEnable()) {
+			T value = (T) this.redisTemplate.opsForValue().get(cacheKey);
+			if (Objects.nonNull(value)) {
+				this.metrics.recordHit(cacheKey, value);
+				return value;
+			}
+			this.metrics.recordMiss(cacheKey);
+			return this.load(cacheKey, loader);
+		}
+		List<Object> results = this.redisTemplate.executePipelined(new SessionCallback<Object>() {
+
+			@Override
+			public Object execute(RedisOperations operations) {
+				operations.opsForValue().get(cacheKey);
+				operations.getExpire(cacheKey, TimeUnit.MILLISECONDS);
+				return null;
+			}
+		});
+		T value = (T) results.get(0);
+		if (Objects.isNull(value)) {
+			this.metrics.recordMiss(cacheKey);
+			return this.load(cacheKey, loader);
+		}
+		this.metrics.recordHit(cacheKey, value);
+		Long ttl = (Long) results.get(1);
+		if (Objects.nonNull(ttl) && ttl > 0 && this.shouldRefresh(cacheKey, ttl)
+				&& !this.loadings.containsKey(cacheKey)) {
+			this.earlyRefreshes.increment();
+			T refreshed = this.load(cacheKey, loader);
+			return Objects.nonNull(refreshed) ? refreshed : value;
+		}
+		return value;
+	}
+
+	/**
+	 * 加载数据并写入缓存
+	 */
+	<T> T load(String cacheKey, Supplier<CacheObject<T>> loader) {
+		if (!this.properties.isSingleFlight()) {
+			return this.loadWithLease(cacheKey, loader);
+		}
+		CompletableFuture<Object> future = new CompletableFuture<>();
+		CompletableFuture<Object> loading = this.loadings.putIfAbsent(cacheKey, future);
+		if (Objects.nonNull(loading)) {
+			this.sharedLoads.increment();
+			try {
+				return (T) loading.join();
+			} catch (CompletionException e) {
+				if (e.getCause() instanceof RuntimeException re) {
+					throw re;
+				}
+				throw e;
+			}
+		}
+		try {
+			T value = this.loadWithLease(cacheKey, loader);
+			future.complete(value);
+			return value;
+		} catch (RuntimeException | Error e) {
+			future.completeExceptionally(e);
+			throw e;
+		} finally {
+			this.loadings.remove(cacheKey, future);
+		}
+	}
+
+	private <T> T loadWithLease(String cacheKey, Supplier<CacheObject<T>> loader) {
+		RedisLoadProperties.Lease lease = this.properties.getLease();
+		if (!lease.isEnable()) {
+			return this.loadAndCache(cacheKey, loader);
+		}
+		String leaseKey = cacheKey + LEASE_SUFFIX;
+		String token = UUID.randomUUID().toString();
+		if (Boolean.TRUE.equals(this.redisTemplate.opsForValue().setIfAbsent(leaseKey, token, lease.getTtl()))) {
+			try {
+				// 获得租约前其他节点可能已写入缓存
+				T value = (T) this.redisTemplate.opsForValue().get(cacheKey);
+				return Objects.nonNull(value) ? value : this.loadAndCache(cacheKey, loader);
+			} finally {
+				this.redisTemplate.execute(RELEASE_LEASE_SCRIPT, List.of(leaseKey), token);
+			}
+		}
+		// 其他节点正在加载，等待缓存写入，租约释放后仍无缓存说明加载结果为空
+		this.leaseWaits.increment();
+		long deadline = System.currentTimeMillis() + lease.getWaitTimeout().toMillis();
+		while (System.currentTimeMillis() < deadline) {
+			try {
+				Thread.sleep(lease.getPollInterval().toMillis());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+			T value = (T) this.redisTemplate.opsForValue().get(cacheKey);
+			if (Objects.nonNull(value)) {
+				return value;
+			}
+			if (!Boolean.TRUE.equals(this.redisTemplate.hasKey(leaseKey))) {
+				break;
+			}
+		}
+		if (System.currentTimeMillis() >= deadline) {
+			this.leaseTimeouts.increment();
+		}
+		return this.loadAndCache(cacheKey, loader);
+	}
+
+	private <T> T loadAndCache(String cacheKey, Supplier<CacheObject<T>> loader) {
+		long start = System.currentTimeMillis();
+		CacheObject<T> co = loader.get();
+		this.loads.increment();
+		boolean empty = Objects.isNull(co) || Objects.isNull(co.getData());
+		this.metrics.recordLoad(cacheKey, System.currentTimeMillis() - start, empty);
+		if (empty) {
+			return null;
+		}
+		if (Objects.nonNull(co.getExpiresIn()) && co.getExpiresIn() > 0) {
+			this.loadCosts.put(cacheKey, System.currentTimeMillis() - start);
+			this.redisTemplate.opsForValue().set(cacheKey, co.getData(), co.getExpiresIn(), co.getTimeUnit());
+		} else {
+			this.redisTemplate.opsForValue().set(cacheKey, co.getData());
+		}
+		return co.getData();
+	}
+
+	/**
+	 * XFetch：-loadCost * beta * ln(random) >= ttl 时提前刷新
+	 */
+	private boolean shouldRefresh(String cacheKey, long ttlMillis) {
+		RedisLoadProperties.EarlyRefresh config = this.properties.getEarlyRefresh();
+		long loadCost = Objects.requireNonNullElse(this.loadCosts.get(cacheKey),
+				config.getDefaultLoadCost().toMillis());
+		double random = 1.0 - ThreadLocalRandom.current().nextDouble();
+		return -loadCost * config.getBeta() * Math.log(random) >= ttlMillis;
+	}
+
+	Map<String, Object> getStats() {
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("loads", this.loads.sum());
+		stats.put("sharedLoads", this.sharedLoads.sum());
+		stats.put("loading", this.loadings.size());
+		stats.put("leaseEnable", this.properties.getLease().isEnable());
+		stats.put("leaseWaits", this.leaseWaits.sum());
+		stats.put("leaseTimeouts", this.leaseTimeouts.sum());
+		stats.put("earlyRefreshes", this.earlyRefreshes.sum());
+		return stats;
+	}
+}
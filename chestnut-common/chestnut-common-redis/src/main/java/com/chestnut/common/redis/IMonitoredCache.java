@@ -1,5 +1,7 @@
 package com.chestnut.common.redis;
 
+import java.util.Map;
+
 public interface IMonitoredCache {
 
 	/**
@@ -11,4 +13,11 @@ public interface IMonitoredCache {
 	 * 缓存名称
 	 */
 	public String getCacheName();
+
+	/**
+	 * 缓存统计信息，不支持统计的缓存返回null
+	 */
+	default Map<String, Object> getCacheStats() {
+		return null;
+	}
 }
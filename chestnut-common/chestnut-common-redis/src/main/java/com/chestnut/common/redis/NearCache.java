@@ -0,0 +1,229 @@
+package com.chestnut.common.redis;
+
+import com.chestnut.common.i18n.I18nUtils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * 进程内一级缓存（近端缓存）
+ * <p>
+ * 位于Redis缓存之前，按最近最少使用淘汰，数据超过有效期后重新从Redis加载。
+ * 数据变更时调用{@link #invalidate(String)}，通过{@link NearCacheManager}经Redis发布订阅通知所有节点失效本地数据。
+ * </p>
+ * <p>
+ * 缓存数据带版本：加载数据期间发生失效时，加载结果不放入缓存，避免旧数据覆盖失效。
+ * 指定copier时缓存数据复制后返回，调用方修改返回对象不影响缓存。
+ * </p>
+ *
+ * @author 兮玥
+ * @email 190785909@qq.com
+ */
+public class NearCache<V> implements IMonitoredCache {
+
+	/**
+	 * 缓存名称，同名缓存跨节点失效
+	 */
+	private final String name;
+
+	/**
+	 * 显示名称，支持国际化键
+	 */
+	private final String displayName;
+
+	/**
+	 * 对应的Redis缓存键前缀
+	 */
+	private final String cacheKey;
+
+	private final int maxSize;
+
+	private final long expireMillis;
+
+	private final UnaryOperator<V> copier;
+
+	private final NearCacheManager manager;
+
+	private final LinkedHashMap<String, Entry<V>> entries;
+
+	/**
+	 * 失效版本，每次失效递增
+	 */
+	private final AtomicLong version = new AtomicLong();
+
+	private final LongAdder hits = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	private final LongAdder evictions = new LongAdder();
+
+	private final LongAdder invalidations = new LongAdder();
+
+	NearCache(NearCacheManager manager, String name, String displayName, String cacheKey, int maxSize,
+			  long expireMillis, UnaryOperator<V> copier) {
+		this.manager = manager;
+		this.name = name;
+		this.displayName = displayName;
+		this.cacheKey = cacheKey;
+		this.maxSize = maxSize;
+		this.expireMillis = expireMillis;
+		this.copier = Objects.requireNonNullElse(copier, UnaryOperator.identity());
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Entry<V>> eldest) {
+				if (size() > NearCache.this.maxSize) {
+					NearCache.this.evictions.increment();
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	public String getName() {
+		return this.name;
+	}
+
+	/**
+	 * 获取缓存数据，不存在时调用loader加载（通常为读取Redis缓存或数据库），null值不缓存
+	 *
+	 * @param key    缓存键
+	 * @param loader 数据加载
+	 */
+	public V get(String key, Function<String, V> loader) {
+		V value = this.getIfPresent(key);
+		if (Objects.nonNull(value)) {
+			return value;
+		}
+		long v = this.version.get();
+		value = loader.apply(key);
+		if (Objects.nonNull(value)) {
+			this.put(key, value, v);
+		}
+		return value;
+	}
+
+	/**
+	 * 获取缓存数据，不存在或已过期返回null
+	 */
+	public V getIfPresent(String key) {
+		Entry<V> entry;
+		synchronized (this.entries) {
+			entry = this.entries.get(key);
+			if (Objects.nonNull(entry) && entry.expireAt() < System.currentTimeMillis()) {
+				this.entries.remove(key);
+				entry = null;
+			}
+		}
+		if (Objects.isNull(entry)) {
+			this.misses.increment();
+			return null;
+		}
+		this.hits.increment();
+		return this.copier.apply(entry.value());
+	}
+
+	/**
+	 * 当前失效版本，调用方自行加载数据时在加载前获取，放入缓存时传入{@link #put(String, Object, long)}
+	 */
+	public long getVersion() {
+		return this.version.get();
+	}
+
+	/**
+	 * 放入缓存，仅当前节点生效，适用于调用方写入数据后直接更新本地缓存的场景
+	 */
+	public void put(String key, V value) {
+		this.put(key, value, this.version.get());
+	}
+
+	/**
+	 * 放入缓存，仅当前节点生效
+	 *
+	 * @param value 数据
+	 * @param version 数据加载前的失效版本，加载期间发生失效时放弃
+	 */
+	public void put(String key, V value, long version) {
+		if (this.maxSize <= 0 || Objects.isNull(value)) {
+			return;
+		}
+		Entry<V> entry = new Entry<>(this.copier.apply(value), System.currentTimeMillis() + this.expireMillis);
+		synchronized (this.entries) {
+			if (this.version.get() == version) {
+				this.entries.put(key, entry);
+			}
+		}
+	}
+
+	/**
+	 * 失效缓存数据并通知其他节点
+	 */
+	public void invalidate(String key) {
+		this.invalidateLocal(key);
+		this.manager.publishInvalidation(this.name, key);
+	}
+
+	/**
+	 * 清空缓存并通知其他节点
+	 */
+	public void invalidateAll() {
+		this.invalidateAllLocal();
+		this.manager.publishInvalidation(this.name, null);
+	}
+
+	void invalidateLocal(String key) {
+		synchronized (this.entries) {
+			this.version.incrementAndGet();
+			this.entries.remove(key);
+		}
+		this.invalidations.increment();
+	}
+
+	void invalidateAllLocal() {
+		synchronized (this.entries) {
+			this.version.incrementAndGet();
+			this.entries.clear();
+		}
+		this.invalidations.increment();
+	}
+
+	public int size() {
+		synchronized (this.entries) {
+			return this.entries.size();
+		}
+	}
+
+	@Override
+	public String getCacheKey() {
+		return this.cacheKey;
+	}
+
+	@Override
+	public String getCacheName() {
+		return I18nUtils.get(this.displayName);
+	}
+
+	@Override
+	public Map<String, Object> getCacheStats() {
+		long hitCount = this.hits.sum();
+		long missCount = this.misses.sum();
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("hits", hitCount);
+		stats.put("misses", missCount);
+		stats.put("hitRate", hitCount + missCount == 0 ? 0 : hitCount * 100.0 / (hitCount + missCount));
+		stats.put("evictions", this.evictions.sum());
+		stats.put("invalidations", this.invalidations.sum());
+		stats.put("size", this.size());
+		stats.put("maxSize", this.maxSize);
+		return stats;
+	}
+
+	private record Entry<V>(V value, long expireAt) {
+	}
+}
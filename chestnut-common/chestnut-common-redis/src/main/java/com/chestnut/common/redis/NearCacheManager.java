@@ -0,0 +1,136 @@
+package com.chestnut.common.redis;
+
+import com.chestnut.common.redis.config.properties.NearCacheProperties;
+import com.chestnut.common.utils.StringUtils;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * 进程内一级缓存管理
+ * <p>
+ * 创建{@link NearCache}并通过Redis发布订阅在节点间传递失效通知。
+ * 通知格式：节点ID|缓存名称|缓存键，缓存键为空表示清空缓存，节点忽略自身发出的通知。
+ * </p>
+ *
+ * @author 兮玥
+ * @email 190785909@qq.com
+ */
+@Slf4j
+@Component
+public class NearCacheManager {
+
+	private static final String SEPARATOR = "|";
+
+	private final String nodeId = UUID.randomUUID().toString();
+
+	private final StringRedisTemplate redisTemplate;
+
+	private final NearCacheProperties properties;
+
+	private final Map<String, NearCache<?>> caches = new ConcurrentHashMap<>();
+
+	private final RedisMessageListenerContainer listenerContainer;
+
+	public NearCacheManager(StringRedisTemplate redisTemplate, NearCacheProperties properties) {
+		this.redisTemplate = redisTemplate;
+		this.properties = properties;
+		this.listenerContainer = new RedisMessageListenerContainer();
+		this.listenerContainer.setConnectionFactory(redisTemplate.getRequiredConnectionFactory());
+		this.listenerContainer.addMessageListener(this::onMessage, new ChannelTopic(properties.getChannel()));
+		this.listenerContainer.afterPropertiesSet();
+		this.listenerContainer.start();
+	}
+
+	/**
+	 * 创建一级缓存
+	 *
+	 * @param name        缓存名称，全局唯一
+	 * @param displayName 显示名称，支持国际化键
+	 * @param cacheKey    对应的Redis缓存键前缀
+	 * @param copier      缓存数据复制，为null时直接返回缓存对象
+	 */
+	public <V> NearCache<V> create(String name, String displayName, String cacheKey, UnaryOperator<V> copier) {
+		NearCacheProperties.Spec spec = this.properties.getSpec(name);
+		return this.create(name, displayName, cacheKey, copier, spec.getExpire());
+	}
+
+	/**
+	 * 创建一级缓存，未配置指定缓存时使用默认有效期
+	 *
+	 * @param defaultExpire 默认有效期，即允许读取旧数据的最长时间
+	 */
+	public <V> NearCache<V> create(String name, String displayName, String cacheKey, UnaryOperator<V> copier,
+								   Duration defaultExpire) {
+		NearCacheProperties.Spec spec = this.properties.getSpec(name);
+		Duration expire = this.properties.getCaches().containsKey(name) ? spec.getExpire() : defaultExpire;
+		int maxSize = this.properties.isEnable() ? spec.getMaxSize() : 0;
+		NearCache<V> cache = new NearCache<>(this, name, displayName, cacheKey, maxSize,
+				expire.toMillis(), copier);
+		if (Objects.nonNull(this.caches.putIfAbsent(name, cache))) {
+			throw new IllegalArgumentException("Near cache already exists: " + name);
+		}
+		return cache;
+	}
+
+	/**
+	 * 清空Redis缓存键前缀涉及的一级缓存并通知其他节点，用于直接删除Redis缓存的场景
+	 *
+	 * @param keyPrefix Redis缓存键或缓存键前缀，为空时清空所有一级缓存
+	 */
+	public void invalidateByPrefix(String keyPrefix) {
+		this.caches.values().forEach(cache -> {
+			String cacheKey = cache.getCacheKey();
+			if (StringUtils.isEmpty(keyPrefix) || StringUtils.isEmpty(cacheKey)
+					|| keyPrefix.startsWith(cacheKey) || cacheKey.startsWith(keyPrefix)) {
+				cache.invalidateAll();
+			}
+		});
+	}
+
+	void publishInvalidation(String name, String key) {
+		if (!this.properties.isEnable()) {
+			return;
+		}
+		String message = this.nodeId + SEPARATOR + name + SEPARATOR + Objects.requireNonNullElse(key, StringUtils.EMPTY);
+		try {
+			this.redisTemplate.convertAndSend(this.properties.getChannel(), message);
+		} catch (Exception e) {
+			log.error("Publish near cache invalidation failed: {}", message, e);
+		}
+	}
+
+	private void onMessage(Message message, byte[] pattern) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		String[] arr = body.split("\\|", 3);
+		if (arr.length < 3 || this.nodeId.equals(arr[0])) {
+			return;
+		}
+		NearCache<?> cache = this.caches.get(arr[1]);
+		if (Objects.isNull(cache)) {
+			return;
+		}
+		if (StringUtils.isEmpty(arr[2])) {
+			cache.invalidateAllLocal();
+		} else {
+			cache.invalidateLocal(arr[2]);
+		}
+	}
+
+	@PreDestroy
+	public void destroy() throws Exception {
+		this.listenerContainer.destroy();
+	}
+}
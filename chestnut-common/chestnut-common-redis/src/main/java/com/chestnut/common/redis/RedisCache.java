@@ -1,16 +1,22 @@
 package com.chestnut.common.redis;
 
+import com.chestnut.common.redis.config.properties.RedisLoadProperties;
+import com.chestnut.common.redis.config.properties.RedisMetricsProperties;
+import com.chestnut.common.redis.monitor.CacheMetrics;
 import com.chestnut.common.utils.StringUtils;
 import jakarta.validation.constraints.NotNull;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.connection.DataType;
 import org.springframework.data.redis.core.*;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.support.atomic.RedisAtomicLong;
 import org.springframework.stereotype.Component;
 
 import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
@@ -32,9 +38,35 @@ public class RedisCache {
 	 */
 	private final long nullValueExpire = 30;
 
+	/**
+	 * 批量操作每批命令包含的最大键数量
+	 */
+	private static final int BATCH_SIZE = 500;
+
+	/**
+	 * 缓存加载，防止并发加载
+	 */
+	private final CacheLoader cacheLoader;
+
+	/**
+	 * 缓存访问统计
+	 */
+	private final CacheMetrics metrics;
+
 	public RedisCache(RedisTemplate<String, Object> redisTemplate, RedisCacheConfiguration config) {
+		this(redisTemplate, config, new RedisLoadProperties(), new RedisMetricsProperties());
+	}
+
+	@Autowired
+	public RedisCache(RedisTemplate<String, Object> redisTemplate, RedisCacheConfiguration config,
+					  RedisLoadProperties loadProperties, RedisMetricsProperties metricsProperties) {
 		this.redisTemplate = redisTemplate;
 		this.allowNullValue = config.getAllowCacheNullValues();
+		this.metrics = new CacheMetrics(metricsProperties, value -> {
+			byte[] bytes = ((RedisSerializer<Object>) redisTemplate.getValueSerializer()).serialize(value);
+			return Objects.isNull(bytes) ? 0 : bytes.length;
+		});
+		this.cacheLoader = new CacheLoader(redisTemplate, loadProperties, this.metrics);
 	}
 
 	/**
@@ -128,11 +160,16 @@ public class RedisCache {
 	 */
 	public <T> T getCacheObject(final String key) {
 		ValueOperations<String, T> operation = redisTemplate.opsForValue();
-		return operation.get(key);
+		T value = operation.get(key);
+		this.record(key, value);
+		return value;
 	}
 
 	/**
 	 * 获得缓存的基本对象，如果不存在调用supplier获取数据。
+	 * <p>
+	 * 当前节点同一缓存键的并发加载只执行一次supplier，启用加载租约时节点间互斥。
+	 * </p>
 	 *
 	 * @param cacheKey 缓存Key
 	 * @param supplier 未获取到缓存结果提供默认数据
@@ -140,24 +177,223 @@ public class RedisCache {
 	public <T> T getCacheObject(String cacheKey, Supplier<T> supplier) {
 		T cacheObject = this.getCacheObject(cacheKey);
 		if (Objects.isNull(cacheObject)) {
-			cacheObject = supplier.get();
-			if (Objects.nonNull(cacheObject)) {
-				this.setCacheObject(cacheKey, cacheObject);
-			}
+			cacheObject = this.cacheLoader.load(cacheKey, () -> CacheObject.create(supplier.get(), null, null));
 		}
 		return cacheObject;
 	}
 
+	/**
+	 * 获得缓存的基本对象，如果不存在调用supplier获取数据并设置有效期，缓存即将过期时按概率提前刷新。
+	 *
+	 * @param cacheKey 缓存Key
+	 * @param supplier 未获取到缓存结果提供默认数据
+	 * @param timeout  有效期
+	 * @param timeUnit 时间单位
+	 */
+	public <T> T getCacheObject(String cacheKey, Supplier<T> supplier, final long timeout, final TimeUnit timeUnit) {
+		return this.cacheLoader.get(cacheKey, () -> CacheObject.create(supplier.get(), timeout, timeUnit));
+	}
+
 	public <T> T getCacheObjectWithExpiresIn(String cacheKey, Supplier<CacheObject<T>> supplier) {
-		T cacheObject = this.getCacheObject(cacheKey);
-		if (Objects.isNull(cacheObject)) {
-			CacheObject<T> co = supplier.get();
-			if (Objects.nonNull(co.getData())) {
-				this.setCacheObject(cacheKey, co.getData(), co.getExpiresIn(), co.getTimeUnit());
+		return this.cacheLoader.get(cacheKey, supplier);
+	}
+
+	/**
+	 * 缓存加载统计
+	 */
+	public Map<String, Object> getLoadStats() {
+		return this.cacheLoader.getStats();
+	}
+
+	/**
+	 * 缓存访问统计
+	 */
+	public CacheMetrics getMetrics() {
+		return this.metrics;
+	}
+
+	private void record(String key, Object value) {
+		if (Objects.isNull(value)) {
+			this.metrics.recordMiss(key);
+		} else {
+			this.metrics.recordHit(key, value);
+		}
+	}
+
+	/**
+	 * 获取缓存对象及剩余有效期，通过管道执行GET及PTTL
+	 *
+	 * @param key 缓存键值
+	 * @return 缓存数据，有效期单位为毫秒，-1表示永不过期；缓存不存在返回null
+	 */
+	public <T> CacheObject<T> getCacheObjectWithTtl(final String key) {
+		List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+
+			@Override
+			public Object execute(RedisOperations operations) {
+				operations.opsForValue().get(key);
+				operations.getExpire(key, TimeUnit.MILLISECONDS);
+				return null;
 			}
-			cacheObject = co.getData();
+		});
+		T value = (T) results.get(0);
+		this.record(key, value);
+		if (Objects.isNull(value)) {
+			return null;
+		}
+		return CacheObject.create(value, (Long) results.get(1), TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * 批量获取缓存对象（MGET）
+	 *
+	 * @param keys 缓存键
+	 * @return 与keys顺序一致的缓存数据，不存在的为null
+	 */
+	public <T> List<T> getMultiCacheObject(final Collection<String> keys) {
+		if (Objects.isNull(keys) || keys.isEmpty()) {
+			return List.of();
+		}
+		List<T> values = redisTemplate.opsForValue().multiGet(keys);
+		if (Objects.isNull(values)) {
+			return Collections.nCopies(keys.size(), null);
+		}
+		Iterator<String> iterator = keys.iterator();
+		values.forEach(value -> this.record(iterator.next(), value));
+		return values;
+	}
+
+	/**
+	 * 批量获取缓存对象，不存在的键调用loader一次性加载后批量写入缓存
+	 * <p>
+	 * 允许缓存null时，加载后仍不存在的数据与{@link #setCacheObject(String, Object)}一致写入null值缓存，
+	 * 有效期内不再调用loader。
+	 * </p>
+	 *
+	 * @param keys    缓存键
+	 * @param loader  加载缓存不存在的数据，参数为缺失的缓存键，返回缓存键与数据映射
+	 * @param timeout 过期时间，小于等于0表示不过期
+	 * @param unit    时间单位
+	 * @return 缓存键与数据映射，按keys顺序，不包含加载后仍不存在的数据
+	 */
+	public <T> Map<String, T> getMultiCacheObject(final Collection<String> keys,
+												   Function<List<String>, Map<String, T>> loader,
+												   final long timeout, final TimeUnit unit) {
+		Map<String, T> result = new LinkedHashMap<>();
+		if (Objects.isNull(keys) || keys.isEmpty()) {
+			return result;
+		}
+		List<String> keyList = new ArrayList<>(new LinkedHashSet<>(keys));
+		List<byte[]> rawValues = this.multiGetRaw(keyList);
+		RedisSerializer<Object> valueSerializer = redisTemplate.getValueSerializer();
+		List<String> missingKeys = new ArrayList<>();
+		for (int i = 0; i < keyList.size(); i++) {
+			String key = keyList.get(i);
+			byte[] bytes = rawValues.get(i);
+			T value = Objects.isNull(bytes) ? null : (T) valueSerializer.deserialize(bytes);
+			this.record(key, value);
+			// 空数据为null值缓存，视为已加载
+			if (Objects.isNull(value) && (Objects.isNull(bytes) || bytes.length > 0)) {
+				missingKeys.add(key);
+			}
+			result.put(key, value);
+		}
+		if (!missingKeys.isEmpty()) {
+			long start = System.currentTimeMillis();
+			Map<String, T> loaded = Objects.requireNonNullElse(loader.apply(missingKeys), Map.of());
+			long cost = System.currentTimeMillis() - start;
+			missingKeys.forEach(key -> this.metrics.recordLoad(key, cost, !loaded.containsKey(key)));
+			Map<String, T> cacheValues = new HashMap<>();
+			List<String> nullKeys = new ArrayList<>();
+			missingKeys.forEach(key -> {
+				T value = loaded.get(key);
+				if (Objects.nonNull(value)) {
+					cacheValues.put(key, value);
+					result.put(key, value);
+				} else {
+					nullKeys.add(key);
+				}
+			});
+			if (timeout > 0) {
+				this.setMultiCacheObject(cacheValues, timeout, unit);
+			} else {
+				this.setMultiCacheObject(cacheValues);
+			}
+			if (this.allowNullValue) {
+				this.setMultiNullValue(nullKeys);
+			}
+		}
+		result.values().removeIf(Objects::isNull);
+		return result;
+	}
+
+	/**
+	 * 批量读取缓存原始数据，不存在的键为null，null值缓存为空数组
+	 */
+	private List<byte[]> multiGetRaw(List<String> keys) {
+		RedisSerializer<String> keySerializer = redisTemplate.getKeySerializer();
+		byte[][] rawKeys = keys.stream().map(keySerializer::serialize).toArray(byte[][]::new);
+		List<byte[]> values = (List<byte[]>) redisTemplate.execute(
+				(RedisCallback<List<byte[]>>) connection -> connection.stringCommands().mGet(rawKeys));
+		return Objects.isNull(values) ? Collections.nCopies(keys.size(), null) : values;
+	}
+
+	/**
+	 * 批量写入null值缓存，有效期与{@link #setCacheObject(String, Object)}一致
+	 */
+	private void setMultiNullValue(List<String> keys) {
+		if (keys.isEmpty()) {
+			return;
+		}
+		redisTemplate.executePipelined(new SessionCallback<Object>() {
+
+			@Override
+			public Object execute(RedisOperations operations) {
+				keys.forEach(key -> operations.opsForValue().set(key, null, nullValueExpire, TimeUnit.SECONDS));
+				return null;
+			}
+		});
+	}
+
+	/**
+	 * 批量缓存对象（MSET），null值忽略
+	 *
+	 * @param values 缓存键与数据映射
+	 */
+	public <T> void setMultiCacheObject(final Map<String, T> values) {
+		if (Objects.isNull(values) || values.isEmpty()) {
+			return;
+		}
+		Map<String, T> map = new HashMap<>(values);
+		map.values().removeIf(Objects::isNull);
+		if (!map.isEmpty()) {
+			redisTemplate.opsForValue().multiSet(map);
 		}
-		return cacheObject;
+	}
+
+	/**
+	 * 批量缓存对象并设置过期时间，通过管道批量执行SET EX，null值忽略
+	 *
+	 * @param values   缓存键与数据映射
+	 * @param timeout  过期时间
+	 * @param timeUnit 时间单位
+	 */
+	public <T> void setMultiCacheObject(final Map<String, T> values, final long timeout, final TimeUnit timeUnit) {
+		if (Objects.isNull(values) || values.isEmpty()) {
+			return;
+		}
+		redisTemplate.executePipelined(new SessionCallback<Object>() {
+
+			@Override
+			public Object execute(RedisOperations operations) {
+				values.forEach((key, value) -> {
+					if (Objects.nonNull(value)) {
+						operations.opsForValue().set(key, value, timeout, timeUnit);
+					}
+				});
+				return null;
+			}
+		});
 	}
 
 	/**
@@ -179,6 +415,28 @@ public class RedisCache {
 		return Objects.nonNull(delete) && delete > 0;
 	}
 
+	/**
+	 * 批量删除缓存，按批拆分DEL命令通过管道执行，避免单条命令包含过多键阻塞Redis
+	 *
+	 * @param keys 缓存键
+	 * @return 删除的键数量
+	 */
+	public long deleteObjects(final Collection<String> keys) {
+		if (Objects.isNull(keys) || keys.isEmpty()) {
+			return 0;
+		}
+		List<List<String>> batches = partition(keys);
+		List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+
+			@Override
+			public Object execute(RedisOperations operations) {
+				batches.forEach(operations::delete);
+				return null;
+			}
+		});
+		return results.stream().filter(r -> r instanceof Number).mapToLong(r -> ((Number) r).longValue()).sum();
+	}
+
 	/**
 	 * 缓存List数据
 	 *
@@ -255,6 +513,17 @@ public class RedisCache {
 		this.redisTemplate.opsForSet().remove(key, values);
 	}
 
+	/**
+	 * Pop elements from set cache
+	 *
+	 * @param key Cache key
+	 * @param count Max elements count
+	 * @return Popped elements
+	 */
+	public <T> List<T> popSetValues(final String key, final long count) {
+		return Objects.requireNonNullElse(this.redisTemplate.opsForSet().pop(key, count), List.of());
+	}
+
 	/**
 	 * Set map cache
 	 *
@@ -302,7 +571,9 @@ public class RedisCache {
 	 */
 	public <T> T getCacheMapValue(final String key, final String hKey) {
 		HashOperations<String, String, T> opsForHash = redisTemplate.opsForHash();
-		return opsForHash.get(key, hKey);
+		T value = opsForHash.get(key, hKey);
+		this.record(key, value);
+		return value;
 	}
 
 	/**
@@ -313,7 +584,55 @@ public class RedisCache {
 	 * @return Hash对象集合
 	 */
 	public <T> List<T> getMultiCacheMapValue(final String key, final Collection<String> hKeys) {
-		return redisTemplate.opsForHash().multiGet(key, hKeys);
+		List<T> values = redisTemplate.opsForHash().multiGet(key, hKeys);
+		values.forEach(value -> this.record(key, value));
+		return values;
+	}
+
+	/**
+	 * 批量获取多个Hash中同一Hash键的数据，通过管道执行HGET
+	 *
+	 * @param keys Redis键
+	 * @param hKey Hash键
+	 * @return 与keys顺序一致的数据，不存在的为null
+	 */
+	public <T> List<T> getMultiKeyCacheMapValue(final Collection<String> keys, final String hKey) {
+		if (Objects.isNull(keys) || keys.isEmpty()) {
+			return List.of();
+		}
+		return redisTemplate.executePipelined(new SessionCallback<Object>() {
+
+			@Override
+			public Object execute(RedisOperations operations) {
+				keys.forEach(key -> operations.opsForHash().get(key, hKey));
+				return null;
+			}
+		});
+	}
+
+	/**
+	 * 批量获取多个Hash中的多个数据，通过管道执行HMGET
+	 *
+	 * @param keys  Redis键
+	 * @param hKeys Hash键集合
+	 * @return 与keys顺序一致的数据列表，每项与hKeys顺序一致
+	 */
+	public <T> List<List<T>> getMultiKeyCacheMapValues(final Collection<String> keys, final Collection<String> hKeys) {
+		if (Objects.isNull(keys) || keys.isEmpty()) {
+			return List.of();
+		}
+		if (Objects.isNull(hKeys) || hKeys.isEmpty()) {
+			return keys.stream().map(key -> List.<T>of()).toList();
+		}
+		List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+
+			@Override
+			public Object execute(RedisOperations operations) {
+				keys.forEach(key -> operations.opsForHash().multiGet(key, hKeys));
+				return null;
+			}
+		});
+		return results.stream().map(r -> (List<T>) r).toList();
 	}
 
 	/**
@@ -421,6 +740,82 @@ public class RedisCache {
 		return Objects.requireNonNullElse(score, -1d);
 	}
 
+	/**
+	 * 批量获取zset.score，通过管道执行ZSCORE，不存在返回-1
+	 *
+	 * @param key Cache key
+	 * @param values Cache values
+	 * @return 与values顺序一致的score
+	 */
+	public List<Double> getMultiZsetScore(String key, Collection<String> values) {
+		if (Objects.isNull(values) || values.isEmpty()) {
+			return List.of();
+		}
+		List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+
+			@Override
+			public Object execute(RedisOperations operations) {
+				values.forEach(value -> operations.opsForZSet().score(key, value));
+				return null;
+			}
+		});
+		return results.stream().map(r -> r instanceof Number n ? n.doubleValue() : -1d).toList();
+	}
+
+	/**
+	 * 批量ZSet.score + delta，通过管道执行ZINCRBY
+	 *
+	 * @param increments key -> (value -> delta)
+	 */
+	public void zsetIncrMulti(Map<String, Map<String, Long>> increments) {
+		if (Objects.isNull(increments) || increments.isEmpty()) {
+			return;
+		}
+		redisTemplate.executePipelined(new SessionCallback<Object>() {
+
+			@Override
+			public Object execute(RedisOperations operations) {
+				increments.forEach((key, values) -> values.forEach((value, delta) ->
+						operations.opsForZSet().incrementScore(key, value, delta)));
+				return null;
+			}
+		});
+	}
+
+	/**
+	 * 批量获取多个zset的所有成员及score，通过管道执行ZRANGE WITHSCORES
+	 *
+	 * @param keys Cache keys
+	 * @return 与keys顺序一致的value -> score，不存在的zset返回空Map
+	 */
+	public List<Map<String, Double>> getMultiZsetWithScores(List<String> keys) {
+		if (Objects.isNull(keys) || keys.isEmpty()) {
+			return List.of();
+		}
+		List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+
+			@Override
+			public Object execute(RedisOperations operations) {
+				keys.forEach(key -> operations.opsForZSet().rangeWithScores(key, 0, -1));
+				return null;
+			}
+		});
+		List<Map<String, Double>> list = new ArrayList<>(keys.size());
+		for (Object result : results) {
+			Map<String, Double> scores = new HashMap<>();
+			if (result instanceof Collection<?> tuples) {
+				for (Object tuple : tuples) {
+					ZSetOperations.TypedTuple<?> t = (ZSetOperations.TypedTuple<?>) tuple;
+					if (Objects.nonNull(t.getValue()) && Objects.nonNull(t.getScore())) {
+						scores.put(t.getValue().toString(), t.getScore());
+					}
+				}
+			}
+			list.add(scores);
+		}
+		return list;
+	}
+
 	/**
 	 * 删除zset
 	 *
@@ -488,4 +883,20 @@ public class RedisCache {
     public boolean getBit(String cacheKey, long offset) {
         return Boolean.TRUE.equals(this.redisTemplate.opsForValue().getBit(cacheKey, offset));
     }
+
+	private static List<List<String>> partition(Collection<String> keys) {
+		List<List<String>> batches = new ArrayList<>();
+		List<String> batch = new ArrayList<>(BATCH_SIZE);
+		for (String key : keys) {
+			batch.add(key);
+			if (batch.size() == BATCH_SIZE) {
+				batches.add(batch);
+				batch = new ArrayList<>(BATCH_SIZE);
+			}
+		}
+		if (!batch.isEmpty()) {
+			batches.add(batch);
+		}
+		return batches;
+	}
 }
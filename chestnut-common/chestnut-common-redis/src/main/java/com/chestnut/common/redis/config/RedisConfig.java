@@ -7,8 +7,14 @@ import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
+import com.chestnut.common.redis.config.properties.NearCacheProperties;
+import com.chestnut.common.redis.config.properties.RedisLoadProperties;
+import com.chestnut.common.redis.config.properties.RedisMetricsProperties;
+import com.chestnut.common.redis.config.properties.RedisSerializerProperties;
+import com.chestnut.common.redis.serializer.CacheValueSerializer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.annotation.CachingConfigurer;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
@@ -30,23 +36,33 @@ import java.time.Duration;
  */
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties({ NearCacheProperties.class, RedisSerializerProperties.class, RedisLoadProperties.class,
+		RedisMetricsProperties.class })
 @RequiredArgsConstructor
 public class RedisConfig implements CachingConfigurer {
 
 	private final CacheProperties cacheProperties;
 
+	/**
+	 * 缓存值序列化，写入格式由chestnut.redis.serializer.type指定，读取兼容JSON及二进制格式
+	 */
 	@Bean
-	public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory) {
-		RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
-		redisTemplate.setConnectionFactory(connectionFactory);
-
+	public CacheValueSerializer cacheValueSerializer(RedisSerializerProperties properties) {
 		ObjectMapper objectMapper = JacksonUtils.newObjectMapper();
 		objectMapper.setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.ANY);
 		objectMapper.activateDefaultTyping(LaissezFaireSubTypeValidator.instance, ObjectMapper.DefaultTyping.NON_FINAL,
 				JsonTypeInfo.As.PROPERTY);
 
-		Jackson2JsonRedisSerializer<Object> redisValueSerializer = new Jackson2JsonRedisSerializer<>(objectMapper, Object.class);
-		redisTemplate.setDefaultSerializer(redisValueSerializer);
+		Jackson2JsonRedisSerializer<Object> jsonSerializer = new Jackson2JsonRedisSerializer<>(objectMapper, Object.class);
+		return new CacheValueSerializer(jsonSerializer, properties);
+	}
+
+	@Bean
+	public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory,
+													   CacheValueSerializer cacheValueSerializer) {
+		RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
+		redisTemplate.setConnectionFactory(connectionFactory);
+		redisTemplate.setDefaultSerializer(cacheValueSerializer);
 
 		redisTemplate.setKeySerializer(RedisSerializer.string());
 		redisTemplate.setHashKeySerializer(RedisSerializer.string());
@@ -0,0 +1,60 @@
+package com.chestnut.common.redis.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 进程内一级缓存配置
+ *
+ * @author 兮玥
+ * @email 190785909@qq.com
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "chestnut.redis.near-cache")
+public class NearCacheProperties {
+
+	/**
+	 * 是否启用一级缓存，关闭后所有读取直接访问Redis
+	 */
+	private boolean enable = true;
+
+	/**
+	 * 跨节点失效通知频道
+	 */
+	private String channel = "ChestnutNearCacheInvalidate";
+
+	/**
+	 * 默认缓存配置
+	 */
+	private Spec defaults = new Spec();
+
+	/**
+	 * 指定缓存配置，key为缓存名称
+	 */
+	private Map<String, Spec> caches = new HashMap<>();
+
+	public Spec getSpec(String name) {
+		return this.caches.getOrDefault(name, this.defaults);
+	}
+
+	@Getter
+	@Setter
+	public static class Spec {
+
+		/**
+		 * 最大缓存数据量
+		 */
+		private int maxSize = 1000;
+
+		/**
+		 * 缓存有效期，防止失效通知丢失时长期使用旧数据
+		 */
+		private Duration expire = Duration.ofMinutes(10);
+	}
+}
@@ -0,0 +1,79 @@
+package com.chestnut.common.redis.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 缓存加载配置，用于缓存失效时防止并发请求同时加载数据（缓存击穿）
+ *
+ * @author 兮玥
+ * @email 190785909@qq.com
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "chestnut.redis.load")
+public class RedisLoadProperties {
+
+	/**
+	 * 是否合并当前节点对同一缓存键的并发加载，只有一个线程执行加载，其他线程等待结果
+	 */
+	private boolean singleFlight = true;
+
+	/**
+	 * 跨节点加载租约
+	 */
+	private Lease lease = new Lease();
+
+	/**
+	 * 提前刷新
+	 */
+	private EarlyRefresh earlyRefresh = new EarlyRefresh();
+
+	@Getter
+	@Setter
+	public static class Lease {
+
+		/**
+		 * 是否启用，启用后同一时间只有获得租约的节点加载数据，其他节点等待缓存写入
+		 */
+		private boolean enable = false;
+
+		/**
+		 * 租约有效期，加载超时或节点异常时租约自动过期
+		 */
+		private Duration ttl = Duration.ofSeconds(3);
+
+		/**
+		 * 未获得租约时等待缓存写入的最长时间，超时后自行加载
+		 */
+		private Duration waitTimeout = Duration.ofSeconds(2);
+
+		/**
+		 * 等待期间检查缓存的间隔
+		 */
+		private Duration pollInterval = Duration.ofMillis(50);
+	}
+
+	@Getter
+	@Setter
+	public static class EarlyRefresh {
+
+		/**
+		 * 是否启用，仅对设置了有效期的缓存生效
+		 */
+		private boolean enable = true;
+
+		/**
+		 * 提前刷新系数，越大越早刷新
+		 */
+		private double beta = 1.0;
+
+		/**
+		 * 未记录加载耗时的缓存使用的默认加载耗时
+		 */
+		private Duration defaultLoadCost = Duration.ofMillis(100);
+	}
+}
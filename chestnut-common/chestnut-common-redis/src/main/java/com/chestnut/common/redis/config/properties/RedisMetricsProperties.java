@@ -0,0 +1,42 @@
+package com.chestnut.common.redis.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Redis缓存访问统计配置
+ *
+ * @author 兮玥
+ * @email 190785909@qq.com
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "chestnut.redis.metrics")
+public class RedisMetricsProperties {
+
+	/**
+	 * 是否启用访问统计
+	 */
+	private boolean enable = true;
+
+	/**
+	 * 最大统计分组数量，超出后归入other分组
+	 */
+	private int maxGroups = 500;
+
+	/**
+	 * 缓存数据大小采样间隔，每N次命中序列化一次计算数据大小
+	 */
+	private int sizeSampleInterval = 100;
+
+	/**
+	 * 热点键采样间隔，每N次访问记录一次
+	 */
+	private int hotKeySampleInterval = 16;
+
+	/**
+	 * 热点键跟踪数量
+	 */
+	private int hotKeyCapacity = 100;
+}
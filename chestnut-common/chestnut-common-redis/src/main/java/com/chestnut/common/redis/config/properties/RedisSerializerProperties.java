@@ -0,0 +1,40 @@
+package com.chestnut.common.redis.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Redis缓存值序列化配置
+ *
+ * @author 兮玥
+ * @email 190785909@qq.com
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "chestnut.redis.serializer")
+public class RedisSerializerProperties {
+
+	/**
+	 * 写入格式，读取时自动识别JSON及二进制格式，切换格式无需清理缓存
+	 */
+	private SerializerType type = SerializerType.JSON;
+
+	/**
+	 * 二进制格式类注册表，key为类ID（不小于100），各节点配置必须一致。
+	 * 注册后的类写入ID代替类名，未注册的类同样可序列化。
+	 */
+	private Map<Integer, String> classes = new HashMap<>();
+
+	/**
+	 * 格式对比采样间隔，每N次写入额外使用另一种格式编解码一次并记录大小及耗时，0表示不采样
+	 */
+	private int sampleInterval = 100;
+
+	public enum SerializerType {
+		JSON, KRYO
+	}
+}
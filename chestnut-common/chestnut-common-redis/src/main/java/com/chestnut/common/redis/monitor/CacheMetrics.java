@@ -0,0 +1,239 @@
+package com.chestnut.common.redis.monitor;
+
+import com.chestnut.common.redis.config.properties.RedisMetricsProperties;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToIntFunction;
+
+/**
+ * Redis缓存访问统计
+ * <p>
+ * 按缓存键分组统计命中、未命中、加载次数及耗时，按采样计算缓存数据大小分布，并采样统计热点键。
+ * 分组为缓存键去掉最后一段，纯数字段替换为*，例如：cms:catalog:id:1 -> cms:catalog:id:
+ * 缓存键前缀（去掉最后一段）与分组的对应关系缓存在内存中，访问时不重复解析缓存键。
+ * </p>
+ *
+ * @author 兮玥
+ * @email 190785909@qq.com
+ */
+public class CacheMetrics {
+
+	private static final String OTHER_GROUP = "other";
+
+	/**
+	 * 数据大小分布区间上限（字节）
+	 */
+	private static final int[] SIZE_BUCKETS = { 128, 1024, 4096, 16384, 65536, 262144, 1048576 };
+
+	private static final String[] SIZE_BUCKET_NAMES = { "<=128B", "<=1K", "<=4K", "<=16K", "<=64K", "<=256K",
+			"<=1M", ">1M" };
+
+	private final RedisMetricsProperties properties;
+
+	/**
+	 * 计算缓存数据序列化后的大小
+	 */
+	private final ToIntFunction<Object> sizer;
+
+	private final Map<String, GroupMetrics> groups = new ConcurrentHashMap<>();
+
+	/**
+	 * 缓存键前缀对应的分组统计
+	 */
+	private final Map<String, GroupMetrics> prefixGroups = new ConcurrentHashMap<>();
+
+	private final HotKeyTracker hotKeys;
+
+	public CacheMetrics(RedisMetricsProperties properties, ToIntFunction<Object> sizer) {
+		this.properties = properties;
+		this.sizer = sizer;
+		this.hotKeys = new HotKeyTracker(properties.getHotKeyCapacity(), properties.getHotKeySampleInterval());
+	}
+
+	public void recordHit(String key, Object value) {
+		if (!this.properties.isEnable()) {
+			return;
+		}
+		GroupMetrics group = this.getGroup(key);
+		group.hits.increment();
+		if (sample(this.properties.getSizeSampleInterval())) {
+			try {
+				group.recordSize(this.sizer.applyAsInt(value));
+			} catch (Exception e) {
+				// 无法序列化的数据不统计大小
+			}
+		}
+		this.recordAccess(key);
+	}
+
+	public void recordMiss(String key) {
+		if (!this.properties.isEnable()) {
+			return;
+		}
+		this.getGroup(key).misses.increment();
+		this.recordAccess(key);
+	}
+
+	/**
+	 * 记录数据加载
+	 *
+	 * @param millis 加载耗时
+	 * @param empty  加载结果为空
+	 */
+	public void recordLoad(String key, long millis, boolean empty) {
+		if (!this.properties.isEnable()) {
+			return;
+		}
+		GroupMetrics group = this.getGroup(key);
+		group.loads.increment();
+		group.loadMillis.add(millis);
+		group.maxLoadMillis.accumulate(millis);
+		if (empty) {
+			group.emptyLoads.increment();
+		}
+	}
+
+	private void recordAccess(String key) {
+		if (sample(this.properties.getHotKeySampleInterval())) {
+			this.hotKeys.record(key);
+		}
+	}
+
+	private GroupMetrics getGroup(String key) {
+		String prefix = key.substring(0, key.lastIndexOf(':') + 1);
+		GroupMetrics group = this.prefixGroups.get(prefix);
+		if (Objects.nonNull(group)) {
+			return group;
+		}
+		group = this.resolveGroup(key);
+		// 前缀包含数字以外的变化段时数量不可控，超出上限后不再缓存
+		if (this.prefixGroups.size() < this.properties.getMaxGroups() * 4) {
+			this.prefixGroups.put(prefix, group);
+		}
+		return group;
+	}
+
+	private GroupMetrics resolveGroup(String key) {
+		String name = groupOf(key);
+		GroupMetrics group = this.groups.get(name);
+		if (Objects.nonNull(group)) {
+			return group;
+		}
+		if (this.groups.size() >= this.properties.getMaxGroups()) {
+			name = OTHER_GROUP;
+		}
+		return this.groups.computeIfAbsent(name, n -> new GroupMetrics());
+	}
+
+	/**
+	 * 缓存键所属分组
+	 */
+	public static String groupOf(String key) {
+		int index = key.lastIndexOf(':');
+		if (index < 0) {
+			return key;
+		}
+		String[] segments = key.substring(0, index).split(":", -1);
+		StringBuilder sb = new StringBuilder();
+		for (String segment : segments) {
+			sb.append(!segment.isEmpty() && segment.chars().allMatch(Character::isDigit) ? "*" : segment).append(":");
+		}
+		return sb.toString();
+	}
+
+	private static boolean sample(int interval) {
+		return interval <= 1 || ThreadLocalRandom.current().nextInt(interval) == 0;
+	}
+
+	/**
+	 * 分组统计，key为分组名称
+	 */
+	public Map<String, Map<String, Object>> getGroupStats() {
+		Map<String, Map<String, Object>> stats = new TreeMap<>();
+		this.groups.forEach((name, group) -> stats.put(name, group.toMap()));
+		return stats;
+	}
+
+	/**
+	 * 热点键
+	 *
+	 * @param limit 数量
+	 */
+	public List<HotKeyTracker.HotKey> getHotKeys(int limit) {
+		return this.hotKeys.top(Math.max(0, limit));
+	}
+
+	public void reset() {
+		this.prefixGroups.clear();
+		this.groups.clear();
+		this.hotKeys.reset();
+	}
+
+	private static class GroupMetrics {
+
+		private final LongAdder hits = new LongAdder();
+
+		private final LongAdder misses = new LongAdder();
+
+		private final LongAdder loads = new LongAdder();
+
+		private final LongAdder emptyLoads = new LongAdder();
+
+		private final LongAdder loadMillis = new LongAdder();
+
+		private final LongAccumulator maxLoadMillis = new LongAccumulator(Long::max, 0);
+
+		private final LongAdder sizeSamples = new LongAdder();
+
+		private final LongAdder sizeBytes = new LongAdder();
+
+		private final LongAccumulator maxSize = new LongAccumulator(Long::max, 0);
+
+		private final LongAdder[] sizeHistogram = new LongAdder[SIZE_BUCKET_NAMES.length];
+
+		GroupMetrics() {
+			for (int i = 0; i < this.sizeHistogram.length; i++) {
+				this.sizeHistogram[i] = new LongAdder();
+			}
+		}
+
+		void recordSize(int size) {
+			this.sizeSamples.increment();
+			this.sizeBytes.add(size);
+			this.maxSize.accumulate(size);
+			int i = 0;
+			while (i < SIZE_BUCKETS.length && size > SIZE_BUCKETS[i]) {
+				i++;
+			}
+			this.sizeHistogram[i].increment();
+		}
+
+		Map<String, Object> toMap() {
+			long hitCount = this.hits.sum();
+			long missCount = this.misses.sum();
+			long loadCount = this.loads.sum();
+			long samples = this.sizeSamples.sum();
+			Map<String, Object> map = new LinkedHashMap<>();
+			map.put("hits", hitCount);
+			map.put("misses", missCount);
+			map.put("hitRate", hitCount + missCount == 0 ? 0 : hitCount * 100.0 / (hitCount + missCount));
+			map.put("loads", loadCount);
+			map.put("emptyLoads", this.emptyLoads.sum());
+			map.put("avgLoadMillis", loadCount == 0 ? 0 : this.loadMillis.sum() * 1.0 / loadCount);
+			map.put("maxLoadMillis", this.maxLoadMillis.get());
+			map.put("sizeSamples", samples);
+			map.put("avgSize", samples == 0 ? 0 : this.sizeBytes.sum() / samples);
+			map.put("maxSize", this.maxSize.get());
+			Map<String, Long> histogram = new LinkedHashMap<>();
+			for (int i = 0; i < SIZE_BUCKET_NAMES.length; i++) {
+				histogram.put(SIZE_BUCKET_NAMES[i], this.sizeHistogram[i].sum());
+			}
+			map.put("sizeHistogram", histogram);
+			return map;
+		}
+	}
+}
@@ -0,0 +1,89 @@
+package com.chestnut.common.redis.monitor;
+
+import java.util.*;
+
+/**
+ * 热点键统计（Space-Saving算法）
+ * <p>
+ * 固定数量的计数器跟踪访问最多的键，计数器已满时替换计数最小的键，新键继承其计数作为误差上限。
+ * 计数值为采样次数，乘以采样间隔为估算访问次数。
+ * </p>
+ *
+ * @author 兮玥
+ * @email 190785909@qq.com
+ */
+public class HotKeyTracker {
+
+	private final int capacity;
+
+	private final int sampleInterval;
+
+	private final Map<String, Counter> counters;
+
+	public HotKeyTracker(int capacity, int sampleInterval) {
+		this.capacity = Math.max(1, capacity);
+		this.sampleInterval = Math.max(1, sampleInterval);
+		this.counters = new HashMap<>(this.capacity * 2);
+	}
+
+	public synchronized void record(String key) {
+		Counter counter = this.counters.get(key);
+		if (Objects.nonNull(counter)) {
+			counter.count++;
+			return;
+		}
+		if (this.counters.size() < this.capacity) {
+			this.counters.put(key, new Counter(1, 0));
+			return;
+		}
+		Map.Entry<String, Counter> min = null;
+		for (Map.Entry<String, Counter> e : this.counters.entrySet()) {
+			if (Objects.isNull(min) || e.getValue().count < min.getValue().count) {
+				min = e;
+			}
+		}
+		this.counters.remove(min.getKey());
+		long minCount = min.getValue().count;
+		this.counters.put(key, new Counter(minCount + 1, minCount));
+	}
+
+	/**
+	 * 访问次数最多的键
+	 *
+	 * @param limit 数量
+	 */
+	public synchronized List<HotKey> top(int limit) {
+		return this.counters.entrySet().stream()
+				.sorted((a, b) -> Long.compare(b.getValue().count, a.getValue().count))
+				.limit(limit)
+				.map(e -> new HotKey(e.getKey(), e.getValue().count * this.sampleInterval,
+						e.getValue().error * this.sampleInterval))
+				.toList();
+	}
+
+	public synchronized void reset() {
+		this.counters.clear();
+	}
+
+	/**
+	 * 热点键
+	 *
+	 * @param key   缓存键
+	 * @param count 估算访问次数
+	 * @param error 估算误差上限
+	 */
+	public record HotKey(String key, long count, long error) {
+	}
+
+	private static class Counter {
+
+		long count;
+
+		final long error;
+
+		Counter(long count, long error) {
+			this.count = count;
+			this.error = error;
+		}
+	}
+}
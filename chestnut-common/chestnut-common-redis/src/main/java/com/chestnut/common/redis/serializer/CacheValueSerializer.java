@@ -0,0 +1,168 @@
+package com.chestnut.common.redis.serializer;
+
+import com.chestnut.common.redis.config.properties.RedisSerializerProperties;
+import com.chestnut.common.redis.config.properties.RedisSerializerProperties.SerializerType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Redis缓存值序列化
+ * <p>
+ * 按配置使用JSON或二进制格式写入，读取时根据数据首字节自动识别格式，
+ * 切换格式后已存在的缓存数据仍可读取，随缓存更新逐步转换为新格式。
+ * 二进制格式写入失败（例如类不支持反射访问）时回退为JSON格式。
+ * </p>
+ * <p>
+ * 按采样间隔对写入数据同时使用两种格式编解码，统计数据大小及耗时用于格式对比。
+ * </p>
+ *
+ * @author 兮玥
+ * @email 190785909@qq.com
+ */
+@Slf4j
+public class CacheValueSerializer implements RedisSerializer<Object> {
+
+	private final RedisSerializer<Object> jsonSerializer;
+
+	private final KryoRedisSerializer kryoSerializer;
+
+	private final SerializerType type;
+
+	private final int sampleInterval;
+
+	private final AtomicLong writeCount = new AtomicLong();
+
+	private final LongAdder jsonReads = new LongAdder();
+
+	private final LongAdder kryoReads = new LongAdder();
+
+	private final LongAdder kryoFallbacks = new LongAdder();
+
+	private final LongAdder kryoReadFailures = new LongAdder();
+
+	private final CodecStats jsonStats = new CodecStats();
+
+	private final CodecStats kryoStats = new CodecStats();
+
+	public CacheValueSerializer(RedisSerializer<Object> jsonSerializer, RedisSerializerProperties properties) {
+		this.jsonSerializer = jsonSerializer;
+		this.kryoSerializer = new KryoRedisSerializer(properties.getClasses());
+		this.type = properties.getType();
+		this.sampleInterval = properties.getSampleInterval();
+	}
+
+	@Override
+	public byte[] serialize(Object value) throws SerializationException {
+		if (Objects.nonNull(value) && this.sampleInterval > 0
+				&& this.writeCount.incrementAndGet() % this.sampleInterval == 0) {
+			this.sample(value);
+		}
+		if (this.type == SerializerType.KRYO) {
+			try {
+				return this.kryoSerializer.serialize(value);
+			} catch (SerializationException e) {
+				this.kryoFallbacks.increment();
+				log.debug("Kryo serialize failed, fallback to json: {}", e.getMessage());
+			}
+		}
+		return this.jsonSerializer.serialize(value);
+	}
+
+	@Override
+	public Object deserialize(byte[] bytes) throws SerializationException {
+		if (KryoRedisSerializer.isKryoFormat(bytes)) {
+			this.kryoReads.increment();
+			try {
+				return this.kryoSerializer.deserialize(bytes);
+			} catch (SerializationException e) {
+				// 类结构不兼容等情况视为缓存不存在，由调用方重新加载
+				this.kryoReadFailures.increment();
+				log.debug("Kryo deserialize failed, treat as cache miss: {}", e.getMessage());
+				return null;
+			}
+		}
+		if (Objects.nonNull(bytes) && bytes.length > 0) {
+			this.jsonReads.increment();
+		}
+		return this.jsonSerializer.deserialize(bytes);
+	}
+
+	private void sample(Object value) {
+		this.measure(this.jsonSerializer, value, this.jsonStats);
+		this.measure(this.kryoSerializer, value, this.kryoStats);
+	}
+
+	private void measure(RedisSerializer<Object> serializer, Object value, CodecStats stats) {
+		try {
+			long s = System.nanoTime();
+			byte[] bytes = serializer.serialize(value);
+			long encodeNanos = System.nanoTime() - s;
+			s = System.nanoTime();
+			serializer.deserialize(bytes);
+			long decodeNanos = System.nanoTime() - s;
+			stats.record(Objects.isNull(bytes) ? 0 : bytes.length, encodeNanos, decodeNanos);
+		} catch (Exception e) {
+			stats.failures.increment();
+		}
+	}
+
+	/**
+	 * 序列化统计及格式对比报告
+	 */
+	public Map<String, Object> getStats() {
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("type", this.type.name());
+		stats.put("jsonReads", this.jsonReads.sum());
+		stats.put("kryoReads", this.kryoReads.sum());
+		stats.put("kryoReadFailures", this.kryoReadFailures.sum());
+		stats.put("kryoWriteFallbacks", this.kryoFallbacks.sum());
+		stats.put("sampleInterval", this.sampleInterval);
+		Map<String, Object> json = this.jsonStats.toMap();
+		Map<String, Object> kryo = this.kryoStats.toMap();
+		stats.put("json", json);
+		stats.put("kryo", kryo);
+		long jsonBytes = this.jsonStats.bytes.sum();
+		if (jsonBytes > 0 && this.jsonStats.samples.sum() == this.kryoStats.samples.sum()) {
+			stats.put("kryoSizeRatio", this.kryoStats.bytes.sum() * 100.0 / jsonBytes);
+		}
+		return stats;
+	}
+
+	private static class CodecStats {
+
+		private final LongAdder samples = new LongAdder();
+
+		private final LongAdder failures = new LongAdder();
+
+		private final LongAdder bytes = new LongAdder();
+
+		private final LongAdder encodeNanos = new LongAdder();
+
+		private final LongAdder decodeNanos = new LongAdder();
+
+		void record(int size, long encode, long decode) {
+			this.samples.increment();
+			this.bytes.add(size);
+			this.encodeNanos.add(encode);
+			this.decodeNanos.add(decode);
+		}
+
+		Map<String, Object> toMap() {
+			long count = this.samples.sum();
+			Map<String, Object> map = new LinkedHashMap<>();
+			map.put("samples", count);
+			map.put("failures", this.failures.sum());
+			map.put("avgBytes", count == 0 ? 0 : this.bytes.sum() / count);
+			map.put("avgEncodeMicros", count == 0 ? 0 : this.encodeNanos.sum() / 1000.0 / count);
+			map.put("avgDecodeMicros", count == 0 ? 0 : this.decodeNanos.sum() / 1000.0 / count);
+			return map;
+		}
+	}
+}
@@ -0,0 +1,144 @@
+package com.chestnut.common.redis.serializer;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import com.esotericsoftware.kryo.serializers.CompatibleFieldSerializer;
+import com.esotericsoftware.kryo.util.DefaultInstantiatorStrategy;
+import com.esotericsoftware.kryo.util.Pool;
+import lombok.extern.slf4j.Slf4j;
+import org.objenesis.strategy.StdInstantiatorStrategy;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.util.ClassUtils;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Redis缓存值二进制序列化
+ * <p>
+ * 数据格式：魔数(0xC1) + 格式版本 + Kryo数据。0xC1不会出现在JSON数据首字节，可据此识别格式。
+ * 类使用兼容字段序列化，类增删字段后仍可读取旧数据；已注册的类写入类ID代替类名。
+ * </p>
+ *
+ * @author 兮玥
+ * @email 190785909@qq.com
+ */
+@Slf4j
+public class KryoRedisSerializer implements RedisSerializer<Object> {
+
+	static final byte MAGIC = (byte) 0xC1;
+
+	private static final byte VERSION = 1;
+
+	private static final int HEADER_LENGTH = 2;
+
+	/**
+	 * 用户注册类最小ID，小于此值的ID保留给内置注册类
+	 */
+	public static final int MIN_REGISTRATION_ID = 100;
+
+	private static final List<Class<?>> BUILTIN_CLASSES = List.of(HashMap.class, LinkedHashMap.class,
+			ArrayList.class, LinkedList.class, HashSet.class, LinkedHashSet.class, TreeMap.class,
+			ConcurrentHashMap.class, Date.class, LocalDateTime.class, LocalDate.class, LocalTime.class,
+			Instant.class, BigDecimal.class, BigInteger.class);
+
+	private static final int BUILTIN_START_ID = 64;
+
+	private final Map<Integer, Class<?>> registrations;
+
+	private final Pool<Kryo> kryoPool;
+
+	public KryoRedisSerializer(Map<Integer, String> classes) {
+		this.registrations = resolveRegistrations(classes);
+		this.kryoPool = new Pool<>(true, false, 32) {
+
+			@Override
+			protected Kryo create() {
+				return createKryo();
+			}
+		};
+	}
+
+	/**
+	 * 是否二进制格式数据
+	 */
+	public static boolean isKryoFormat(byte[] bytes) {
+		return Objects.nonNull(bytes) && bytes.length > HEADER_LENGTH && bytes[0] == MAGIC;
+	}
+
+	@Override
+	public byte[] serialize(Object value) throws SerializationException {
+		if (Objects.isNull(value)) {
+			return new byte[0];
+		}
+		Kryo kryo = this.kryoPool.obtain();
+		try (Output output = new Output(256, -1)) {
+			output.writeByte(MAGIC);
+			output.writeByte(VERSION);
+			kryo.writeClassAndObject(output, value);
+			return output.toBytes();
+		} catch (Exception e) {
+			throw new SerializationException("Kryo serialize failed: " + value.getClass().getName(), e);
+		} finally {
+			this.kryoPool.free(kryo);
+		}
+	}
+
+	@Override
+	public Object deserialize(byte[] bytes) throws SerializationException {
+		if (!isKryoFormat(bytes)) {
+			return null;
+		}
+		if (bytes[1] != VERSION) {
+			throw new SerializationException("Unsupported kryo format version: " + bytes[1]);
+		}
+		Kryo kryo = this.kryoPool.obtain();
+		try (Input input = new Input(bytes, HEADER_LENGTH, bytes.length - HEADER_LENGTH)) {
+			return kryo.readClassAndObject(input);
+		} catch (Exception e) {
+			throw new SerializationException("Kryo deserialize failed.", e);
+		} finally {
+			this.kryoPool.free(kryo);
+		}
+	}
+
+	private Kryo createKryo() {
+		Kryo kryo = new Kryo();
+		kryo.setClassLoader(ClassUtils.getDefaultClassLoader());
+		kryo.setRegistrationRequired(false);
+		kryo.setReferences(true);
+		kryo.setInstantiatorStrategy(new DefaultInstantiatorStrategy(new StdInstantiatorStrategy()));
+		kryo.setDefaultSerializer(CompatibleFieldSerializer.class);
+		for (int i = 0; i < BUILTIN_CLASSES.size(); i++) {
+			kryo.register(BUILTIN_CLASSES.get(i), BUILTIN_START_ID + i);
+		}
+		this.registrations.forEach((id, clazz) -> kryo.register(clazz, id));
+		return kryo;
+	}
+
+	private static Map<Integer, Class<?>> resolveRegistrations(Map<Integer, String> classes) {
+		Map<Integer, Class<?>> map = new TreeMap<>();
+		if (Objects.isNull(classes)) {
+			return map;
+		}
+		classes.forEach((id, className) -> {
+			if (id < MIN_REGISTRATION_ID) {
+				throw new IllegalArgumentException("Kryo registration id must be >= " + MIN_REGISTRATION_ID + ": " + className);
+			}
+			try {
+				map.put(id, ClassUtils.forName(className, ClassUtils.getDefaultClassLoader()));
+			} catch (ClassNotFoundException e) {
+				log.warn("Kryo registration class not found: {}", className);
+			}
+		});
+		return map;
+	}
+}
@@ -0,0 +1,105 @@
+package com.chestnut.common.redis;
+
+import com.chestnut.common.redis.config.RedisConfig;
+import com.chestnut.common.redis.config.properties.RedisSerializerProperties;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RedisCache批量操作基准测试
+ * <p>
+ * 使用内嵌Redis及生产环境的缓存值序列化，对比逐个SET/GET与MSET/MGET的吞吐量。
+ * </p>
+ *
+ * @author 兮玥
+ * @email 190785909@qq.com
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RedisCacheBatchBenchmark {
+
+	/**
+	 * 每次操作的缓存键数量
+	 */
+	@Param({ "10", "100", "1000" })
+	private int size;
+
+	private RedisServer redisServer;
+
+	private LettuceConnectionFactory connectionFactory;
+
+	private RedisCache redisCache;
+
+	private List<String> keys;
+
+	private Map<String, Integer> data;
+
+	@Setup
+	public void setup() throws IOException {
+		int port;
+		try (ServerSocket socket = new ServerSocket(0)) {
+			port = socket.getLocalPort();
+		}
+		this.redisServer = new RedisServer(port);
+		this.redisServer.start();
+
+		this.connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("127.0.0.1", port));
+		this.connectionFactory.afterPropertiesSet();
+		RedisConfig redisConfig = new RedisConfig(new CacheProperties());
+		RedisTemplate<String, Object> template = redisConfig.redisTemplate(this.connectionFactory,
+				redisConfig.cacheValueSerializer(new RedisSerializerProperties()));
+		this.redisCache = new RedisCache(template, RedisCacheConfiguration.defaultCacheConfig());
+
+		this.keys = new ArrayList<>(this.size);
+		this.data = new LinkedHashMap<>();
+		for (int i = 0; i < this.size; i++) {
+			this.keys.add("bench:batch:" + i);
+			this.data.put("bench:batch:" + i, i);
+		}
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		this.connectionFactory.destroy();
+		this.redisServer.stop();
+	}
+
+	@Benchmark
+	public void sequential(Blackhole bh) {
+		this.keys.forEach(key -> this.redisCache.setCacheObject(key, this.data.get(key)));
+		this.keys.forEach(key -> bh.consume(this.redisCache.getCacheObject(key)));
+	}
+
+	@Benchmark
+	public void batched(Blackhole bh) {
+		this.redisCache.setMultiCacheObject(this.data);
+		bh.consume(this.redisCache.getMultiCacheObject(this.keys));
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options options = new OptionsBuilder().include(RedisCacheBatchBenchmark.class.getSimpleName()).build();
+		new Runner(options).run();
+	}
+}
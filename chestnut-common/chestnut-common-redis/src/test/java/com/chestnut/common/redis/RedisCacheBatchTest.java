@@ -0,0 +1,187 @@
+package com.chestnut.common.redis;
+
+import com.chestnut.common.redis.config.RedisConfig;
+import com.chestnut.common.redis.config.properties.RedisSerializerProperties;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RedisCache批量操作测试，使用内嵌Redis及生产环境的缓存值序列化
+ *
+ * @author 兮玥
+ * @email 190785909@qq.com
+ */
+public class RedisCacheBatchTest {
+
+	private static RedisServer redisServer;
+
+	private static LettuceConnectionFactory connectionFactory;
+
+	private static RedisCache redisCache;
+
+	@BeforeAll
+	static void startRedis() throws IOException {
+		int port;
+		try (ServerSocket socket = new ServerSocket(0)) {
+			port = socket.getLocalPort();
+		}
+		redisServer = new RedisServer(port);
+		redisServer.start();
+
+		connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("127.0.0.1", port));
+		connectionFactory.afterPropertiesSet();
+		RedisConfig redisConfig = new RedisConfig(new CacheProperties());
+		RedisTemplate<String, Object> template = redisConfig.redisTemplate(connectionFactory,
+				redisConfig.cacheValueSerializer(new RedisSerializerProperties()));
+		redisCache = new RedisCache(template, RedisCacheConfiguration.defaultCacheConfig());
+	}
+
+	@AfterAll
+	static void stopRedis() throws IOException {
+		if (Objects.nonNull(connectionFactory)) {
+			connectionFactory.destroy();
+		}
+		if (Objects.nonNull(redisServer)) {
+			redisServer.stop();
+		}
+	}
+
+	@BeforeEach
+	void flush() {
+		redisCache.redisTemplate.execute(connection -> {
+			connection.serverCommands().flushDb();
+			return null;
+		}, true);
+	}
+
+	@Test
+	void testMultiGetSet() {
+		Map<String, String> data = new LinkedHashMap<>();
+		data.put("test:a", "A");
+		data.put("test:b", "B");
+		redisCache.setMultiCacheObject(data);
+
+		List<String> values = redisCache.getMultiCacheObject(List.of("test:a", "test:none", "test:b"));
+		assertEquals(Arrays.asList("A", null, "B"), values);
+		assertTrue(redisCache.getMultiCacheObject(List.of()).isEmpty());
+	}
+
+	@Test
+	void testMultiSetWithTimeout() {
+		redisCache.setMultiCacheObject(Map.of("test:t1", 1, "test:t2", 2), 60, TimeUnit.SECONDS);
+
+		Long expire = redisCache.redisTemplate.getExpire("test:t1", TimeUnit.SECONDS);
+		assertNotNull(expire);
+		assertTrue(expire > 0 && expire <= 60);
+		assertEquals(2, (Integer) redisCache.getCacheObject("test:t2"));
+	}
+
+	@Test
+	void testMultiGetWithLoader() {
+		redisCache.setCacheObject("test:1", "cached");
+		AtomicInteger loadCount = new AtomicInteger();
+		List<String> loadedKeys = new ArrayList<>();
+
+		Map<String, String> result = redisCache.getMultiCacheObject(List.of("test:1", "test:2", "test:3"), keys -> {
+			loadCount.incrementAndGet();
+			loadedKeys.addAll(keys);
+			return Map.of("test:2", "loaded");
+		}, 60, TimeUnit.SECONDS);
+
+		assertEquals(1, loadCount.get());
+		assertEquals(List.of("test:2", "test:3"), loadedKeys);
+		assertEquals(List.of("test:1", "test:2"), new ArrayList<>(result.keySet()));
+		assertEquals("loaded", redisCache.getCacheObject("test:2"));
+
+		// 已加载的数据写入缓存后不再调用loader
+		Map<String, String> cached = redisCache.getMultiCacheObject(List.of("test:1", "test:2"), keys -> {
+			loadCount.incrementAndGet();
+			return Map.of();
+		}, 60, TimeUnit.SECONDS);
+		assertEquals(1, loadCount.get());
+		assertEquals(2, cached.size());
+	}
+
+	@Test
+	void testMultiGetWithLoaderCachesNull() {
+		AtomicInteger loadCount = new AtomicInteger();
+		Function<List<String>, Map<String, String>> loader = keys -> {
+			loadCount.incrementAndGet();
+			return Map.of();
+		};
+		assertTrue(redisCache.getMultiCacheObject(List.of("test:n1", "test:n2"), loader, 60, TimeUnit.SECONDS).isEmpty());
+		assertEquals(1, loadCount.get());
+		assertTrue(redisCache.hasKey("test:n1"));
+		Long expire = redisCache.redisTemplate.getExpire("test:n1", TimeUnit.SECONDS);
+		assertNotNull(expire);
+		assertTrue(expire > 0 && expire <= 30);
+
+		// null值缓存有效期内不再调用loader
+		assertTrue(redisCache.getMultiCacheObject(List.of("test:n1", "test:n2"), loader, 60, TimeUnit.SECONDS).isEmpty());
+		assertEquals(1, loadCount.get());
+	}
+
+	@Test
+	void testMultiKeyHashValues() {
+		redisCache.setCacheMap("test:h1", Map.of("name", "h1", "value", 1));
+		redisCache.setCacheMap("test:h2", Map.of("name", "h2"));
+
+		List<String> names = redisCache.getMultiKeyCacheMapValue(List.of("test:h1", "test:h2", "test:h3"), "name");
+		assertEquals(Arrays.asList("h1", "h2", null), names);
+
+		List<List<Object>> values = redisCache.getMultiKeyCacheMapValues(List.of("test:h1", "test:h2"),
+				List.of("name", "value"));
+		assertEquals(Arrays.asList("h1", 1), values.get(0));
+		assertEquals(Arrays.asList("h2", null), values.get(1));
+	}
+
+	@Test
+	void testMultiZsetScore() {
+		redisCache.zsetIncr("test:z", "a", 3);
+		redisCache.zsetIncr("test:z", "b", 5);
+
+		List<Double> scores = redisCache.getMultiZsetScore("test:z", List.of("a", "b", "c"));
+		assertEquals(List.of(3.0, 5.0, -1.0), scores);
+	}
+
+	@Test
+	void testMultiZsetIncr() {
+		redisCache.zsetIncr("test:z1", "a", 1);
+		redisCache.zsetIncrMulti(Map.of("test:z1", Map.of("a", 2L, "b", 4L), "test:z2", Map.of("c", 6L)));
+
+		List<Map<String, Double>> scores = redisCache.getMultiZsetWithScores(List.of("test:z1", "test:z2", "test:z3"));
+		assertEquals(Map.of("a", 3.0, "b", 4.0), scores.get(0));
+		assertEquals(Map.of("c", 6.0), scores.get(1));
+		assertTrue(scores.get(2).isEmpty());
+	}
+
+	@Test
+	void testBatchDelete() {
+		Map<String, Integer> data = new HashMap<>();
+		for (int i = 0; i < 1200; i++) {
+			data.put("test:del:" + i, i);
+		}
+		redisCache.setMultiCacheObject(data);
+
+		long deleted = redisCache.deleteObjects(data.keySet());
+		assertEquals(1200, deleted);
+		assertTrue(redisCache.getMultiCacheObject(data.keySet()).stream().allMatch(Objects::isNull));
+	}
+}
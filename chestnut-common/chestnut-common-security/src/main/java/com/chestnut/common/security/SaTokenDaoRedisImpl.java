@@ -1,34 +1,69 @@
 package com.chestnut.common.security;
 
+import java.time.Duration;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.springframework.stereotype.Component;
 
+import com.chestnut.common.i18n.I18nUtils;
+import com.chestnut.common.redis.CacheObject;
+import com.chestnut.common.redis.IMonitoredCache;
+import com.chestnut.common.redis.NearCache;
+import com.chestnut.common.redis.NearCacheManager;
 import com.chestnut.common.redis.RedisCache;
 
+import cn.dev33.satoken.SaManager;
 import cn.dev33.satoken.dao.SaTokenDao;
 import cn.dev33.satoken.util.SaFoxUtil;
-import lombok.RequiredArgsConstructor;
 
+/**
+ * Sa-Token持久层Redis实现
+ * <p>
+ * Token与登录ID映射（:token:）及会话（:session:、:token-session:）数据使用进程内一级缓存，
+ * 缓存数据记录Redis过期时间，读取时已过期视为不存在，剩余有效期直接由本地计算。
+ * 登录、注销、踢人下线等写操作更新Redis后通过{@link NearCache}通知所有节点失效本地数据，
+ * 通知丢失时本地数据最长保留一级缓存有效期（默认5秒，chestnut.redis.near-cache.caches.satoken.expire）。
+ * 续期只更新当前节点本地数据的过期时间，不发送失效通知，其他节点本地数据过期后重新从Redis读取。
+ * </p>
+ */
 @Component
-@RequiredArgsConstructor
-public class SaTokenDaoRedisImpl implements SaTokenDao {
-	
+public class SaTokenDaoRedisImpl implements SaTokenDao, IMonitoredCache {
+
+	/**
+	 * 使用一级缓存的缓存键片段
+	 */
+	private static final String[] CACHED_KEY_SEGMENTS = { ":token:", ":session:", ":token-session:" };
+
+	private static final Duration DEFAULT_LOCAL_EXPIRE = Duration.ofSeconds(5);
+
 	private final RedisCache redisCache;
 
+	private final NearCache<TokenEntry> nearCache;
+
+	/**
+	 * 本地缓存数据已超过Redis有效期次数
+	 */
+	private final LongAdder expiredHits = new LongAdder();
+
+	public SaTokenDaoRedisImpl(RedisCache redisCache, NearCacheManager nearCacheManager) {
+		this.redisCache = redisCache;
+		this.nearCache = nearCacheManager.create("satoken", "{MONITORED.CACHE.SATOKEN}", "satoken:", null,
+				DEFAULT_LOCAL_EXPIRE);
+	}
+
 	@Override
 	public String get(String key) {
-		return this.redisCache.getCacheObject(key);
+		return (String) this.getValue(key);
 	}
 
 	@Override
 	public void set(String key, String value, long timeout) {
-		if (timeout > 0) {
-			this.redisCache.setCacheObject(key, value, timeout, TimeUnit.SECONDS);
-		} else if (timeout == SaTokenDao.NEVER_EXPIRE) {
-			this.redisCache.setCacheObject(key, value);
-		}
+		this.setValue(key, value, timeout);
 	}
 
 	/**
@@ -46,10 +81,15 @@ public class SaTokenDaoRedisImpl implements SaTokenDao {
 	@Override
 	public void delete(String key) {
 		this.redisCache.deleteObject(key);
+		this.invalidate(key);
 	}
 
 	@Override
 	public long getTimeout(String key) {
+		TokenEntry entry = this.getLocal(key);
+		if (Objects.nonNull(entry)) {
+			return entry.getTimeout();
+		}
 		return this.redisCache.getExpire(key, TimeUnit.SECONDS);
 	}
 
@@ -62,21 +102,20 @@ public class SaTokenDaoRedisImpl implements SaTokenDao {
 			if (expire != NEVER_EXPIRE) {
 				this.redisCache.expire(key, timeout, TimeUnit.SECONDS);
 			}
+		} else {
+			return;
 		}
+		this.updateLocalTimeout(key, timeout);
 	}
 
 	@Override
 	public Object getObject(String key) {
-		return this.redisCache.getCacheObject(key);
+		return this.getValue(key);
 	}
 
 	@Override
 	public void setObject(String key, Object object, long timeout) {
-		if (timeout > 0) {
-			this.redisCache.setCacheObject(key, object, timeout, TimeUnit.SECONDS);
-		} else if (timeout == SaTokenDao.NEVER_EXPIRE) {
-			this.redisCache.setCacheObject(key, object);
-		}
+		this.setValue(key, object, timeout);
 	}
 
 	/**
@@ -93,25 +132,17 @@ public class SaTokenDaoRedisImpl implements SaTokenDao {
 
 	@Override
 	public void deleteObject(String key) {
-		this.redisCache.deleteObject(key);
-		
+		this.delete(key);
 	}
 
 	@Override
 	public long getObjectTimeout(String key) {
-		return this.redisCache.getExpire(key, TimeUnit.SECONDS);
+		return this.getTimeout(key);
 	}
 
 	@Override
 	public void updateObjectTimeout(String key, long timeout) {
-		if (timeout > 0) {
-			this.redisCache.expire(key, timeout);
-		} else if (timeout == NEVER_EXPIRE) {
-			long expire = this.getObjectTimeout(key);
-			if (expire != NEVER_EXPIRE) {
-				this.redisCache.expire(key, timeout, TimeUnit.SECONDS);
-			}
-		}
+		this.updateTimeout(key, timeout);
 	}
 
 	@Override
@@ -120,4 +151,121 @@ public class SaTokenDaoRedisImpl implements SaTokenDao {
 		return SaFoxUtil.searchList(keys, start, size, sortType);
 	}
 
+	private Object getValue(String key) {
+		if (!isCachedKey(key)) {
+			return this.redisCache.getCacheObject(key);
+		}
+		TokenEntry entry = this.getLocal(key);
+		if (Objects.isNull(entry)) {
+			// 读取Redis期间发生失效时放弃放入本地缓存
+			long version = this.nearCache.getVersion();
+			CacheObject<Object> co = this.redisCache.getCacheObjectWithTtl(key);
+			if (Objects.isNull(co)) {
+				return null;
+			}
+			long ttl = Objects.requireNonNullElse(co.getExpiresIn(), NEVER_EXPIRE);
+			entry = new TokenEntry(co.getData(), ttl > 0 ? System.currentTimeMillis() + ttl : NEVER_EXPIRE);
+			this.nearCache.put(key, entry, version);
+		}
+		return entry.value();
+	}
+
+	private void setValue(String key, Object value, long timeout) {
+		if (timeout > 0) {
+			this.redisCache.setCacheObject(key, value, timeout, TimeUnit.SECONDS);
+		} else if (timeout == SaTokenDao.NEVER_EXPIRE) {
+			this.redisCache.setCacheObject(key, value);
+		} else {
+			return;
+		}
+		this.invalidate(key);
+		if (isCachedKey(key)) {
+			this.nearCache.put(key, new TokenEntry(value, toExpireAt(timeout)));
+		}
+	}
+
+	/**
+	 * 更新本地缓存数据的过期时间，本地无缓存时不处理
+	 */
+	private void updateLocalTimeout(String key, long timeout) {
+		if (!isCachedKey(key)) {
+			return;
+		}
+		long version = this.nearCache.getVersion();
+		TokenEntry entry = this.nearCache.getIfPresent(key);
+		if (Objects.nonNull(entry)) {
+			this.nearCache.put(key, new TokenEntry(entry.value(), toExpireAt(timeout)), version);
+		}
+	}
+
+	private static long toExpireAt(long timeout) {
+		return timeout > 0 ? System.currentTimeMillis() + timeout * 1000 : NEVER_EXPIRE;
+	}
+
+	/**
+	 * 读取本地缓存，已超过Redis有效期的数据视为不存在
+	 */
+	private TokenEntry getLocal(String key) {
+		if (!isCachedKey(key)) {
+			return null;
+		}
+		TokenEntry entry = this.nearCache.getIfPresent(key);
+		if (Objects.nonNull(entry) && entry.isExpired()) {
+			this.expiredHits.increment();
+			return null;
+		}
+		return entry;
+	}
+
+	private void invalidate(String key) {
+		if (isCachedKey(key)) {
+			this.nearCache.invalidate(key);
+		}
+	}
+
+	private static boolean isCachedKey(String key) {
+		for (String segment : CACHED_KEY_SEGMENTS) {
+			if (key.contains(segment)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public String getCacheKey() {
+		return SaManager.getConfig().getTokenName() + ":";
+	}
+
+	@Override
+	public String getCacheName() {
+		return I18nUtils.get("{MONITORED.CACHE.SATOKEN}");
+	}
+
+	@Override
+	public Map<String, Object> getCacheStats() {
+		Map<String, Object> stats = new LinkedHashMap<>(this.nearCache.getCacheStats());
+		stats.put("expiredHits", this.expiredHits.sum());
+		return stats;
+	}
+
+	/**
+	 * 本地缓存数据
+	 *
+	 * @param value    缓存值
+	 * @param expireAt Redis过期时间戳，永不过期为-1
+	 */
+	private record TokenEntry(Object value, long expireAt) {
+
+		boolean isExpired() {
+			return this.expireAt != NEVER_EXPIRE && this.expireAt <= System.currentTimeMillis();
+		}
+
+		long getTimeout() {
+			if (this.expireAt == NEVER_EXPIRE) {
+				return NEVER_EXPIRE;
+			}
+			return Math.max(1, (this.expireAt - System.currentTimeMillis()) / 1000);
+		}
+	}
 }
@@ -1,5 +1,7 @@
 package com.chestnut.common.staticize;
 
+import com.chestnut.common.staticize.core.StaticFileWriter;
+import com.chestnut.common.staticize.core.StaticFileWriter.OutputBuffer;
 import com.chestnut.common.staticize.core.TemplateContext;
 import com.chestnut.common.staticize.func.IFunction;
 import com.chestnut.common.staticize.tag.ITag;
@@ -13,7 +15,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
-import java.io.FileWriter;
 import java.io.IOException;
 import java.io.Writer;
 import java.util.List;
@@ -23,10 +24,13 @@ import java.util.List;
 public class StaticizeService {
 
 	private final Configuration cfg;
+
+	private final StaticFileWriter staticFileWriter;
 	
 	public StaticizeService(@Qualifier("staticizeConfiguration") Configuration cfg, List<ITag> tags,
-			List<IFunction> functions) {
+			List<IFunction> functions, StaticFileWriter staticFileWriter) {
 		this.cfg = cfg;
+		this.staticFileWriter = staticFileWriter;
 		tags.forEach(this::registerTag);
 		functions.forEach(this::registerFunction);
 	}
@@ -49,9 +53,13 @@ public class StaticizeService {
 		// 处理模板
 		long s = System.currentTimeMillis();
 		context.setTimeMillis(s);
-		Environment env = template.createProcessingEnvironment(context.getVariables(), writer);
-		FreeMarkerUtils.addGlobalVariables(env, context);
-		env.process();
+		try {
+			Environment env = template.createProcessingEnvironment(context.getVariables(), writer);
+			FreeMarkerUtils.addGlobalVariables(env, context);
+			env.process();
+		} finally {
+			context.clearRenderCache();
+		}
 		log.debug("[{}], page：{}, cost: {}ms", context.getTemplateId(), context.getPageIndex(),
 				System.currentTimeMillis() - s);
 	}
@@ -70,34 +78,51 @@ public class StaticizeService {
 		long s = System.currentTimeMillis();
 		context.setTimeMillis(s);
 		Environment env = null;
-		String filePath = context.getStaticizeFilePath(context.getPageIndex());
-		try (FileWriter writer = new FileWriter(filePath)) {
-			env = template.createProcessingEnvironment(context.getVariables(), writer);
-			FreeMarkerUtils.addGlobalVariables(env, context);
-			// 生成静态化文件
-			env.process();
-		} catch (Exception e) {
-			throw new TemplateException(e, env);
-		}
-		log.debug("[{}], page：{}, cost: {}ms", filePath, context.getPageIndex(), System.currentTimeMillis() - s);
-
-		// 发布分页
-		while (context.hasNextPage()) {
-			s = System.currentTimeMillis();
-			context.setPageIndex(context.getPageIndex() + 1);
-			env.setGlobalVariable(StaticizeConstants.TemplateVariable_PageNo,
-					env.getObjectWrapper().wrap(context.getPageIndex()));
-			filePath = context.getStaticizeFilePath(context.getPageIndex());
-			try (FileWriter writer = new FileWriter(filePath)) {
-				env.setOut(writer);
+		OutputBuffer buffer = this.staticFileWriter.borrow();
+		try {
+			String filePath = context.getStaticizeFilePath(context.getPageIndex());
+			try {
+				env = template.createProcessingEnvironment(context.getVariables(), buffer.getWriter());
+				FreeMarkerUtils.addGlobalVariables(env, context);
+				// 生成静态化文件
 				env.process();
 			} catch (Exception e) {
 				throw new TemplateException(e, env);
 			}
+			this.staticFileWriter.write(filePath, buffer);
 			log.debug("[{}], page：{}, cost: {}ms", filePath, context.getPageIndex(), System.currentTimeMillis() - s);
+
+			// 发布分页
+			while (context.hasNextPage()) {
+				s = System.currentTimeMillis();
+				context.setPageIndex(context.getPageIndex() + 1);
+				env.setGlobalVariable(StaticizeConstants.TemplateVariable_PageNo,
+						env.getObjectWrapper().wrap(context.getPageIndex()));
+				filePath = context.getStaticizeFilePath(context.getPageIndex());
+				buffer.reset();
+				try {
+					env.process();
+				} catch (Exception e) {
+					throw new TemplateException(e, env);
+				}
+				this.staticFileWriter.write(filePath, buffer);
+				log.debug("[{}], page：{}, cost: {}ms", filePath, context.getPageIndex(), System.currentTimeMillis() - s);
+			}
+		} finally {
+			this.staticFileWriter.release(buffer);
+			context.clearRenderCache();
 		}
 	}
 
+	/**
+	 * 预加载模板，解析后放入模板缓存
+	 *
+	 * @param templateId 模板路径
+	 */
+	public void loadTemplate(String templateId) throws IOException {
+		cfg.getTemplate(templateId);
+	}
+
 	public void clearTemplateCache() {
 		cfg.clearTemplateCache();
 	}
@@ -3,6 +3,7 @@ package com.chestnut.common.staticize.config;
 import java.io.File;
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 
@@ -11,13 +12,15 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import com.chestnut.common.i18n.I18nUtils;
+import com.chestnut.common.redis.IMonitoredCache;
 import com.chestnut.common.staticize.config.properties.FreeMarkerProperties;
+import com.chestnut.common.staticize.core.TemplateCacheStorage;
 import com.chestnut.common.utils.SpringUtils;
 import com.chestnut.common.utils.StringUtils;
 import com.chestnut.common.utils.file.FileExUtils;
 
 import freemarker.cache.FileTemplateLoader;
-import freemarker.cache.MruCacheStorage;
 import freemarker.cache.MultiTemplateLoader;
 import freemarker.template.TemplateException;
 import freemarker.template.TemplateExceptionHandler;
@@ -42,7 +45,7 @@ public class FreeMarkerConfig {
 	@Bean("staticizeConfiguration")
 	@ConditionalOnMissingBean(freemarker.template.Configuration.class)
 	freemarker.template.Configuration staticizeFreeMarkerConfiguration(final FreeMarkerProperties properties,
-			final List<FileTemplateLoader> fileTemplateLoaders) throws IOException, TemplateException {
+			final List<FileTemplateLoader> fileTemplateLoaders, final TemplateCacheStorage templateCacheStorage) throws IOException, TemplateException {
 		freemarker.template.Configuration cfg = new freemarker.template.Configuration(
 				freemarker.template.Configuration.VERSION_2_3_31);
 		cfg.setDefaultEncoding(properties.getDefaultEncoding());
@@ -51,11 +54,10 @@ public class FreeMarkerConfig {
 				fileTemplateLoaders.toArray(FileTemplateLoader[]::new));
 		cfg.setTemplateLoader(multiTemplateLoader);
 		cfg.setTemplateExceptionHandler(TemplateExceptionHandler.HTML_DEBUG_HANDLER);
-		// 默认模板缓存策略：Most recently use cache.
+		// 默认模板缓存策略：Most recently use cache，按模板首级目录分组缓存，热点模板常驻缓存
 		// 缓存分两级，强引用->弱引用，强引用数达到上限则会将使用次数更少的转移到弱引用缓存，强引用不会被JVM释放，弱引用则相反。
-		// 默认设置：strongSizeLimit = 100，softSizeLimit = 1000
-		cfg.setCacheStorage(new MruCacheStorage(properties.getMruCache().getStrongSizeLimit(),
-				properties.getMruCache().getSoftSizeLimit()));
+		// 默认设置：strongSizeLimit = 50，softSizeLimit = 200
+		cfg.setCacheStorage(templateCacheStorage);
 		cfg.setNumberFormat("0.##");
 		// settings
 		if (Objects.nonNull(properties.getSettings()) && !properties.getSettings().isEmpty()) {
@@ -66,6 +68,32 @@ public class FreeMarkerConfig {
 		return cfg;
 	}
 
+	@Bean
+	TemplateCacheStorage templateCacheStorage(FreeMarkerProperties properties) {
+		return new TemplateCacheStorage(properties);
+	}
+
+	@Bean
+	IMonitoredCache templateMonitoredCache(TemplateCacheStorage templateCacheStorage) {
+		return new IMonitoredCache() {
+
+			@Override
+			public String getCacheName() {
+				return I18nUtils.get("{MONITORED.CACHE.FREEMARKER_TEMPLATE}");
+			}
+
+			@Override
+			public String getCacheKey() {
+				return "freemarker:template:";
+			}
+
+			@Override
+			public Map<String, Object> getCacheStats() {
+				return templateCacheStorage.getStats();
+			}
+		};
+	}
+
 	@Bean
 	FileTemplateLoader defaultFileTemplateLoader(FreeMarkerProperties properties) throws IOException {
 		String templateLoaderPath = properties.getTemplateLoaderPath();
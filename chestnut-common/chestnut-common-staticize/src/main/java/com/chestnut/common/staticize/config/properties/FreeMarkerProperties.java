@@ -29,7 +29,22 @@ public class FreeMarkerProperties {
 	 * MRU缓存配置
 	 */
 	private MRUCache mruCache = new MRUCache();
+
+	/**
+	 * 模板分组MRU缓存配置，key为模板路径首级目录（CMS为站点目录），未配置的分组使用mruCache
+	 */
+	private Map<String, MRUCache> groupCaches = new HashMap<>();
+
+	/**
+	 * 热点模板常驻缓存配置
+	 */
+	private Pin pin = new Pin();
 	
+	/**
+	 * 静态化文件输出配置
+	 */
+	private FileOutput fileOutput = new FileOutput();
+
 	/**
 	 * 配置
 	 */
@@ -43,4 +58,49 @@ public class FreeMarkerProperties {
 		
 		private int softSizeLimit = 200;
 	}
+
+	@Getter
+	@Setter
+	public static class Pin {
+
+		/**
+		 * 是否启用热点模板常驻缓存
+		 */
+		private boolean enable = true;
+
+		/**
+		 * 模板命中次数达到阈值后常驻缓存
+		 */
+		private int hitThreshold = 100;
+
+		/**
+		 * 常驻缓存模板数上限
+		 */
+		private int maxSize = 200;
+
+		/**
+		 * 命中计数模板数上限，超出后重新计数
+		 */
+		private int maxTrackedSize = 5000;
+	}
+
+	@Getter
+	@Setter
+	public static class FileOutput {
+
+		/**
+		 * 文件内容未变化时跳过写入
+		 */
+		private boolean skipUnchanged = true;
+
+		/**
+		 * 输出缓冲区池大小
+		 */
+		private int bufferPoolSize = 16;
+
+		/**
+		 * 可归还至缓冲池的缓冲区最大字节数
+		 */
+		private int maxPooledBufferSize = 4 * 1024 * 1024;
+	}
 }
@@ -0,0 +1,147 @@
+package com.chestnut.common.staticize.core;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * 分页列表游标
+ * <p>
+ * 静态化连续生成分页文件时，分页列表标签按排序键批量续查数据并缓存在游标中，
+ * 后续页码直接从游标中取数，避免每页重复执行OFFSET分页查询及COUNT统计。
+ * </p>
+ */
+public class PageCursor<T> {
+
+	/**
+	 * 创建游标的标签名
+	 */
+	@Getter
+	private final String tagName;
+
+	/**
+	 * 创建游标的标签属性，属性不一致的标签不可复用游标
+	 */
+	private final Map<String, String> tagAttrs;
+
+	/**
+	 * 数据总数，仅在创建游标时统计一次
+	 */
+	@Getter
+	private final long total;
+
+	/**
+	 * 已加载未消费的数据
+	 */
+	private final LinkedList<T> buffer = new LinkedList<>();
+
+	/**
+	 * 最后一次消费的页码
+	 */
+	@Getter
+	private int pageIndex;
+
+	/**
+	 * 最后加载的一条数据，作为续查的排序键
+	 */
+	@Getter
+	private T last;
+
+	/**
+	 * 数据是否已全部加载
+	 */
+	@Getter
+	private boolean exhausted;
+
+	/**
+	 * 第一次消费的页码
+	 */
+	@Getter
+	private int fromPageIndex;
+
+	/**
+	 * 数据唯一标识，不为空时记录每条数据所在页码
+	 */
+	private final Function<T, ?> keyMapper;
+
+	/**
+	 * 已消费数据所在页码：数据唯一标识 -> 页码
+	 */
+	@Getter
+	private final Map<Object, Integer> itemPages = new HashMap<>();
+
+	public PageCursor(String tagName, Map<String, String> tagAttrs, long total) {
+		this(tagName, tagAttrs, total, null);
+	}
+
+	public PageCursor(String tagName, Map<String, String> tagAttrs, long total, Function<T, ?> keyMapper) {
+		this.tagName = tagName;
+		this.tagAttrs = new HashMap<>(tagAttrs);
+		this.total = total;
+		this.keyMapper = keyMapper;
+	}
+
+	/**
+	 * 游标是否可用于指定标签的指定页码，仅支持按页码顺序连续读取
+	 */
+	public boolean isValid(String tagName, Map<String, String> tagAttrs, int pageIndex) {
+		return this.pageIndex == pageIndex - 1 && Objects.equals(this.tagName, tagName)
+				&& Objects.equals(this.tagAttrs, new HashMap<>(tagAttrs));
+	}
+
+	/**
+	 * 创建游标的标签属性
+	 */
+	public String getTagAttr(String name) {
+		return this.tagAttrs.get(name);
+	}
+
+	/**
+	 * 追加续查数据
+	 *
+	 * @param list      数据
+	 * @param exhausted 是否已加载完所有数据
+	 */
+	public void append(List<T> list, boolean exhausted) {
+		this.buffer.addAll(list);
+		if (!list.isEmpty()) {
+			this.last = list.get(list.size() - 1);
+		}
+		this.exhausted = exhausted;
+	}
+
+	/**
+	 * 已加载未消费数据量
+	 */
+	public int getBufferSize() {
+		return this.buffer.size();
+	}
+
+	/**
+	 * 读取下一页数据
+	 *
+	 * @param size      每页数据量
+	 * @param pageIndex 当前页码
+	 */
+	public List<T> poll(int size, int pageIndex) {
+		List<T> list = new ArrayList<>(size);
+		while (list.size() < size && !this.buffer.isEmpty()) {
+			T item = this.buffer.poll();
+			list.add(item);
+			if (this.keyMapper != null) {
+				this.itemPages.put(this.keyMapper.apply(item), pageIndex);
+			}
+		}
+		if (this.fromPageIndex == 0) {
+			this.fromPageIndex = pageIndex;
+		}
+		this.pageIndex = pageIndex;
+		return list;
+	}
+}
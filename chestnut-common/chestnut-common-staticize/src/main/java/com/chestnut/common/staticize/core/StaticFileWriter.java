@@ -0,0 +1,182 @@
+package com.chestnut.common.staticize.core;
+
+import com.chestnut.common.redis.RedisCache;
+import com.chestnut.common.staticize.config.properties.FreeMarkerProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 静态化文件输出
+ * <p>
+ * 模板先渲染到内存缓冲区，与已生成文件的摘要一致时跳过写入，
+ * 内容变化时先写入同目录临时文件再原子替换，避免Web服务器读取到未写完的文件。
+ * 文件摘要按目录记录在Redis中，文件大小或修改时间与记录不一致时视为已变更。
+ * </p>
+ *
+ * @author 兮玥
+ * @email 190785909@qq.com
+ */
+@Slf4j
+@Component
+public class StaticFileWriter {
+
+	private static final String DigestCacheKey = "staticize:digest:";
+
+	private static final String DigestAlgorithm = "MD5";
+
+	private final RedisCache redisCache;
+
+	private final FreeMarkerProperties properties;
+
+	private final ConcurrentLinkedQueue<OutputBuffer> bufferPool = new ConcurrentLinkedQueue<>();
+
+	private final AtomicInteger pooledCount = new AtomicInteger();
+
+	public StaticFileWriter(RedisCache redisCache, FreeMarkerProperties properties) {
+		this.redisCache = redisCache;
+		this.properties = properties;
+	}
+
+	/**
+	 * 获取输出缓冲区，使用完后需调用{@link #release(OutputBuffer)}归还
+	 */
+	public OutputBuffer borrow() {
+		OutputBuffer buffer = this.bufferPool.poll();
+		if (Objects.isNull(buffer)) {
+			return new OutputBuffer(Charset.defaultCharset());
+		}
+		this.pooledCount.decrementAndGet();
+		return buffer;
+	}
+
+	/**
+	 * 归还输出缓冲区，超过池容量或缓冲区过大时丢弃
+	 */
+	public void release(OutputBuffer buffer) {
+		FreeMarkerProperties.FileOutput config = this.properties.getFileOutput();
+		if (buffer.capacity() > config.getMaxPooledBufferSize()
+				|| this.pooledCount.incrementAndGet() > config.getBufferPoolSize()) {
+			this.pooledCount.decrementAndGet();
+			return;
+		}
+		try {
+			buffer.flushWriter();
+		} catch (IOException e) {
+			this.pooledCount.decrementAndGet();
+			return;
+		}
+		buffer.reset();
+		this.bufferPool.offer(buffer);
+	}
+
+	/**
+	 * 将缓冲区内容写入静态文件
+	 *
+	 * @param filePath 文件路径
+	 * @param buffer   渲染结果
+	 * @return 文件内容是否变更
+	 */
+	public boolean write(String filePath, OutputBuffer buffer) throws IOException {
+		buffer.flushWriter();
+		Path path = Path.of(filePath);
+		if (!this.properties.getFileOutput().isSkipUnchanged()) {
+			this.replace(path, buffer);
+			return true;
+		}
+		String cacheKey = DigestCacheKey + path.getParent().toString();
+		String fileName = path.getFileName().toString();
+		String digest = buffer.digest();
+		String prevDigest = this.redisCache.getCacheMapValue(cacheKey, fileName);
+		if (Objects.nonNull(prevDigest) && prevDigest.equals(toDigestValue(path, digest))) {
+			log.debug("Static file unchanged, skip: {}", filePath);
+			return false;
+		}
+		this.replace(path, buffer);
+		this.redisCache.setCacheMapValue(cacheKey, fileName, toDigestValue(path, digest));
+		return true;
+	}
+
+	private void replace(Path path, OutputBuffer buffer) throws IOException {
+		Path tmpPath = path.resolveSibling("." + path.getFileName() + "."
+				+ Long.toHexString(ThreadLocalRandom.current().nextLong()) + ".tmp");
+		try (OutputStream os = Files.newOutputStream(tmpPath, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+			buffer.writeTo(os);
+		}
+		try {
+			try {
+				Files.move(tmpPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(tmpPath, path, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} finally {
+			Files.deleteIfExists(tmpPath);
+		}
+	}
+
+	/**
+	 * 摘要记录值：内容摘要:文件大小:修改时间，文件被外部修改或删除后记录失效
+	 */
+	private static String toDigestValue(Path path, String digest) throws IOException {
+		if (!Files.exists(path)) {
+			return digest;
+		}
+		return digest + ":" + Files.size(path) + ":" + Files.getLastModifiedTime(path).toMillis();
+	}
+
+	/**
+	 * 可复用的静态化输出缓冲区
+	 */
+	public static class OutputBuffer extends ByteArrayOutputStream {
+
+		private final Writer writer;
+
+		OutputBuffer(Charset charset) {
+			super(64 * 1024);
+			this.writer = new OutputStreamWriter(this, charset);
+		}
+
+		public Writer getWriter() {
+			return this.writer;
+		}
+
+		/**
+		 * 将Writer中未编码的字符写入缓冲区
+		 */
+		void flushWriter() throws IOException {
+			this.writer.flush();
+		}
+
+		int capacity() {
+			return this.buf.length;
+		}
+
+		String digest() {
+			try {
+				MessageDigest md = MessageDigest.getInstance(DigestAlgorithm);
+				md.update(this.buf, 0, this.count);
+				return HexFormat.of().formatHex(md.digest());
+			} catch (NoSuchAlgorithmException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+	}
+}
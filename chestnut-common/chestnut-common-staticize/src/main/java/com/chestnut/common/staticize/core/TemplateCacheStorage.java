@@ -0,0 +1,230 @@
+package com.chestnut.common.staticize.core;
+
+import com.chestnut.common.staticize.config.properties.FreeMarkerProperties;
+import freemarker.cache.CacheStorageWithGetSize;
+import freemarker.cache.MruCacheStorage;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * FreeMarker模板缓存
+ * <p>
+ * 按模板路径首级目录（CMS中为站点目录_发布通道）分组，每个分组使用独立的MRU缓存，
+ * 可通过<code>chestnut.freemarker.group-caches</code>为指定站点单独配置缓存大小，避免大站点模板挤出其他站点的模板。
+ * 命中次数达到阈值的热点模板转入常驻缓存，不会被淘汰或被JVM回收。
+ * </p>
+ * <p>
+ * 非线程安全，FreeMarker会对非并发缓存加锁访问。
+ * </p>
+ *
+ * @author 兮玥
+ * @email 190785909@qq.com
+ */
+@Slf4j
+public class TemplateCacheStorage implements CacheStorageWithGetSize {
+
+	private static final String DefaultGroup = "_default";
+
+	private static final Field TemplateKeyNameField = initTemplateKeyNameField();
+
+	private final FreeMarkerProperties properties;
+
+	private final MruCacheStorage defaultStorage;
+
+	private final Map<String, MruCacheStorage> groupStorages = new HashMap<>();
+
+	private final Map<Object, Object> pinned = new HashMap<>();
+
+	private final Map<Object, Integer> hitCounts = new HashMap<>();
+
+	private final LongAdder hits = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	private final LongAdder loads = new LongAdder();
+
+	private final LongAdder loadTimeMillis = new LongAdder();
+
+	/**
+	 * 缓存未命中的时间，用于统计模板加载解析耗时
+	 */
+	private final ThreadLocal<Long> missTime = new ThreadLocal<>();
+
+	public TemplateCacheStorage(FreeMarkerProperties properties) {
+		this.properties = properties;
+		this.defaultStorage = new MruCacheStorage(properties.getMruCache().getStrongSizeLimit(),
+				properties.getMruCache().getSoftSizeLimit());
+	}
+
+	private static Field initTemplateKeyNameField() {
+		try {
+			Field field = Class.forName("freemarker.cache.TemplateCache$TemplateKey").getDeclaredField("name");
+			field.setAccessible(true);
+			return field;
+		} catch (Exception e) {
+			log.warn("Cannot access freemarker template cache key, group template cache disabled.");
+			return null;
+		}
+	}
+
+	@Override
+	public Object get(Object key) {
+		Object value = this.pinned.get(key);
+		if (Objects.nonNull(value)) {
+			this.hits.increment();
+			return value;
+		}
+		MruCacheStorage storage = this.getStorage(key);
+		value = storage.get(key);
+		if (Objects.isNull(value)) {
+			this.misses.increment();
+			this.missTime.set(System.currentTimeMillis());
+			return null;
+		}
+		this.hits.increment();
+		this.tryPin(key, value, storage);
+		return value;
+	}
+
+	private void tryPin(Object key, Object value, MruCacheStorage storage) {
+		FreeMarkerProperties.Pin config = this.properties.getPin();
+		if (!config.isEnable() || this.pinned.size() >= config.getMaxSize()) {
+			return;
+		}
+		if (this.hitCounts.size() >= config.getMaxTrackedSize()) {
+			// 命中计数只用于判断热点，超过上限后重新计数
+			this.hitCounts.clear();
+		}
+		int count = this.hitCounts.merge(key, 1, Integer::sum);
+		if (count >= config.getHitThreshold()) {
+			this.pinned.put(key, value);
+			this.hitCounts.remove(key);
+			storage.remove(key);
+		}
+	}
+
+	@Override
+	public void put(Object key, Object value) {
+		Long time = this.missTime.get();
+		if (Objects.nonNull(time)) {
+			this.loads.increment();
+			this.loadTimeMillis.add(System.currentTimeMillis() - time);
+			this.missTime.remove();
+		}
+		if (this.pinned.containsKey(key)) {
+			this.pinned.put(key, value);
+		} else {
+			this.getStorage(key).put(key, value);
+		}
+	}
+
+	@Override
+	public void remove(Object key) {
+		this.pinned.remove(key);
+		this.hitCounts.remove(key);
+		this.getStorage(key).remove(key);
+	}
+
+	@Override
+	public void clear() {
+		this.pinned.clear();
+		this.hitCounts.clear();
+		this.defaultStorage.clear();
+		this.groupStorages.values().forEach(MruCacheStorage::clear);
+	}
+
+	@Override
+	public int getSize() {
+		int size = this.pinned.size() + this.defaultStorage.getSize();
+		for (MruCacheStorage storage : this.groupStorages.values()) {
+			size += storage.getSize();
+		}
+		return size;
+	}
+
+	/**
+	 * 缓存统计信息
+	 */
+	public synchronized Map<String, Object> getStats() {
+		long hitCount = this.hits.sum();
+		long missCount = this.misses.sum();
+		long loadCount = this.loads.sum();
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("hits", hitCount);
+		stats.put("misses", missCount);
+		stats.put("hitRate", hitCount + missCount == 0 ? 0 : hitCount * 100.0 / (hitCount + missCount));
+		stats.put("loads", loadCount);
+		stats.put("loadTimeMillis", this.loadTimeMillis.sum());
+		stats.put("avgLoadTimeMillis", loadCount == 0 ? 0 : this.loadTimeMillis.sum() * 1.0 / loadCount);
+		stats.put("size", this.getSize());
+		stats.put("pinned", this.pinned.size());
+		Map<String, Integer> groups = new LinkedHashMap<>();
+		groups.put(DefaultGroup, this.defaultStorage.getSize());
+		this.groupStorages.forEach((group, storage) -> groups.put(group, storage.getSize()));
+		stats.put("groups", groups);
+		return stats;
+	}
+
+	private MruCacheStorage getStorage(Object key) {
+		String group = getGroup(key);
+		if (Objects.isNull(group)) {
+			return this.defaultStorage;
+		}
+		MruCacheStorage storage = this.groupStorages.get(group);
+		if (Objects.nonNull(storage)) {
+			return storage;
+		}
+		FreeMarkerProperties.MRUCache config = this.findGroupConfig(group);
+		if (Objects.isNull(config)) {
+			return this.defaultStorage;
+		}
+		storage = new MruCacheStorage(config.getStrongSizeLimit(), config.getSoftSizeLimit());
+		this.groupStorages.put(group, storage);
+		return storage;
+	}
+
+	/**
+	 * 分组缓存配置，配置key与分组名一致或为分组名前缀（站点目录）
+	 */
+	private FreeMarkerProperties.MRUCache findGroupConfig(String group) {
+		Map<String, FreeMarkerProperties.MRUCache> groupCaches = this.properties.getGroupCaches();
+		if (Objects.isNull(groupCaches) || groupCaches.isEmpty()) {
+			return null;
+		}
+		FreeMarkerProperties.MRUCache config = groupCaches.get(group);
+		if (Objects.nonNull(config)) {
+			return config;
+		}
+		for (Map.Entry<String, FreeMarkerProperties.MRUCache> e : groupCaches.entrySet()) {
+			if (group.startsWith(e.getKey() + "_")) {
+				return e.getValue();
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * 模板分组：模板路径首级目录
+	 */
+	private static String getGroup(Object key) {
+		if (Objects.isNull(TemplateKeyNameField)) {
+			return null;
+		}
+		try {
+			Object name = TemplateKeyNameField.get(key);
+			if (name instanceof String templateName) {
+				int index = templateName.indexOf('/');
+				return index > 0 ? templateName.substring(0, index) : null;
+			}
+		} catch (IllegalArgumentException | IllegalAccessException e) {
+			// 非模板缓存key
+		}
+		return null;
+	}
+}
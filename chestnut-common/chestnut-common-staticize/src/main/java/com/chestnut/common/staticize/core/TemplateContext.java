@@ -2,11 +2,15 @@ package com.chestnut.common.staticize.core;
 
 import com.chestnut.common.utils.StringUtils;
 import com.chestnut.common.utils.file.FileExUtils;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
 
 /**
  * 模板上下文
@@ -84,6 +88,60 @@ public class TemplateContext {
 	 * 模板处理时间
 	 */
 	private Long timeMillis;
+
+	/**
+	 * 分页列表游标，静态化连续分页时由分页列表标签维护
+	 */
+	private PageCursor<?> pageCursor;
+
+	/**
+	 * 模板数据依赖，由模板标签执行时记录，例如：content:catalog:1
+	 */
+	@Setter(AccessLevel.NONE)
+	private final Set<String> dependencies = new HashSet<>();
+
+	/**
+	 * 渲染范围内的数据查询缓存，模板标签及函数共享，静态化结束后清空
+	 */
+	@Getter(AccessLevel.NONE)
+	@Setter(AccessLevel.NONE)
+	private final Map<String, Object> renderCache = new HashMap<>();
+
+	/**
+	 * 发布任务范围的标签数据缓存，同一发布任务的多个发布通道共享
+	 */
+	private TemplateDataCache dataCache;
+
+	/**
+	 * 动态区块渲染模式，动态页面分离缓存公共部分与用户相关区块时使用
+	 */
+	private RegionMode regionMode = RegionMode.NONE;
+
+	/**
+	 * 当前是否在动态区块内，由动态区块标签维护
+	 */
+	private boolean inRegion;
+
+	/**
+	 * 动态区块渲染结果，REGION模式下由动态区块标签写入
+	 */
+	@Setter(AccessLevel.NONE)
+	private final Map<String, String> regionContents = new HashMap<>();
+
+	/**
+	 * 当前标签嵌套深度，由标签执行时维护
+	 */
+	@Setter(AccessLevel.NONE)
+	private int tagDepth;
+
+	/**
+	 * SKELETON模式下是否存在嵌套在其他标签内的动态区块
+	 * <p>
+	 * REGION模式只执行区块内的标签，嵌套在其他标签（如cms_include）内的区块无法被执行，
+	 * 存在时动态页面不可分离缓存，需完整渲染。
+	 * </p>
+	 */
+	private boolean nestedRegion;
 	
 	public TemplateContext(String templateId, boolean preview, String publishPipeCode) {
 		this.templateId = templateId;
@@ -108,6 +166,98 @@ public class TemplateContext {
 		return false;
 	}
 
+	/**
+	 * 是否可使用分页游标：非预览模式下静态化生成多页文件
+	 */
+	public boolean isPageCursorEnabled() {
+		return !this.isPreview() && StringUtils.isNotEmpty(this.getDirectory())
+				&& StringUtils.isNotEmpty(this.getOtherFileName());
+	}
+
+	/**
+	 * 最近一次分页列表标签创建的分页游标
+	 */
+	public PageCursor<?> getPageCursor() {
+		return this.pageCursor;
+	}
+
+	/**
+	 * 获取可用于当前标签当前页码的分页游标，不可用返回null
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> PageCursor<T> getPageCursor(String tagName, Map<String, String> tagAttrs, int pageIndex) {
+		if (this.pageCursor != null && this.pageCursor.isValid(tagName, tagAttrs, pageIndex)) {
+			return (PageCursor<T>) this.pageCursor;
+		}
+		return null;
+	}
+
+	/**
+	 * 记录模板数据依赖，预览模式不记录
+	 */
+	public void addDependency(String dependency) {
+		if (!this.isPreview() && StringUtils.isNotEmpty(dependency)) {
+			this.dependencies.add(dependency);
+		}
+	}
+
+	/**
+	 * 从渲染范围缓存获取数据，不存在时调用supplier加载，null值同样缓存
+	 *
+	 * @param key      缓存键
+	 * @param supplier 数据加载
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T getRenderCache(String key, Supplier<T> supplier) {
+		if (this.renderCache.containsKey(key)) {
+			return (T) this.renderCache.get(key);
+		}
+		T value = supplier.get();
+		this.renderCache.put(key, value);
+		return value;
+	}
+
+	/**
+	 * 从发布任务范围缓存获取标签数据，未设置缓存或预览模式直接调用supplier加载
+	 *
+	 * @param key      缓存键，参考{@link TemplateDataCache#key(String, Map, Object...)}
+	 * @param supplier 数据加载
+	 */
+	public <T> T getTagData(String key, Supplier<T> supplier) {
+		if (this.isPreview() || this.dataCache == null) {
+			return supplier.get();
+		}
+		return this.dataCache.get(key, supplier);
+	}
+
+	/**
+	 * 是否跳过标签执行：REGION模式下只执行动态区块内的标签
+	 */
+	public boolean isTagSkipped() {
+		return this.regionMode == RegionMode.REGION && !this.inRegion;
+	}
+
+	/**
+	 * 进入标签执行
+	 */
+	public void enterTag() {
+		this.tagDepth++;
+	}
+
+	/**
+	 * 退出标签执行
+	 */
+	public void exitTag() {
+		this.tagDepth--;
+	}
+
+	/**
+	 * 清空渲染范围缓存
+	 */
+	public void clearRenderCache() {
+		this.renderCache.clear();
+	}
+
 	public void setPageIndex(int pageIndex) {
 		this.pageIndex = Math.max(pageIndex, 1);
 		this.paged = false; // 变更页码时重置分页激活标记
@@ -117,4 +267,22 @@ public class TemplateContext {
 		this.directory = directory;
 		FileExUtils.mkdirs(directory);
 	}
+
+	public enum RegionMode {
+
+		/**
+		 * 正常渲染，动态区块标签直接输出内容
+		 */
+		NONE,
+
+		/**
+		 * 公共部分渲染，动态区块标签输出占位符，不渲染区块内容
+		 */
+		SKELETON,
+
+		/**
+		 * 区块渲染，只执行动态区块内的标签，区块内容记录到regionContents，区块外输出丢弃
+		 */
+		REGION
+	}
 }
@@ -0,0 +1,74 @@
+package com.chestnut.common.staticize.core;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 发布任务范围的模板标签数据缓存
+ * <p>
+ * 同一页面在多个发布通道依次静态化时，模板标签使用相同参数的查询结果与发布通道无关，
+ * 缓存后由后续发布通道直接复用；链接等与发布通道相关的数据仍由标签按通道生成。
+ * 缓存随发布任务创建并在任务结束后丢弃，数据量超过上限后不再缓存新数据。
+ * </p>
+ *
+ * @author 兮玥
+ * @email 190785909@qq.com
+ */
+public class TemplateDataCache {
+
+	private static final int DEFAULT_MAX_SIZE = 1000;
+
+	private static final Object NULL = new Object();
+
+	private final ConcurrentHashMap<String, Object> cache = new ConcurrentHashMap<>();
+
+	private final int maxSize;
+
+	public TemplateDataCache() {
+		this(DEFAULT_MAX_SIZE);
+	}
+
+	public TemplateDataCache(int maxSize) {
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * 获取缓存数据，不存在时调用supplier加载，null值同样缓存
+	 *
+	 * @param key      缓存键，参考{@link #key(String, Map, Object...)}
+	 * @param supplier 数据加载
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T get(String key, Supplier<T> supplier) {
+		Object value = this.cache.get(key);
+		if (Objects.isNull(value)) {
+			value = Objects.requireNonNullElse(supplier.get(), NULL);
+			if (this.cache.size() < this.maxSize) {
+				this.cache.put(key, value);
+			}
+		}
+		return value == NULL ? null : (T) value;
+	}
+
+	public int size() {
+		return this.cache.size();
+	}
+
+	/**
+	 * 标签数据缓存键：标签名 + 排序后的标签属性 + 标签解析出的查询参数
+	 *
+	 * @param tagName 标签名
+	 * @param attrs   标签属性
+	 * @param args    标签属性外影响查询结果的参数，例如站点ID、栏目ID、页码
+	 */
+	public static String key(String tagName, Map<String, String> attrs, Object... args) {
+		StringBuilder sb = new StringBuilder(tagName).append(new TreeMap<>(attrs));
+		for (Object arg : args) {
+			sb.append(':').append(arg);
+		}
+		return sb.toString();
+	}
+}
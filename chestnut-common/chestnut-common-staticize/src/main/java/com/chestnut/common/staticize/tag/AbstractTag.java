@@ -10,10 +10,13 @@ import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.math.NumberUtils;
 
 import com.chestnut.common.staticize.FreeMarkerUtils;
+import com.chestnut.common.staticize.StaticizeConstants;
+import com.chestnut.common.staticize.core.TemplateContext;
 import com.chestnut.common.staticize.enums.TagAttrDataType;
 import com.chestnut.common.utils.StringUtils;
 
 import freemarker.core.Environment;
+import freemarker.template.AdapterTemplateModel;
 import freemarker.template.TemplateDirectiveBody;
 import freemarker.template.TemplateDirectiveModel;
 import freemarker.template.TemplateException;
@@ -41,13 +44,39 @@ public abstract class AbstractTag implements ITag, TemplateDirectiveModel {
 	@Override
 	public void execute(Environment env, Map attrs, TemplateModel[] loopVars, TemplateDirectiveBody body)
 			throws TemplateException, IOException {
-		// 校验标签属性
-		Map<String, String> tagAttrs = this.validTagAttributes(env, attrs);
+		// 动态区块渲染时跳过区块外标签
+		TemplateModel contextModel = env.getGlobalVariable(StaticizeConstants.TemplateVariable_TemplateContext);
+		TemplateContext context = null;
+		if (contextModel instanceof AdapterTemplateModel m
+				&& m.getAdaptedObject(TemplateContext.class) instanceof TemplateContext c) {
+			if (c.isTagSkipped() && !this.isExecuteOutsideRegion()) {
+				return;
+			}
+			context = c;
+		}
+		if (context != null) {
+			context.enterTag();
+		}
+		try {
+			// 校验标签属性
+			Map<String, String> tagAttrs = this.validTagAttributes(env, attrs);
 
-		// 执行标签逻辑
-		this.onTagStart(env, tagAttrs, body);
-		Map<String, TemplateModel> tagVariables = this.execute0(env, tagAttrs);
-		this.onTagEnd(env, tagAttrs, body, tagVariables);
+			// 执行标签逻辑
+			this.onTagStart(env, tagAttrs, body);
+			Map<String, TemplateModel> tagVariables = this.execute0(env, tagAttrs);
+			this.onTagEnd(env, tagAttrs, body, tagVariables);
+		} finally {
+			if (context != null) {
+				context.exitTag();
+			}
+		}
+	}
+
+	/**
+	 * 动态区块渲染模式下是否在区块外执行，默认跳过
+	 */
+	protected boolean isExecuteOutsideRegion() {
+		return false;
 	}
 
 	/**
@@ -35,7 +35,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.*;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Service
@@ -166,16 +167,30 @@ public class CommentApiServiceImpl implements ICommentApiService, ApplicationCon
 				.orderByDesc(Comment::getCommentId)
 				.page(new Page<>(1, limit, false));
 		List<Comment> list = page.getRecords();
+		Map<Long, List<Comment>> replies = new HashMap<>();
+		Set<Long> memberIds = new HashSet<>();
+		list.forEach(comment -> {
+			memberIds.add(comment.getUid());
+			if (comment.getReplyCount() > 0) {
+				List<Comment> replyList = this.loadCommentReplyList(comment.getCommentId(), 2, 0L);
+				replyList.forEach(reply -> {
+					memberIds.add(reply.getUid());
+					memberIds.add(reply.getReplyUid());
+				});
+				replies.put(comment.getCommentId(), replyList);
+			}
+		});
+		Map<Long, MemberCache> members = this.memberStatDataService.getMemberCaches(memberIds);
 		List<CommentVO> comments = list.stream().map(comment -> {
 			CommentVO vo = CommentVO.newInstance(comment);
-			vo.setUser(this.memberStatDataService.getMemberCache(comment.getUid()));
-			if (comment.getReplyCount() > 0) {
-				List<CommentVO> replyList = this.loadCommentReplyList(comment.getCommentId(), 2, 0L)
+			vo.setUser(members.get(comment.getUid()));
+			if (replies.containsKey(comment.getCommentId())) {
+				List<CommentVO> replyList = replies.get(comment.getCommentId())
 						.stream().map(reply -> {
 							CommentVO voReply = CommentVO.newInstance(reply);
-							voReply.setUser(this.memberStatDataService.getMemberCache(reply.getUid()));
+							voReply.setUser(members.get(reply.getUid()));
 							if (reply.getReplyUid() > 0) {
-								voReply.setReplyUser(this.memberStatDataService.getMemberCache(reply.getReplyUid()));
+								voReply.setReplyUser(members.get(reply.getReplyUid()));
 							}
 							return voReply;
 						}).toList();
@@ -197,11 +212,13 @@ public class CommentApiServiceImpl implements ICommentApiService, ApplicationCon
 				.page(new Page<>(1, limit, false));
 		List<Comment> list = page.getRecords();
 		MemberCache memberCache = this.memberStatDataService.getMemberCache(memberId);
+		Map<Long, MemberCache> replyMembers = this.memberStatDataService.getMemberCaches(list.stream()
+				.map(Comment::getReplyUid).filter(uid -> uid > 0).collect(Collectors.toSet()));
 		List<CommentVO> comments = list.stream().map(comment -> {
 			CommentVO vo = CommentVO.newInstance(comment);
 			vo.setUser(memberCache);
 			if (comment.getReplyUid() > 0) {
-				vo.setReplyUser(this.memberStatDataService.getMemberCache(comment.getReplyUid()));
+				vo.setReplyUser(replyMembers.get(comment.getReplyUid()));
 			}
 			return vo;
 		}).toList();
@@ -220,11 +237,17 @@ public class CommentApiServiceImpl implements ICommentApiService, ApplicationCon
 	@Override
 	public List<CommentVO> getCommentReplyList(Long commentId, Integer limit, Long offset) {
 		List<Comment> list = loadCommentReplyList(commentId, limit, offset);
+		Set<Long> memberIds = new HashSet<>();
+		list.forEach(reply -> {
+			memberIds.add(reply.getUid());
+			memberIds.add(reply.getReplyUid());
+		});
+		Map<Long, MemberCache> members = this.memberStatDataService.getMemberCaches(memberIds);
 		List<CommentVO> comments = list.stream().map(reply -> {
 			CommentVO vo = CommentVO.newInstance(reply);
-			vo.setUser(this.memberStatDataService.getMemberCache(reply.getUid()));
+			vo.setUser(members.get(reply.getUid()));
 			if (reply.getReplyUid() > 0) {
-				vo.setReplyUser(this.memberStatDataService.getMemberCache(reply.getReplyUid()));
+				vo.setReplyUser(members.get(reply.getReplyUid()));
 			}
 			return vo;
 		}).toList();
@@ -9,6 +9,7 @@ import com.chestnut.common.security.enums.DeviceType;
 import com.chestnut.common.utils.IP2RegionUtils;
 import com.chestnut.common.utils.IdUtils;
 import com.chestnut.common.utils.StringUtils;
+import com.chestnut.common.utils.UserAgentUtils;
 import com.chestnut.member.domain.Member;
 import com.chestnut.member.domain.dto.MemberLoginDTO;
 import com.chestnut.member.domain.dto.MemberRegisterDTO;
@@ -96,7 +97,7 @@ public class MemberLoginService {
 		loginUser.setLoginTime(Instant.now().toEpochMilli());
 		loginUser.setLoginLocation(IP2RegionUtils.ip2Region(member.getLastLoginIp()));
 		loginUser.setIpaddr(member.getLastLoginIp());
-		UserAgent ua = UserAgent.parseUserAgentString(userAgent);
+		UserAgent ua = UserAgentUtils.parse(userAgent);
 		loginUser.setOs(ua.getOperatingSystem().name());
 		loginUser.setBrowser(ua.getBrowser() + "/" + ua.getBrowserVersion());
 		loginUser.setUser(member);
@@ -6,6 +6,9 @@ import com.chestnut.member.domain.MemberStatData;
 import com.chestnut.member.domain.vo.MemberCache;
 import com.chestnut.member.service.impl.MemberStatDataServiceImpl;
 
+import java.util.Collection;
+import java.util.Map;
+
 public interface IMemberStatDataService extends IService<MemberStatData> {
 
     /**
@@ -16,6 +19,14 @@ public interface IMemberStatDataService extends IService<MemberStatData> {
      */
     MemberCache getMemberCache(Long memberId);
 
+    /**
+     * 批量获取会员基础数据缓存，缓存不存在的会员批量查询数据库
+     *
+     * @param memberIds 会员ID
+     * @return 会员ID与缓存数据映射，不包含不存在的会员
+     */
+    Map<Long, MemberCache> getMemberCaches(Collection<Long> memberIds);
+
     void removeMemberCache(Long memberId);
 
     /**
@@ -16,8 +16,14 @@ import org.redisson.api.RedissonClient;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -40,22 +46,47 @@ public class MemberStatDataServiceImpl extends ServiceImpl<MemberStatDataMapper,
             if (member == null) {
                 return null;
             }
-            MemberCache memberCache = new MemberCache();
-            memberCache.setMemberId(memberId);
-            if (StringUtils.isNotEmpty(member.getNickName())) {
-                memberCache.setDisplayName(member.getNickName());
-            } else {
-                memberCache.setDisplayName(member.getUserName());
-            }
-            memberCache.setCover(member.getCover());
-            memberCache.setAvatar(member.getAvatar());
-            memberCache.setSlogan(member.getSlogan());
-            MemberStatData data = getById(memberId);
-            memberStatDataTypes.values().forEach(t -> {
-                memberCache.getStat().put(t.getType(), Objects.nonNull(data) ? data.getValue(t.getField()) : 0);
-            });
-            return memberCache;
+            return this.newMemberCache(member, getById(memberId));
+        });
+    }
+
+    @Override
+    public Map<Long, MemberCache> getMemberCaches(Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return Map.of();
+        }
+        List<String> cacheKeys = memberIds.stream()
+                .filter(memberId -> Objects.nonNull(memberId) && memberId > 0).distinct()
+                .map(memberId -> CACHE_PREFIX + memberId).toList();
+        Map<String, MemberCache> caches = this.redisCache.getMultiCacheObject(cacheKeys, missingKeys -> {
+            List<Long> ids = missingKeys.stream()
+                    .map(key -> Long.valueOf(StringUtils.substringAfter(key, CACHE_PREFIX))).toList();
+            Map<Long, MemberStatData> statData = this.listByIds(ids).stream()
+                    .collect(Collectors.toMap(MemberStatData::getMemberId, Function.identity()));
+            return this.memberService.listByIds(ids).stream().collect(Collectors.toMap(
+                    member -> CACHE_PREFIX + member.getMemberId(),
+                    member -> this.newMemberCache(member, statData.get(member.getMemberId()))));
+        }, 0, TimeUnit.SECONDS);
+        Map<Long, MemberCache> result = new HashMap<>(caches.size());
+        caches.values().forEach(memberCache -> result.put(memberCache.getMemberId(), memberCache));
+        return result;
+    }
+
+    private MemberCache newMemberCache(Member member, MemberStatData data) {
+        MemberCache memberCache = new MemberCache();
+        memberCache.setMemberId(member.getMemberId());
+        if (StringUtils.isNotEmpty(member.getNickName())) {
+            memberCache.setDisplayName(member.getNickName());
+        } else {
+            memberCache.setDisplayName(member.getUserName());
+        }
+        memberCache.setCover(member.getCover());
+        memberCache.setAvatar(member.getAvatar());
+        memberCache.setSlogan(member.getSlogan());
+        memberStatDataTypes.values().forEach(t -> {
+            memberCache.getStat().put(t.getType(), Objects.nonNull(data) ? data.getValue(t.getField()) : 0);
         });
+        return memberCache;
     }
 
     @Override
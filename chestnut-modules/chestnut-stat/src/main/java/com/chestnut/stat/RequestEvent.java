@@ -5,6 +5,7 @@ import java.time.LocalDateTime;
 import com.chestnut.common.utils.IP2RegionUtils;
 import com.chestnut.common.utils.ServletUtils;
 import com.chestnut.common.utils.StringUtils;
+import com.chestnut.common.utils.UserAgentUtils;
 
 import eu.bitwalker.useragentutils.UserAgent;
 import jakarta.servlet.http.HttpServletRequest;
@@ -71,14 +72,29 @@ public class RequestEvent {
 	 * @param request
 	 */
 	public void fill(HttpServletRequest request) {
+		this.capture(request);
+		this.enrich();
+	}
+
+	/**
+	 * 提取request请求原始信息，不做解析，用于请求线程快速返回后异步调用{@link #enrich()}
+	 *
+	 * @param request
+	 */
+	public void capture(HttpServletRequest request) {
 		this.setHost(request.getRemoteHost());
 		this.setIp(ServletUtils.getIpAddr(request));
-		this.setAddress(IP2RegionUtils.ip2Region(this.getIp()));
 		this.setReferer(ServletUtils.getReferer(request));
 		this.setLocale(StringUtils.substringBefore(ServletUtils.getAcceptLanaguage(request), ","));
-		
 		this.setUserAgent(ServletUtils.getUserAgent(request));
-		UserAgent ua = ServletUtils.parseUserAgent(request);
+	}
+
+	/**
+	 * 解析IP所属地区及UserAgent
+	 */
+	public void enrich() {
+		this.setAddress(IP2RegionUtils.ip2Region(this.getIp()));
+		UserAgent ua = UserAgentUtils.parse(this.getUserAgent());
 		this.setBrowser(ua.getBrowser().getName());
 		this.setOs(ua.getOperatingSystem().getName());
 		this.setDeviceType(ua.getOperatingSystem().getDeviceType().getName());
@@ -0,0 +1,15 @@
+package com.chestnut.stat.buffer;
+
+import java.util.List;
+
+/**
+ * 事件批量处理
+ *
+ * @author 兮玥
+ * @email 190785909@qq.com
+ */
+@FunctionalInterface
+public interface EventBatchHandler<E> {
+
+	void handle(List<E> events) throws Exception;
+}
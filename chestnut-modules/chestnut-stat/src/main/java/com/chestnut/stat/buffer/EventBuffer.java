@@ -0,0 +1,202 @@
+package com.chestnut.stat.buffer;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 事件缓冲队列
+ * <p>
+ * 请求线程将事件放入有界队列后立即返回，消费线程批量取出事件交由{@link EventBatchHandler}处理，
+ * 队列已满时按{@link OverflowPolicy}处理。关闭时停止接收新事件并处理完队列中剩余事件。
+ * </p>
+ *
+ * @author 兮玥
+ * @email 190785909@qq.com
+ */
+@Slf4j
+public class EventBuffer<E> {
+
+	private final String name;
+
+	private final EventBufferOptions options;
+
+	private final EventBatchHandler<E> handler;
+
+	private final BlockingQueue<E> queue;
+
+	private final List<Thread> consumers = new ArrayList<>();
+
+	private volatile boolean running;
+
+	private final LongAdder offered = new LongAdder();
+
+	private final LongAdder dropped = new LongAdder();
+
+	private final LongAdder callerRuns = new LongAdder();
+
+	private final LongAdder processed = new LongAdder();
+
+	private final LongAdder failed = new LongAdder();
+
+	private final LongAdder batches = new LongAdder();
+
+	private final LongAdder handleMillis = new LongAdder();
+
+	EventBuffer(String name, EventBufferOptions options, EventBatchHandler<E> handler) {
+		this.name = name;
+		this.options = options;
+		this.handler = handler;
+		this.queue = new ArrayBlockingQueue<>(Math.max(1, options.getCapacity()));
+	}
+
+	public String getName() {
+		return this.name;
+	}
+
+	void start() {
+		this.running = true;
+		for (int i = 0; i < Math.max(1, this.options.getConsumers()); i++) {
+			Thread thread = new Thread(this::consume, "event-buffer-" + this.name + "-" + i);
+			thread.setDaemon(true);
+			thread.start();
+			this.consumers.add(thread);
+		}
+	}
+
+	/**
+	 * 放入事件
+	 *
+	 * @return 是否接收，被丢弃时返回false
+	 */
+	public boolean offer(E event) {
+		this.offered.increment();
+		if (!this.running) {
+			this.dropped.increment();
+			return false;
+		}
+		if (this.queue.offer(event)) {
+			return true;
+		}
+		switch (this.options.getOverflowPolicy()) {
+			case DROP_OLDEST -> {
+				while (!this.queue.offer(event)) {
+					if (Objects.nonNull(this.queue.poll())) {
+						this.dropped.increment();
+					}
+				}
+				return true;
+			}
+			case BLOCK -> {
+				try {
+					if (this.queue.offer(event, this.options.getOfferTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+						return true;
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			case CALLER_RUNS -> {
+				this.callerRuns.increment();
+				this.handle(List.of(event));
+				return true;
+			}
+			default -> {
+			}
+		}
+		this.dropped.increment();
+		return false;
+	}
+
+	private void consume() {
+		int batchSize = Math.max(1, this.options.getBatchSize());
+		long pollTimeout = this.options.getPollTimeout().toMillis();
+		while (this.running || !this.queue.isEmpty()) {
+			try {
+				E first = this.queue.poll(pollTimeout, TimeUnit.MILLISECONDS);
+				if (Objects.isNull(first)) {
+					continue;
+				}
+				List<E> batch = new ArrayList<>(batchSize);
+				batch.add(first);
+				this.queue.drainTo(batch, batchSize - 1);
+				this.handle(batch);
+			} catch (InterruptedException e) {
+				if (!this.running) {
+					// 关闭时处理剩余事件后退出
+					this.drainRemaining(batchSize);
+					return;
+				}
+			}
+		}
+	}
+
+	private void drainRemaining(int batchSize) {
+		List<E> batch = new ArrayList<>(batchSize);
+		while (this.queue.drainTo(batch, batchSize) > 0) {
+			this.handle(batch);
+			batch = new ArrayList<>(batchSize);
+		}
+	}
+
+	private void handle(List<E> batch) {
+		long s = System.currentTimeMillis();
+		try {
+			this.handler.handle(batch);
+			this.processed.add(batch.size());
+		} catch (Exception e) {
+			this.failed.add(batch.size());
+			log.error("Event buffer [{}] handle {} events failed.", this.name, batch.size(), e);
+		} finally {
+			this.batches.increment();
+			this.handleMillis.add(System.currentTimeMillis() - s);
+		}
+	}
+
+	/**
+	 * 停止接收事件，等待消费线程处理完剩余事件。
+	 * 事件处理依赖的数据源等资源关闭前，由队列所有者在销毁时调用。
+	 *
+	 * @param timeoutMillis 最长等待时间
+	 */
+	public void shutdown(long timeoutMillis) {
+		this.running = false;
+		long deadline = System.currentTimeMillis() + timeoutMillis;
+		for (Thread thread : this.consumers) {
+			try {
+				thread.join(Math.max(1, deadline - System.currentTimeMillis()));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+		}
+		if (!this.queue.isEmpty()) {
+			log.warn("Event buffer [{}] shutdown with {} events not handled.", this.name, this.queue.size());
+		}
+	}
+
+	public Map<String, Object> getStats() {
+		long batchCount = this.batches.sum();
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("capacity", this.options.getCapacity());
+		stats.put("queued", this.queue.size());
+		stats.put("overflowPolicy", this.options.getOverflowPolicy().name());
+		stats.put("offered", this.offered.sum());
+		stats.put("dropped", this.dropped.sum());
+		stats.put("callerRuns", this.callerRuns.sum());
+		stats.put("processed", this.processed.sum());
+		stats.put("failed", this.failed.sum());
+		stats.put("batches", batchCount);
+		stats.put("avgBatchSize", batchCount == 0 ? 0 : (this.processed.sum() + this.failed.sum()) * 1.0 / batchCount);
+		stats.put("avgHandleMillis", batchCount == 0 ? 0 : this.handleMillis.sum() * 1.0 / batchCount);
+		return stats;
+	}
+}
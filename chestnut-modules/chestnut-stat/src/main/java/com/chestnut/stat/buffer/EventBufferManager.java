@@ -0,0 +1,64 @@
+package com.chestnut.stat.buffer;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 事件缓冲队列管理
+ * <p>
+ * 创建并启动{@link EventBuffer}，应用关闭时关闭未被所有者关闭的队列。
+ * </p>
+ *
+ * @author 兮玥
+ * @email 190785909@qq.com
+ */
+@Slf4j
+@Component
+public class EventBufferManager {
+
+	/**
+	 * 关闭时等待每个队列处理剩余事件的最长时间
+	 */
+	private static final long SHUTDOWN_TIMEOUT_MILLIS = 10000;
+
+	private final Map<String, EventBuffer<?>> buffers = new ConcurrentHashMap<>();
+
+	/**
+	 * 创建事件缓冲队列
+	 *
+	 * @param name    名称，全局唯一
+	 * @param options 配置
+	 * @param handler 批量处理
+	 */
+	public <E> EventBuffer<E> create(String name, EventBufferOptions options, EventBatchHandler<E> handler) {
+		EventBuffer<E> buffer = new EventBuffer<>(name, options, handler);
+		if (Objects.nonNull(this.buffers.putIfAbsent(name, buffer))) {
+			throw new IllegalArgumentException("Event buffer already exists: " + name);
+		}
+		buffer.start();
+		return buffer;
+	}
+
+	/**
+	 * 所有队列统计，key为队列名称
+	 */
+	public Map<String, Map<String, Object>> getStats() {
+		Map<String, Map<String, Object>> stats = new LinkedHashMap<>();
+		this.buffers.forEach((name, buffer) -> stats.put(name, buffer.getStats()));
+		return stats;
+	}
+
+	@PreDestroy
+	public void destroy() {
+		this.buffers.values().forEach(buffer -> {
+			log.info("Shutdown event buffer: {}", buffer.getName());
+			buffer.shutdown(SHUTDOWN_TIMEOUT_MILLIS);
+		});
+	}
+}
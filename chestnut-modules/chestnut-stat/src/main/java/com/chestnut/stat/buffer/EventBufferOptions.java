@@ -0,0 +1,47 @@
+package com.chestnut.stat.buffer;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Duration;
+
+/**
+ * 事件缓冲配置
+ *
+ * @author 兮玥
+ * @email 190785909@qq.com
+ */
+@Getter
+@Setter
+public class EventBufferOptions {
+
+	/**
+	 * 队列容量
+	 */
+	private int capacity = 10000;
+
+	/**
+	 * 消费线程数
+	 */
+	private int consumers = 1;
+
+	/**
+	 * 每批处理的最大事件数
+	 */
+	private int batchSize = 200;
+
+	/**
+	 * 队列为空时消费线程等待时间
+	 */
+	private Duration pollTimeout = Duration.ofSeconds(1);
+
+	/**
+	 * 队列已满时的处理策略
+	 */
+	private OverflowPolicy overflowPolicy = OverflowPolicy.DROP_NEWEST;
+
+	/**
+	 * BLOCK策略下的最长等待时间
+	 */
+	private Duration offerTimeout = Duration.ofMillis(50);
+}
@@ -0,0 +1,30 @@
+package com.chestnut.stat.buffer;
+
+/**
+ * 事件缓冲队列已满时的处理策略
+ *
+ * @author 兮玥
+ * @email 190785909@qq.com
+ */
+public enum OverflowPolicy {
+
+	/**
+	 * 丢弃新事件
+	 */
+	DROP_NEWEST,
+
+	/**
+	 * 丢弃队列中最早的事件
+	 */
+	DROP_OLDEST,
+
+	/**
+	 * 等待队列空闲，超过等待时间后丢弃新事件
+	 */
+	BLOCK,
+
+	/**
+	 * 由调用线程直接处理
+	 */
+	CALLER_RUNS
+}
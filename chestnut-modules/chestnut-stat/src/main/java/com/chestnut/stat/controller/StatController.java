@@ -4,6 +4,7 @@ import com.chestnut.common.domain.R;
 import com.chestnut.common.domain.TreeNode;
 import com.chestnut.common.security.anno.Priv;
 import com.chestnut.common.security.web.BaseRestController;
+import com.chestnut.stat.buffer.EventBufferManager;
 import com.chestnut.stat.service.IStatService;
 import com.chestnut.stat.user.preference.StatIndexPreference;
 import com.chestnut.system.domain.SysUser;
@@ -30,6 +31,8 @@ import java.util.Map;
 public class StatController extends BaseRestController {
 	
 	private final IStatService statService;
+
+	private final EventBufferManager eventBufferManager;
 	
 	@GetMapping("/menu/tree")
 	public R<?> bindStatTreeData() {
@@ -43,4 +46,12 @@ public class StatController extends BaseRestController {
 		List<TreeNode<String>> treeMenus = this.statService.getStatMenuTree();
 		return R.ok(treeMenus);
 	}
+
+	/**
+	 * 统计事件缓冲队列状态
+	 */
+	@GetMapping("/buffers")
+	public R<?> getEventBufferStats() {
+		return R.ok(this.eventBufferManager.getStats());
+	}
 }
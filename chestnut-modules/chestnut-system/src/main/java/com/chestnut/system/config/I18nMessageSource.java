@@ -3,21 +3,34 @@ package com.chestnut.system.config;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.context.support.AbstractMessageSource;
 
 import com.chestnut.common.redis.RedisCache;
-import com.chestnut.common.utils.ConvertUtils;
 import com.chestnut.common.utils.StringUtils;
-import com.chestnut.system.service.ISysI18nDictService;
 
 import lombok.Getter;
+import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 国际化消息源
+ * <p>
+ * 国际化字符串存储在Redis中（i18n:{languageTag}），各节点按语言将全部字符串加载到本地只读消息表中查找，
+ * 字符串变更后通过{@link #refresh()}更新Redis中的版本标记并整体替换本地消息表，
+ * 其他节点定时检查版本标记，版本变化时重新加载。
+ * </p>
+ */
+@Slf4j
 @Getter
 @Setter
 @RequiredArgsConstructor
@@ -25,6 +38,11 @@ public class I18nMessageSource extends AbstractMessageSource implements Initiali
 
 	private final static String CACHE_PREFIX = "i18n:";
 
+	/**
+	 * 国际化字符串版本标记
+	 */
+	private final static String CACHE_KEY_VERSION = "i18n_version";
+
 	private final RedisCache redisCache;
 
 	private String basename;
@@ -35,28 +53,126 @@ public class I18nMessageSource extends AbstractMessageSource implements Initiali
 
 	private Locale defaultLocale = Locale.SIMPLIFIED_CHINESE;
 
+	/**
+	 * 版本标记检查间隔（毫秒）
+	 */
+	private long versionCheckMillis = 5000;
+
+	/**
+	 * 本地消息表，key = languageTag
+	 */
+	@Getter(AccessLevel.NONE)
+	@Setter(AccessLevel.NONE)
+	private volatile Map<String, MessageTable> messageTables = Map.of();
+
+	@Getter(AccessLevel.NONE)
+	@Setter(AccessLevel.NONE)
+	private volatile String version;
+
+	@Getter(AccessLevel.NONE)
+	@Setter(AccessLevel.NONE)
+	private volatile long lastVersionCheck;
+
 	@Override
 	public void afterPropertiesSet() {
 	}
 
 	@Override
 	protected MessageFormat resolveCode(String code, Locale locale) {
-		Object value = this.redisCache.getCacheMapValue(CACHE_PREFIX + locale.toLanguageTag(), code);
-		if (Objects.nonNull(value)) {
-			return new MessageFormat(value.toString(), locale);
-		}
-		return null;
+		return this.getMessageTable(locale).getMessageFormat(code, locale);
 	}
 	
 	@Override
 	protected String resolveCodeWithoutArguments(String code, Locale locale) {
-		Object value = this.redisCache.getCacheMapValue(CACHE_PREFIX + locale.toLanguageTag(), code);
-		return ConvertUtils.toStr(value);
+		return this.getMessageTable(locale).messages().get(code);
 	}
 
 	@Override
 	protected String getDefaultMessage(String code) {
-		Object value = this.redisCache.getCacheMapValue(CACHE_PREFIX + this.getDefaultLocale().toLanguageTag(), code);
-		return ConvertUtils.toStr(value, isUseCodeAsDefaultMessage() ? code : StringUtils.EMPTY);
+		String value = this.getMessageTable(this.getDefaultLocale()).messages().get(code);
+		return Objects.requireNonNullElse(value, isUseCodeAsDefaultMessage() ? code : StringUtils.EMPTY);
+	}
+
+	/**
+	 * Redis中国际化字符串变更后调用，更新版本标记并重新加载本地消息表
+	 */
+	public void refresh() {
+		String newVersion = UUID.randomUUID().toString();
+		this.redisCache.setCacheObject(CACHE_KEY_VERSION, newVersion);
+		this.reload(newVersion);
+	}
+
+	private MessageTable getMessageTable(Locale locale) {
+		this.checkVersion();
+		String languageTag = locale.toLanguageTag();
+		MessageTable table = this.messageTables.get(languageTag);
+		if (Objects.isNull(table)) {
+			table = this.loadMessageTable(languageTag);
+		}
+		return table;
+	}
+
+	private void checkVersion() {
+		long now = System.currentTimeMillis();
+		if (now - this.lastVersionCheck < this.versionCheckMillis) {
+			return;
+		}
+		this.lastVersionCheck = now;
+		String currentVersion = this.redisCache.getCacheObject(CACHE_KEY_VERSION);
+		if (!Objects.equals(currentVersion, this.version)) {
+			this.reload(currentVersion);
+		}
+	}
+
+	/**
+	 * 重新加载已加载过的语言消息表，加载完成后整体替换
+	 */
+	private synchronized void reload(String newVersion) {
+		Map<String, MessageTable> tables = new HashMap<>();
+		for (String languageTag : this.messageTables.keySet()) {
+			tables.put(languageTag, this.readMessageTable(languageTag));
+		}
+		this.messageTables = Map.copyOf(tables);
+		this.version = newVersion;
+		log.debug("I18n message tables reloaded, version: {}", newVersion);
+	}
+
+	private synchronized MessageTable loadMessageTable(String languageTag) {
+		MessageTable table = this.messageTables.get(languageTag);
+		if (Objects.isNull(table)) {
+			table = this.readMessageTable(languageTag);
+			Map<String, MessageTable> tables = new HashMap<>(this.messageTables);
+			tables.put(languageTag, table);
+			this.messageTables = Map.copyOf(tables);
+		}
+		return table;
+	}
+
+	private MessageTable readMessageTable(String languageTag) {
+		Map<String, Object> map = this.redisCache.getCacheMap(CACHE_PREFIX + languageTag);
+		Map<String, String> messages = new HashMap<>(map.size());
+		map.forEach((k, v) -> {
+			if (Objects.nonNull(v)) {
+				messages.put(k, v.toString());
+			}
+		});
+		return new MessageTable(Map.copyOf(messages), new ConcurrentHashMap<>());
+	}
+
+	/**
+	 * 语言消息表
+	 *
+	 * @param messages 国际化字符串
+	 * @param formats  已解析的消息格式，AbstractMessageSource格式化时对MessageFormat加锁
+	 */
+	private record MessageTable(Map<String, String> messages, Map<String, MessageFormat> formats) {
+
+		MessageFormat getMessageFormat(String code, Locale locale) {
+			String message = this.messages.get(code);
+			if (Objects.isNull(message)) {
+				return null;
+			}
+			return this.formats.computeIfAbsent(code, c -> new MessageFormat(message, locale));
+		}
 	}
 }
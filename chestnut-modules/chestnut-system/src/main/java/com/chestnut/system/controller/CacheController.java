@@ -2,6 +2,7 @@ package com.chestnut.system.controller;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -16,10 +17,13 @@ import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.chestnut.common.domain.R;
 import com.chestnut.common.redis.IMonitoredCache;
+import com.chestnut.common.redis.NearCacheManager;
+import com.chestnut.common.redis.RedisCache;
 import com.chestnut.common.security.anno.Priv;
 import com.chestnut.common.utils.StringUtils;
 import com.chestnut.system.domain.SysCache;
@@ -43,6 +47,10 @@ public class CacheController {
 	
 	private final List<IMonitoredCache> monitoredCaches;
 
+	private final RedisCache redisCache;
+
+	private final NearCacheManager nearCacheManager;
+
 	@Priv(type = AdminUserType.TYPE, value = SysMenuPriv.MonitorCacheList)
 	@GetMapping
 	public R<?> getInfo() throws Exception {
@@ -76,6 +84,59 @@ public class CacheController {
 		return R.ok(list);
 	}
 
+	@Priv(type = AdminUserType.TYPE, value = SysMenuPriv.MonitorCacheList)
+	@GetMapping("/stats")
+	public R<?> getCacheStats() {
+		List<Map<String, Object>> list = new ArrayList<>();
+		this.monitoredCaches.forEach(mc -> {
+			Map<String, Object> stats = mc.getCacheStats();
+			if (stats != null) {
+				Map<String, Object> data = new HashMap<>(3);
+				data.put("cacheName", mc.getCacheName());
+				data.put("cacheKey", mc.getCacheKey());
+				data.put("stats", stats);
+				list.add(data);
+			}
+		});
+		return R.ok(list);
+	}
+
+	/**
+	 * Redis缓存访问统计，按缓存键分组，分组匹配监控缓存前缀时附带缓存名称
+	 */
+	@Priv(type = AdminUserType.TYPE, value = SysMenuPriv.MonitorCacheList)
+	@GetMapping("/metrics")
+	public R<?> getCacheMetrics() {
+		List<Map<String, Object>> list = new ArrayList<>();
+		this.redisCache.getMetrics().getGroupStats().forEach((group, stats) -> {
+			Map<String, Object> data = new HashMap<>(3);
+			data.put("group", group);
+			this.monitoredCaches.stream()
+					.filter(mc -> StringUtils.isNotEmpty(mc.getCacheKey()) && group.startsWith(mc.getCacheKey()))
+					.max(Comparator.comparingInt(mc -> mc.getCacheKey().length()))
+					.ifPresent(mc -> data.put("cacheName", mc.getCacheName()));
+			data.put("stats", stats);
+			list.add(data);
+		});
+		return R.ok(list);
+	}
+
+	/**
+	 * 热点缓存键，按采样估算访问次数排序
+	 */
+	@Priv(type = AdminUserType.TYPE, value = SysMenuPriv.MonitorCacheList)
+	@GetMapping("/hotKeys")
+	public R<?> getHotKeys(@RequestParam(value = "limit", required = false, defaultValue = "20") Integer limit) {
+		return R.ok(this.redisCache.getMetrics().getHotKeys(Math.max(0, limit)));
+	}
+
+	@Priv(type = AdminUserType.TYPE, value = SysMenuPriv.MonitorCacheList)
+	@DeleteMapping("/metrics")
+	public R<?> resetCacheMetrics() {
+		this.redisCache.getMetrics().reset();
+		return R.ok();
+	}
+
 	@Priv(type = AdminUserType.TYPE, value = SysMenuPriv.MonitorCacheList)
 	@GetMapping("/getKeys/{cacheName}")
 	public R<?> getCacheKeys(@PathVariable String cacheName) {
@@ -97,6 +158,7 @@ public class CacheController {
 	public R<?> clearCacheName(@PathVariable String cacheName) {
 		Collection<String> cacheKeys = redisTemplate.keys(cacheName + "*");
 		redisTemplate.delete(cacheKeys);
+		nearCacheManager.invalidateByPrefix(cacheName);
 		return R.ok();
 	}
 
@@ -104,6 +166,7 @@ public class CacheController {
 	@DeleteMapping("/clearCacheKey/{cacheKey}")
 	public R<?> clearCacheKey(@PathVariable String cacheKey) {
 		redisTemplate.delete(cacheKey);
+		nearCacheManager.invalidateByPrefix(cacheKey);
 		return R.ok();
 	}
 
@@ -112,6 +175,7 @@ public class CacheController {
 	public R<?> clearCacheAll() {
 		Collection<String> cacheKeys = redisTemplate.keys("*");
 		redisTemplate.delete(cacheKeys);
+		nearCacheManager.invalidateByPrefix(null);
 		return R.ok();
 	}
 }
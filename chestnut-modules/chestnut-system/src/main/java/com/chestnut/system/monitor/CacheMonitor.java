@@ -1,11 +1,17 @@
 package com.chestnut.system.monitor;
 
+import java.util.Map;
+
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import com.chestnut.common.extend.ExtendConstants;
 import com.chestnut.common.i18n.I18nUtils;
 import com.chestnut.common.redis.IMonitoredCache;
+import com.chestnut.common.redis.RedisCache;
+import com.chestnut.common.redis.serializer.CacheValueSerializer;
+import com.chestnut.common.utils.IP2RegionUtils;
+import com.chestnut.common.utils.UserAgentUtils;
 import com.chestnut.system.SysConstants;
 
 @Configuration
@@ -138,4 +144,100 @@ public class CacheMonitor {
 			}
 		};
 	}
+
+	/**
+	 * Redis缓存值序列化统计，包含JSON与二进制格式的大小及耗时对比
+	 */
+	@Bean
+	public IMonitoredCache redisSerializerStats(CacheValueSerializer cacheValueSerializer) {
+		return new IMonitoredCache() {
+
+			@Override
+			public String getCacheName() {
+				return I18nUtils.get("{MONITORED.CACHE.REDIS_SERIALIZER}");
+			}
+
+			@Override
+			public String getCacheKey() {
+				return "redis_serializer:";
+			}
+
+			@Override
+			public Map<String, Object> getCacheStats() {
+				return cacheValueSerializer.getStats();
+			}
+		};
+	}
+
+	/**
+	 * 缓存加载统计，包含合并加载、租约等待及提前刷新次数
+	 */
+	@Bean
+	public IMonitoredCache redisLoadStats(RedisCache redisCache) {
+		return new IMonitoredCache() {
+
+			@Override
+			public String getCacheName() {
+				return I18nUtils.get("{MONITORED.CACHE.REDIS_LOAD}");
+			}
+
+			@Override
+			public String getCacheKey() {
+				return "redis_load:";
+			}
+
+			@Override
+			public Map<String, Object> getCacheStats() {
+				return redisCache.getLoadStats();
+			}
+		};
+	}
+
+	/**
+	 * UserAgent解析缓存统计
+	 */
+	@Bean
+	public IMonitoredCache userAgentParseStats() {
+		return new IMonitoredCache() {
+
+			@Override
+			public String getCacheName() {
+				return I18nUtils.get("{MONITORED.CACHE.USER_AGENT}");
+			}
+
+			@Override
+			public String getCacheKey() {
+				return "user_agent:";
+			}
+
+			@Override
+			public Map<String, Object> getCacheStats() {
+				return UserAgentUtils.getStats();
+			}
+		};
+	}
+
+	/**
+	 * IP所属地区查询缓存统计
+	 */
+	@Bean
+	public IMonitoredCache ip2RegionStats() {
+		return new IMonitoredCache() {
+
+			@Override
+			public String getCacheName() {
+				return I18nUtils.get("{MONITORED.CACHE.IP2REGION}");
+			}
+
+			@Override
+			public String getCacheKey() {
+				return "ip2region:";
+			}
+
+			@Override
+			public Map<String, Object> getCacheStats() {
+				return IP2RegionUtils.getStats();
+			}
+		};
+	}
 }
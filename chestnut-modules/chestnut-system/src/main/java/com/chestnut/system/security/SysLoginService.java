@@ -8,6 +8,7 @@ import com.chestnut.common.security.enums.DeviceType;
 import com.chestnut.common.utils.Assert;
 import com.chestnut.common.utils.IP2RegionUtils;
 import com.chestnut.common.utils.ServletUtils;
+import com.chestnut.common.utils.UserAgentUtils;
 import com.chestnut.common.utils.StringUtils;
 import com.chestnut.system.SysConstants;
 import com.chestnut.system.domain.SysUser;
@@ -111,7 +112,7 @@ public class SysLoginService {
 		loginUser.setLoginTime(Instant.now().toEpochMilli());
 		loginUser.setLoginLocation(IP2RegionUtils.ip2Region(user.getLoginIp()));
 		loginUser.setIpaddr(user.getLoginIp());
-		UserAgent ua = UserAgent.parseUserAgentString(ServletUtils.getUserAgent());
+		UserAgent ua = UserAgentUtils.parse(ServletUtils.getUserAgent());
 		loginUser.setOs(ua.getOperatingSystem().name());
 		loginUser.setBrowser(ua.getBrowser() + "/" + ua.getBrowserVersion());
 		loginUser.setUser(user);
@@ -57,6 +57,7 @@ public class SysI18nDictServiceImpl extends ServiceImpl<SysI18nDictMapper, SysI1
         dict.setDictId(IdUtils.getSnowflakeId());
         this.save(dict);
         redisCache.setCacheMapValue(CACHE_PREFIX + dict.getLangTag(), dict.getLangKey(), dict.getLangValue());
+        this.messageSource.refresh();
     }
 
     @Override
@@ -67,6 +68,7 @@ public class SysI18nDictServiceImpl extends ServiceImpl<SysI18nDictMapper, SysI1
 
         this.updateById(dict);
         redisCache.setCacheMapValue(CACHE_PREFIX + dict.getLangTag(), dict.getLangKey(), dict.getLangValue());
+        this.messageSource.refresh();
     }
 
     @Override
@@ -77,6 +79,7 @@ public class SysI18nDictServiceImpl extends ServiceImpl<SysI18nDictMapper, SysI1
         list.forEach(dict -> {
             redisCache.deleteCacheMapValue(CACHE_PREFIX + dict.getLangTag(), dict.getLangKey());
         });
+        this.messageSource.refresh();
     }
 
     private boolean checkUnique(SysI18nDict dict) {
@@ -112,6 +115,9 @@ public class SysI18nDictServiceImpl extends ServiceImpl<SysI18nDictMapper, SysI1
         list.forEach(dict -> {
             redisCache.setCacheMapValue(CACHE_PREFIX + dict.getLangTag(), dict.getLangKey(), dict.getLangValue());
         });
+        if (!list.isEmpty()) {
+            this.messageSource.refresh();
+        }
     }
 
     @Override
@@ -121,17 +127,15 @@ public class SysI18nDictServiceImpl extends ServiceImpl<SysI18nDictMapper, SysI1
         this.loadMessagesFromResources(messageSource);
         // 加载数据库数据，如果与配置文件重复则直接覆盖掉
         this.loadMessagesFromDB();
+        // 通知各节点重新加载本地消息表
+        messageSource.refresh();
         log.debug("Load i18n messages cost: {}ms", System.currentTimeMillis() - s);
     }
 
     private void loadMessagesFromDB() {
         Map<String, Map<String, String>> map = this.list().stream().collect(Collectors.groupingBy(
                 SysI18nDict::getLangTag, Collectors.toMap(SysI18nDict::getLangKey, SysI18nDict::getLangValue)));
-        map.entrySet().forEach(e -> {
-            e.getValue().entrySet().forEach(kv -> {
-                redisCache.setCacheMapValue(CACHE_PREFIX + e.getKey(), kv.getKey(), kv.getValue());
-            });
-        });
+        map.forEach((langTag, messages) -> redisCache.setCacheMap(CACHE_PREFIX + langTag, messages));
     }
 
     private void loadMessagesFromResources(I18nMessageSource messageSource) throws IOException {
@@ -151,13 +155,13 @@ public class SysI18nDictServiceImpl extends ServiceImpl<SysI18nDictMapper, SysI1
             String cacheKey = CACHE_PREFIX + langTag;
             try (InputStream is = resource.getInputStream()) {
                 List<String> lines = IOUtils.readLines(is, messageSource.getEncoding());
+                Map<String, String> messages = new HashMap<>();
                 lines.stream()
                         .filter(s -> StringUtils.isNotEmpty(s) && s.indexOf("=") > 0)
-                        .forEach(s -> {
-                            redisCache.setCacheMapValue(cacheKey,
-                                    StringUtils.substringBefore(s, "="),
-                                    StringUtils.substringAfter(s, "="));
-                        });
+                        .forEach(s -> messages.put(StringUtils.substringBefore(s, "="),
+                                StringUtils.substringAfter(s, "=")));
+                // 批量写入
+                redisCache.setCacheMap(cacheKey, messages);
             }
         }
     }
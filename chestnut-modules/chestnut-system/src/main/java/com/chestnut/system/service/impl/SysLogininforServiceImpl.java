@@ -11,6 +11,7 @@ import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
 import com.chestnut.common.utils.ConvertUtils;
 import com.chestnut.common.utils.IP2RegionUtils;
 import com.chestnut.common.utils.ServletUtils;
+import com.chestnut.common.utils.UserAgentUtils;
 import com.chestnut.common.utils.StringUtils;
 import com.chestnut.system.domain.SysLogininfor;
 import com.chestnut.system.mapper.SysLogininforMapper;
@@ -46,7 +47,7 @@ public class SysLogininforServiceImpl extends ServiceImpl<SysLogininforMapper, S
 	
 	@Override
 	public void recordLogininfor(String userType, Object userId, String username, String logType, String status, String message, Object... args) {
-		final UserAgent userAgent = UserAgent.parseUserAgentString(ServletUtils.getUserAgent());
+		final UserAgent userAgent = UserAgentUtils.parse(ServletUtils.getUserAgent());
 		final String ip = ServletUtils.getIpAddr(ServletUtils.getRequest());
 		asyncTaskManager.execute(() -> {
 			// 打印信息到日志